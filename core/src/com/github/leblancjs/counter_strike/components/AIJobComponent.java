@@ -0,0 +1,30 @@
+package com.github.leblancjs.counter_strike.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.github.leblancjs.counter_strike.model.MatchRandom;
+
+/**
+ * The state an AI controlled entity keeps while carrying out its job (the job itself lives in the actor store),
+ * along with its own stream of random numbers, since the entities think in parallel.
+ */
+public class AIJobComponent implements Component {
+
+    public Array<Vector2> route;
+    public int campingPoint = -1;
+    public float campingTimer;
+
+    /**
+     * Camping points to claim and to release, granted serially after the entities have thought
+     */
+    public int requestedPoint = -1;
+    public int releasedPoint = -1;
+
+    public MatchRandom random;
+
+    public AIJobComponent(MatchRandom random) {
+        this.random = random;
+    }
+
+}
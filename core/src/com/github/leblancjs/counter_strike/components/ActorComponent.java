@@ -0,0 +1,17 @@
+package com.github.leblancjs.counter_strike.components;
+
+import com.badlogic.ashley.core.Component;
+import com.github.leblancjs.counter_strike.model.Actor;
+
+/**
+ * Links an entity to the actor it simulates.
+ */
+public class ActorComponent implements Component {
+
+    public Actor actor;
+
+    public ActorComponent(Actor actor) {
+        this.actor = actor;
+    }
+
+}
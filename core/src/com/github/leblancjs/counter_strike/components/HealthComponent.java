@@ -0,0 +1,16 @@
+package com.github.leblancjs.counter_strike.components;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * Marks an entity as able to take damage and die. The health itself lives in the actor store.
+ */
+public class HealthComponent implements Component {
+
+    public float max;
+
+    public HealthComponent(float max) {
+        this.max = max;
+    }
+
+}
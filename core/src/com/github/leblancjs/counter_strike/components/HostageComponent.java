@@ -0,0 +1,9 @@
+package com.github.leblancjs.counter_strike.components;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * Marks an entity as a hostage waiting to be rescued.
+ */
+public class HostageComponent implements Component {
+}
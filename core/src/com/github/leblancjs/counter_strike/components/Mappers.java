@@ -0,0 +1,23 @@
+package com.github.leblancjs.counter_strike.components;
+
+import com.badlogic.ashley.core.ComponentMapper;
+
+/**
+ * Component mappers shared by the systems.
+ */
+public final class Mappers {
+
+    public static final ComponentMapper<ActorComponent> actor = ComponentMapper.getFor(ActorComponent.class);
+    public static final ComponentMapper<TransformComponent> transform = ComponentMapper.getFor(TransformComponent.class);
+    public static final ComponentMapper<VelocityComponent> velocity = ComponentMapper.getFor(VelocityComponent.class);
+    public static final ComponentMapper<HealthComponent> health = ComponentMapper.getFor(HealthComponent.class);
+    public static final ComponentMapper<WeaponComponent> weapon = ComponentMapper.getFor(WeaponComponent.class);
+    public static final ComponentMapper<AIJobComponent> aiJob = ComponentMapper.getFor(AIJobComponent.class);
+    public static final ComponentMapper<PathCursorComponent> pathCursor = ComponentMapper.getFor(PathCursorComponent.class);
+    public static final ComponentMapper<HostageComponent> hostage = ComponentMapper.getFor(HostageComponent.class);
+    public static final ComponentMapper<PlayerComponent> player = ComponentMapper.getFor(PlayerComponent.class);
+
+    private Mappers() {
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.github.leblancjs.counter_strike.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * Tracks an entity's progress along its path. Setting {@link #follow} asks the navigation system to move the
+ * entity one step towards the actor's target during the current update.
+ */
+public class PathCursorComponent implements Component {
+
+    public boolean follow;
+
+    public Vector2 lastPosition = new Vector2();
+    public Vector2 nextPosition;
+
+}
@@ -0,0 +1,9 @@
+package com.github.leblancjs.counter_strike.components;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * Marks an entity as controlled by a human player.
+ */
+public class PlayerComponent implements Component {
+}
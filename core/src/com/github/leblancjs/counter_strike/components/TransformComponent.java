@@ -0,0 +1,17 @@
+package com.github.leblancjs.counter_strike.components;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * Position and rotation of an entity. The values themselves live in the actor store, at the given slot, so that
+ * the systems can stream through contiguous arrays.
+ */
+public class TransformComponent implements Component {
+
+    public int id;
+
+    public TransformComponent(int id) {
+        this.id = id;
+    }
+
+}
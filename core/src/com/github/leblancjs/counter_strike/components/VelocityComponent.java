@@ -0,0 +1,18 @@
+package com.github.leblancjs.counter_strike.components;
+
+import com.badlogic.ashley.core.Component;
+
+/**
+ * Marks an entity as able to move. The velocity itself lives in the actor store, next to the transform.
+ */
+public class VelocityComponent implements Component {
+
+    public float max;
+    public float damp;
+
+    public VelocityComponent(float max, float damp) {
+        this.max = max;
+        this.damp = damp;
+    }
+
+}
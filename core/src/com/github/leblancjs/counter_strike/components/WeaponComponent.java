@@ -0,0 +1,22 @@
+package com.github.leblancjs.counter_strike.components;
+
+import com.badlogic.ashley.core.Component;
+import com.github.leblancjs.counter_strike.model.Weapon;
+
+/**
+ * The weapon carried by an entity along with the time elapsed since it last fired, the time spent reloading it and
+ * its current spread.
+ */
+public class WeaponComponent implements Component {
+
+    public Weapon weapon;
+    public float fireTimer;
+    public float reloadTimer;
+    public float spread;
+
+    public WeaponComponent(Weapon weapon) {
+        this.weapon = weapon;
+        this.spread = weapon.getTable().getSpreadBase(weapon.getType());
+    }
+
+}
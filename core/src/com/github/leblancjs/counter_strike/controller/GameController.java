@@ -1,17 +1,34 @@
 package com.github.leblancjs.counter_strike.controller;
 
-import com.badlogic.gdx.math.Intersector;
-import com.badlogic.gdx.math.Rectangle;
-import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.math.Vector3;
-import com.badlogic.gdx.math.collision.BoundingBox;
-import com.badlogic.gdx.utils.Array;
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.github.leblancjs.counter_strike.components.AIJobComponent;
+import com.github.leblancjs.counter_strike.components.ActorComponent;
+import com.github.leblancjs.counter_strike.components.HealthComponent;
+import com.github.leblancjs.counter_strike.components.HostageComponent;
+import com.github.leblancjs.counter_strike.components.PathCursorComponent;
+import com.github.leblancjs.counter_strike.components.PlayerComponent;
+import com.github.leblancjs.counter_strike.components.TransformComponent;
+import com.github.leblancjs.counter_strike.components.VelocityComponent;
+import com.github.leblancjs.counter_strike.components.WeaponComponent;
 import com.github.leblancjs.counter_strike.model.Actor;
 import com.github.leblancjs.counter_strike.model.Actor.ActorType;
-import com.github.leblancjs.counter_strike.model.Actor.Job;
-import com.github.leblancjs.counter_strike.model.Blood;
-import com.github.leblancjs.counter_strike.model.Bullet;
+import com.github.leblancjs.counter_strike.model.WeaponTable;
 import com.github.leblancjs.counter_strike.model.World;
+import com.github.leblancjs.counter_strike.systems.AISystem;
+import com.github.leblancjs.counter_strike.systems.BulletSystem;
+import com.github.leblancjs.counter_strike.systems.CollisionSystem;
+import com.github.leblancjs.counter_strike.systems.ExplosionSystem;
+import com.github.leblancjs.counter_strike.systems.HealthSystem;
+import com.github.leblancjs.counter_strike.systems.HearingSystem;
+import com.github.leblancjs.counter_strike.systems.HostageSystem;
+import com.github.leblancjs.counter_strike.systems.MapStreamingSystem;
+import com.github.leblancjs.counter_strike.systems.MovementSystem;
+import com.github.leblancjs.counter_strike.systems.NavigationSystem;
+import com.github.leblancjs.counter_strike.systems.PerceptionSystem;
+import com.github.leblancjs.counter_strike.systems.SnapshotSystem;
+import com.github.leblancjs.counter_strike.systems.TaskRunner;
+import com.github.leblancjs.counter_strike.systems.WeaponSystem;
 
 public class GameController {
 
@@ -22,12 +39,30 @@ public class GameController {
         PLAYING, LOST, WON
     }
 
+    /**
+     * Constants (the simulation advances by fixed ticks, whatever the frame rate)
+     */
+    public final static int TICK_RATE = 64;
+    public final static float TICK_DURATION = 1f / TICK_RATE;
+    public final static int MAX_TICKS_PER_FRAME = 8;
+
     private State state;
 
+    /**
+     * Time elapsed that the ticks have not simulated yet, and how far it is into the next tick
+     */
+    private float accumulator;
+    private float alpha;
+
     /**
      * Controllers
      */
-    private Array<ActorController> actorControllers;
+    private ActorController playerController;
+
+    /**
+     * Systems
+     */
+    private Engine engine;
 
     /**
      * World
@@ -37,269 +72,151 @@ public class GameController {
     /**
      * Constructor for the game controller.
      *
-     * @param world
+     * @param world  : the world
+     * @param runner : the task runner used by the sense, think and resolve phases
      */
-    public GameController(World world) {
+    public GameController(World world, TaskRunner runner) {
         this.world = world;
 
         state = State.PLAYING;
 
-        actorControllers = new Array<ActorController>();
+        playerController = new ActorController(this.world, world.getPlayer());
 
-        for (Actor actor : world.getActors()) {
-            actorControllers.add(new ActorController(this.world, actor));
-        }
-    }
+        engine = new Engine();
 
-    /**
-     * Updates the game and the actors.
-     *
-     * @param delta : the time elapsed since the last update
-     */
-    public void update(float delta) {
-        if (state != State.PLAYING) {
-            return;
-        }
+        PerceptionSystem perception = new PerceptionSystem(this.world, runner);
 
-        // Check the game state
-        if (world.getActorCount(ActorType.TERRORIST) < 1 || world.getRescueCount() == world.getActorCount(ActorType.HOSTAGE)) {
-            state = State.WON;
-        } else if (world.getActorCount(ActorType.COUNTER_TERRORIST) < 1 || world.getPlayer().getState().equals(Actor.State.DYING)) {
-            state = State.LOST;
-        }
-        // Check bullet collisions
-        checkBulletCollisions();
+        // Sense
+        engine.addSystem(new MapStreamingSystem(this.world));
+        engine.addSystem(perception);
 
-        // Update the actors
-        for (ActorController controller : actorControllers) {
-            controller.update(delta);
-        }
-    }
+        // Think
+        engine.addSystem(new AISystem(this.world, perception, runner));
+        engine.addSystem(new HostageSystem(this.world, runner));
+        engine.addSystem(new NavigationSystem(this.world, runner));
 
-    /**
-     * Frees the resources used by the controllers.
-     */
-    public void dispose() {
-        actorControllers.get(0).dispose();
-    }
+        // Act
+        engine.addSystem(new CollisionSystem(this.world));
+        engine.addSystem(new MovementSystem(this.world));
+        engine.addSystem(new WeaponSystem(this.world));
 
-    /**
-     * Checks the collisions of bullets with walls and actors.
-     */
-    private void checkBulletCollisions() {
-        for (Bullet bullet : world.getBullets()) {
-            Vector2 start = bullet.getStart();
-            Vector2 end = bullet.getEnd();
-
-            // Check collisions with walls
-            Array<Vector2> collisions = getWallCollisions(start, end, bullet);
-            Vector2 wallHit = getFirstCollision(collisions, start);
-
-            // Check collisions with actors
-            Array<Actor> victims = getActorCollisions(bullet);
-            Actor victim = getFirstVictim(victims, start);
-
-            // Check which collision came first
-            if (victim != null) {
-                Vector2 hit;
-
-                if (wallHit != null) {
-                    hit = getClosest(start, wallHit, victim.getPosition());
-                } else {
-                    hit = victim.getPosition();
-                }
-
-                if (getDistance(start, hit) < Bullet.RANGE) {
-                    if (hit.equals(victim.getPosition())) {
-                        world.getCollisions().add(new Rectangle(victim.getBounds()));
-
-                        // Set target
-                        if (victim.getType() != bullet.getShooter().getType() && victim.getType() != ActorType.HOSTAGE) {
-                            if (victim.getHead() == null) {
-                                if (victim.getJob() != Job.INVESTIGATE) {
-                                    victim.setPath(null);
-                                }
-
-                                victim.setJob(Job.INVESTIGATE);
-                                victim.setHead(bullet.getShooter());
-                                victim.setTarget(victim.getHead().getPosition());
-                            }
-                        }
-
-                        // Hit
-                        if (victim.getType() != bullet.getShooter().getType()) {
-                            victim.setHealth(victim.getHealth() - bullet.getShooter().getWeapon().getDamage());
-                        }
-
-                        world.getBlood().add(new Blood(victim.getPosition().cpy()));
-                    } else {
-                        world.getCollisions().add(new Rectangle(hit.x, hit.y, World.WALL_SIZE, World.WALL_SIZE));
-                    }
-                }
-            } else {
-                if (wallHit != null) {
-                    if (getDistance(start, wallHit) < Bullet.RANGE) {
-                        world.getCollisions().add(new Rectangle(wallHit.x, wallHit.y, World.WALL_SIZE, World.WALL_SIZE));
-                    }
-                }
-            }
-        }
+        // Resolve
+        BulletSystem bullets = new BulletSystem(this.world, perception, runner);
+
+        engine.addSystem(bullets);
+        engine.addSystem(new ExplosionSystem(this.world, bullets, runner));
+        engine.addSystem(new HealthSystem(this.world));
+        engine.addSystem(new HearingSystem(this.world, perception));
+        engine.addSystem(new SnapshotSystem(this.world));
 
-        world.getBullets().clear();
+        for (Actor actor : world.getActors()) {
+            engine.addEntity(createEntity(actor));
+        }
     }
 
     /**
-     * Returns a list of all the walls that the bullet potentially hit.
+     * Creates the entity simulating the given actor.
      *
-     * @param start  : the bullet's start point
-     * @param end    : the bullet's end point
-     * @param bullet : the bullet
-     * @return a list of walls potentially hit
+     * @param actor : the actor
+     * @return the entity
      */
-    private Array<Vector2> getWallCollisions(Vector2 start, Vector2 end, Bullet bullet) {
-        Array<Vector2> collisions = new Array<Vector2>();
+    private Entity createEntity(Actor actor) {
+        Entity entity = new Entity();
 
-        int startX, endX;
-        int startY, endY;
+        entity.add(new ActorComponent(actor));
+        entity.add(new TransformComponent(actor.getId()));
+        entity.add(new VelocityComponent(ActorController.VELOCITY_MAX, ActorController.DAMP));
+        entity.add(new HealthComponent(Actor.HEALTH_MAX));
 
-        if (start.x < end.x) {
-            startX = (int) start.x;
-            endX = (int) end.x;
-        } else {
-            startX = (int) end.x;
-            endX = (int) start.x;
+        if (actor.getWeapon().getType() != WeaponTable.NONE) {
+            entity.add(new WeaponComponent(actor.getWeapon()));
         }
 
-        if (start.y < end.y) {
-            startY = (int) start.y;
-            endY = (int) end.y;
+        if (actor.getPlayable()) {
+            entity.add(new PlayerComponent());
+        } else if (actor.getType() == ActorType.HOSTAGE) {
+            entity.add(new HostageComponent());
+            entity.add(new PathCursorComponent());
         } else {
-            startY = (int) end.y;
-            endY = (int) start.y;
+            entity.add(new AIJobComponent(world.getRandom().split()));
+            entity.add(new PathCursorComponent());
         }
 
-        for (Rectangle wall : world.getCollisionRectangles(startX, startY, endX, endY)) {
-            BoundingBox box = new BoundingBox(new Vector3(wall.x, wall.y, 0), new Vector3(wall.x + World.WALL_SIZE, wall.y + World.WALL_SIZE, 0));
-
-            if (Intersector.intersectRayBoundsFast(bullet.getTrajectory(), box)) {
-                collisions.add(new Vector2(wall.x, wall.y));
-            }
-        }
-
-        return collisions;
+        return entity;
     }
 
     /**
-     * Returns a list of all the actors that the bullet potentially hit.
+     * Advances the game by the time elapsed since the last frame, in as many fixed ticks as fit in it. The time
+     * left over is carried to the next frame, and gives how far the renderer is between the last two ticks. When
+     * the simulation falls behind, it only catches up on a few ticks per frame and drops the rest, rather than
+     * spending ever longer frames catching up.
      *
-     * @param bullet : the bullet
-     * @return a list of actors potentially hit
+     * @param delta : the time elapsed since the last frame
      */
-    private Array<Actor> getActorCollisions(Bullet bullet) {
-        Array<Actor> actors = new Array<Actor>();
-
-        for (Actor actor : world.getActors()) {
-            // Make sure it isn't the shooter
-            if (actor != bullet.getShooter()) {
-                Rectangle bounds = actor.getBounds();
-                BoundingBox box = new BoundingBox(new Vector3(bounds.x, bounds.y, 0), new Vector3(bounds.x + bounds.width, bounds.y + bounds.height, 0));
-
-                if (Intersector.intersectRayBoundsFast(bullet.getTrajectory(), box)) {
-                    actors.add(actor);
-                }
-            }
-        }
+    public void update(float delta) {
+        accumulator = Math.min(accumulator + delta, MAX_TICKS_PER_FRAME * TICK_DURATION);
 
-        return actors;
-    }
+        while (accumulator >= TICK_DURATION) {
+            step();
 
-    /**
-     * Returns which hit came first from a list of detected collisions.
-     *
-     * @param collisions : the collisions detected
-     * @param origin     : the origin of the bullet
-     * @return the collision that came first
-     */
-    private Vector2 getFirstCollision(Array<Vector2> collisions, Vector2 origin) {
-        Vector2 hit = null;
-
-        for (Vector2 collision : collisions) {
-            if (hit == null) {
-                hit = collision;
-            } else {
-                hit = getClosest(origin, hit, collision);
-            }
+            accumulator -= TICK_DURATION;
         }
 
-        return hit;
+        alpha = accumulator / TICK_DURATION;
     }
 
     /**
-     * Returns which victim was hit first from a list of victims.
-     *
-     * @param victims : the list of victims
-     * @param origin  : the origin of the bullet
-     * @return the victim that was hit first
+     * Advances the game by a single tick. The player's input is applied, then the systems run through the sense,
+     * think, act and resolve phases and the world publishes its snapshot.
      */
-    private Actor getFirstVictim(Array<Actor> victims, Vector2 origin) {
-        Actor victimHit = null;
-
-        for (Actor victim : victims) {
-            if (victimHit == null) {
-                victimHit = victim;
-            } else {
-                Vector2 hit = getClosest(origin, victimHit.getPosition(), victim.getPosition());
-
-                if (hit.x == victim.getPosition().x && hit.y == victim.getPosition().y) {
-                    victimHit = victim;
-                }
-            }
+    public void step() {
+        if (state != State.PLAYING) {
+            return;
         }
 
-        return victimHit;
-    }
-
-    /**
-     * Returns which of the two given points is closest to the origin.
-     *
-     * @param origin : the starting point
-     * @param p1     : the first point
-     * @param p2     : the second point
-     * @return the closest point
-     */
-    private Vector2 getClosest(Vector2 origin, Vector2 p1, Vector2 p2) {
-        float d1 = getDistance(origin, p1);
-        float d2 = getDistance(origin, p2);
+        world.getActorStore().savePositions();
 
-        if (d1 < d2) {
-            return p1;
-        } else {
-            return p2;
+        // Check the game state
+        if (world.getActorCount(ActorType.TERRORIST) < 1 || world.getRescueCount() == world.getActorCount(ActorType.HOSTAGE)) {
+            state = State.WON;
+        } else if (world.getActorCount(ActorType.COUNTER_TERRORIST) < 1 || world.getPlayer().getState().equals(Actor.State.DYING)) {
+            state = State.LOST;
         }
+        // Update the actors
+        playerController.update(TICK_DURATION);
+
+        engine.update(TICK_DURATION);
     }
 
     /**
-     * Returns the distance between the two given points.
-     *
-     * @param p1 : the first point
-     * @param p2 : the second point
-     * @return the distance between the points
+     * Frees the resources used by the controllers.
      */
-    private float getDistance(Vector2 p1, Vector2 p2) {
-        Vector2 delta = p1.cpy().sub(p2);
-
-        return (float) Math.sqrt(delta.x * delta.x + delta.y * delta.y);
+    public void dispose() {
+        SoundController.dispose();
     }
 
     /**
      * Getters and Setters
      */
     public ActorController getPlayerController() {
-        return actorControllers.get(0);
+        return playerController;
+    }
+
+    public Engine getEngine() {
+        return engine;
     }
 
     public State getState() {
         return state;
     }
 
+    /**
+     * Returns how far the game is between the last two ticks, for the renderer to blend them.
+     *
+     * @return the share of a tick, from 0 to 1
+     */
+    public float getAlpha() {
+        return alpha;
+    }
+
 }
@@ -0,0 +1,97 @@
+package com.github.leblancjs.counter_strike.controller;
+
+import java.util.ArrayList;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.github.leblancjs.counter_strike.model.MatchRandom;
+
+public class SoundController {
+
+    /**
+     * Sounds
+     */
+    private static ArrayList<Sound> hostageSounds = new ArrayList<Sound>();
+
+    static {
+        hostageSounds.add(Gdx.audio.newSound(Gdx.files.internal("sounds/actors/hostage/hos1.wav")));
+        hostageSounds.add(Gdx.audio.newSound(Gdx.files.internal("sounds/actors/hostage/hos2.wav")));
+        hostageSounds.add(Gdx.audio.newSound(Gdx.files.internal("sounds/actors/hostage/hos3.wav")));
+        hostageSounds.add(Gdx.audio.newSound(Gdx.files.internal("sounds/actors/hostage/hos4.wav")));
+        hostageSounds.add(Gdx.audio.newSound(Gdx.files.internal("sounds/actors/hostage/hos5.wav")));
+    }
+
+    private static ArrayList<Sound> dyingSounds = new ArrayList<Sound>();
+
+    static {
+        dyingSounds.add(Gdx.audio.newSound(Gdx.files.internal("sounds/actors/die1.wav")));
+        dyingSounds.add(Gdx.audio.newSound(Gdx.files.internal("sounds/actors/die2.wav")));
+        dyingSounds.add(Gdx.audio.newSound(Gdx.files.internal("sounds/actors/die3.wav")));
+    }
+
+    /**
+     * Weapon sounds by file, loaded the first time a weapon is fired
+     */
+    private static ObjectMap<String, Sound> fireSounds = new ObjectMap<String, Sound>();
+
+    /**
+     * Which sound plays does not change the match, so it does not draw from the match's random numbers
+     */
+    private static MatchRandom random = new MatchRandom(System.currentTimeMillis());
+
+    private SoundController() {
+    }
+
+    /**
+     * Plays a random hostage sound.
+     */
+    public static void playHostage() {
+        hostageSounds.get(random.nextInt(hostageSounds.size())).play();
+    }
+
+    /**
+     * Plays a random dying sound.
+     */
+    public static void playDying() {
+        dyingSounds.get(random.nextInt(dyingSounds.size())).play();
+    }
+
+    /**
+     * Plays the sound of a weapon firing.
+     *
+     * @param file : the weapon's sound file (see WeaponTable), null if it is silent
+     */
+    public static void playFire(String file) {
+        if (file == null) {
+            return;
+        }
+
+        Sound sound = fireSounds.get(file);
+
+        if (sound == null) {
+            sound = Gdx.audio.newSound(Gdx.files.internal(file));
+            fireSounds.put(file, sound);
+        }
+
+        sound.play();
+    }
+
+    /**
+     * Frees the sounds.
+     */
+    public static void dispose() {
+        for (Sound sound : hostageSounds) {
+            sound.dispose();
+        }
+
+        for (Sound sound : dyingSounds) {
+            sound.dispose();
+        }
+
+        for (Sound sound : fireSounds.values()) {
+            sound.dispose();
+        }
+    }
+
+}
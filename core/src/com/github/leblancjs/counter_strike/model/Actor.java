@@ -31,61 +31,75 @@ public class Actor {
     protected final static int BODY_T_COUNT = 4;
     protected final static int BODY_H_COUNT = 8;
 
+    private final static State[] STATES = State.values();
+    private final static Job[] JOBS = Job.values();
+    private final static ActorType[] TYPES = ActorType.values();
+
     /**
      * Local Variables
      */
+    protected ActorStore store;
+    protected int id;
+
     protected Actor head;
     protected Actor tail;
 
-    protected State state = State.IDLE;
-
-    protected Job job = Job.NONE;
-
     protected Vector2 target;
     protected Path path;
 
     protected float stateTime = 0;
 
-    protected Vector2 position = new Vector2();
     protected Vector2 acceleration = new Vector2();
-    protected Vector2 velocity = new Vector2();
-
-    protected Rectangle bounds = new Rectangle();
-
-    protected ActorType type;
 
-    protected float health = HEALTH_MAX;
+    /**
+     * Views of the actor's slot in the store, refreshed by their getters.
+     */
+    private Vector2 position = new Vector2();
+    private Vector2 velocity = new Vector2();
+    private Rectangle bounds = new Rectangle();
 
     protected int body = 0;
 
-    protected float rotation;
     protected float nextRotation;
 
     protected Weapon weapon;
 
+    /**
+     * Grenades carried: their weapon id in the weapon table and how many are left
+     */
+    protected int grenade = WeaponTable.NONE;
+    protected int grenades;
+
+    /**
+     * Distance at which the actor wants to throw a grenade, 0 if it does not
+     */
+    protected float throwDistance;
+
     protected boolean playable;
 
     /**
-     * Constructor class for the actor. This will create an actor at the given position and initialize
-     * its parameters.
+     * Constructor class for the actor. This will allocate a slot for the actor in the store at the given
+     * position and initialize its parameters.
      *
+     * @param store    : the store holding the actor's state
+     * @param type     : the type of the actor
      * @param position : the start position
+     * @param playable : whether the actor is controlled by a human player
      */
-    public Actor(Vector2 position, boolean playable) {
-        this.position = position;
+    public Actor(ActorStore store, ActorType type, Vector2 position, boolean playable) {
+        this.store = store;
         this.playable = playable;
 
+        id = store.add(type, position.x, position.y);
+
         head = null;
         tail = null;
 
-        rotation = 0f;
         nextRotation = 0f;
 
         // Set the bounds
         bounds.width = BOUNDS_SIZE;
         bounds.height = BOUNDS_SIZE;
-        bounds.x = this.position.x;
-        bounds.y = this.position.y;
     }
 
     /**
@@ -97,11 +111,48 @@ public class Actor {
         stateTime += delta;
     }
 
+    /**
+     * Adds a hostage to the end of the queue following the actor.
+     *
+     * @param hostage : the hostage to add
+     */
+    public void addToQueue(Actor hostage) {
+        Actor last = this;
+
+        while (last.getTail() != null) {
+            last = last.getTail();
+        }
+
+        last.setTail(hostage);
+        hostage.setHead(last);
+    }
+
+    /**
+     * Removes the actor from the queue it is part of, linking its head and tail together.
+     */
+    public void removeFromQueue() {
+        if (tail != null) {
+            tail.setHead(head);
+        }
+
+        if (head != null) {
+            head.setTail(tail);
+        }
+    }
+
     /**
      * Getters and Setters
      */
+    public int getId() {
+        return id;
+    }
+
+    public ActorStore getStore() {
+        return store;
+    }
+
     public State getState() {
-        return state;
+        return STATES[store.state[id]];
     }
 
     public Actor getHead() {
@@ -121,7 +172,7 @@ public class Actor {
     }
 
     public void setState(State state) {
-        this.state = state;
+        store.state[id] = state.ordinal();
     }
 
     public float getStateTime() {
@@ -132,15 +183,21 @@ public class Actor {
         this.stateTime = stateTime;
     }
 
+    /**
+     * Returns a view of the actor's position. Changes to the returned vector are not written back; use
+     * {@link #setPosition(float, float)} instead.
+     */
     public Vector2 getPosition() {
-        return position;
+        return position.set(store.x[id], store.y[id]);
     }
 
     public void setPosition(Vector2 position) {
-        this.position = position;
+        setPosition(position.x, position.y);
+    }
 
-        bounds.x = this.position.x;
-        bounds.y = this.position.y;
+    public void setPosition(float x, float y) {
+        store.x[id] = x;
+        store.y[id] = y;
     }
 
     public Vector2 getAcceleration() {
@@ -151,24 +208,29 @@ public class Actor {
         this.acceleration = acceleration;
     }
 
+    /**
+     * Returns a view of the actor's velocity. Changes to the returned vector are not written back; use
+     * {@link #setVelocity(float, float)} instead.
+     */
     public Vector2 getVelocity() {
-        return velocity;
+        return velocity.set(store.vx[id], store.vy[id]);
     }
 
     public void setVelocity(Vector2 velocity) {
-        this.velocity = velocity;
+        setVelocity(velocity.x, velocity.y);
     }
 
-    public Rectangle getBounds() {
-        return bounds;
+    public void setVelocity(float vx, float vy) {
+        store.vx[id] = vx;
+        store.vy[id] = vy;
     }
 
-    public void setBounds(Rectangle bounds) {
-        this.bounds = bounds;
+    public Rectangle getBounds() {
+        return bounds.setPosition(store.x[id], store.y[id]);
     }
 
     public ActorType getType() {
-        return type;
+        return TYPES[store.type[id]];
     }
 
     public int getBody() {
@@ -183,6 +245,26 @@ public class Actor {
         this.weapon = weapon;
     }
 
+    public int getGrenade() {
+        return grenade;
+    }
+
+    public int getGrenades() {
+        return grenades;
+    }
+
+    public void setGrenades(int grenades) {
+        this.grenades = grenades;
+    }
+
+    public float getThrowDistance() {
+        return throwDistance;
+    }
+
+    public void setThrowDistance(float throwDistance) {
+        this.throwDistance = throwDistance;
+    }
+
     public boolean getPlayable() {
         return playable;
     }
@@ -192,11 +274,11 @@ public class Actor {
     }
 
     public float getRotation() {
-        return this.rotation;
+        return store.rotation[id];
     }
 
     public void setRotation(float rotation) {
-        this.rotation = rotation;
+        store.rotation[id] = rotation;
     }
 
     public float getNextRotation() {
@@ -208,19 +290,19 @@ public class Actor {
     }
 
     public float getHealth() {
-        return health;
+        return store.health[id];
     }
 
     public void setHealth(float health) {
-        this.health = health;
+        store.health[id] = health;
     }
 
     public Job getJob() {
-        return job;
+        return JOBS[store.job[id]];
     }
 
     public void setJob(Job job) {
-        this.job = job;
+        store.job[id] = job.ordinal();
     }
 
     public Vector2 getTarget() {
@@ -0,0 +1,193 @@
+package com.github.leblancjs.counter_strike.model;
+
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Spatial index of the living actors, bucketing their slots by square blocks of cells. It is rebuilt from the
+ * actor store whenever the world publishes a snapshot, so that it matches the snapshot read during the next tick.
+ * <p>
+ * The slots are kept sorted by bucket in a single array, which is only reallocated when the map or the number of
+ * actors outgrows it.
+ */
+public class ActorIndex {
+
+    /**
+     * Constants
+     */
+    public final static int BUCKET_SIZE = 4;
+
+    private int bucketsX;
+    private int bucketsY;
+
+    /**
+     * The slots of bucket b are those from bucketStarts[b] to bucketStarts[b + 1]
+     */
+    private int[] bucketStarts;
+    private int[] slots;
+    private int[] buckets;
+
+    /**
+     * Constructor for the index of the actors of a map.
+     *
+     * @param width  : the width of the map, in cells
+     * @param height : the height of the map, in cells
+     */
+    public ActorIndex(int width, int height) {
+        bucketsX = Math.max(1, (width + BUCKET_SIZE - 1) / BUCKET_SIZE);
+        bucketsY = Math.max(1, (height + BUCKET_SIZE - 1) / BUCKET_SIZE);
+
+        bucketStarts = new int[bucketsX * bucketsY + 1];
+        slots = new int[0];
+        buckets = new int[0];
+    }
+
+    /**
+     * Rebuilds the index from the positions of the living actors of the store.
+     *
+     * @param store : the actor store
+     */
+    public void rebuild(ActorStore store) {
+        int size = store.getSize();
+
+        ensureCapacity(size);
+
+        for (int id = 0; id < size; id++) {
+            buckets[id] = store.isAlive(id) ? getBucket(store.x[id] + Actor.SIZE / 2, store.y[id] + Actor.SIZE / 2) : -1;
+        }
+
+        sort(size);
+    }
+
+    /**
+     * Rebuilds the index from the positions the living actors had during a past tick.
+     *
+     * @param history : the history of the actors' bounds
+     * @param tick    : the tick, which must be in the history
+     */
+    public void rebuild(BoundsHistory history, long tick) {
+        int size = history.getCapacity();
+        int offset = history.getOffset(tick);
+
+        float[] x = history.getX();
+        float[] y = history.getY();
+        boolean[] alive = history.getAlive();
+
+        ensureCapacity(size);
+
+        for (int id = 0; id < size; id++) {
+            buckets[id] = alive[offset + id] ? getBucket(x[offset + id] + Actor.SIZE / 2, y[offset + id] + Actor.SIZE / 2) : -1;
+        }
+
+        sort(size);
+    }
+
+    private void ensureCapacity(int size) {
+        if (slots.length < size) {
+            slots = new int[size * 2];
+            buckets = new int[size * 2];
+        }
+    }
+
+    /**
+     * Counting sort of the slots by bucket, the slots without a bucket being left out.
+     *
+     * @param size : the number of slots
+     */
+    private void sort(int size) {
+        for (int b = 0; b < bucketStarts.length; b++) {
+            bucketStarts[b] = 0;
+        }
+
+        for (int id = 0; id < size; id++) {
+            if (buckets[id] >= 0) {
+                bucketStarts[buckets[id] + 1]++;
+            }
+        }
+
+        for (int b = 0; b < bucketsX * bucketsY; b++) {
+            bucketStarts[b + 1] += bucketStarts[b];
+        }
+
+        for (int id = 0; id < size; id++) {
+            if (buckets[id] >= 0) {
+                // The starts are shifted forward while filling, then shifted back
+                slots[bucketStarts[buckets[id]]++] = id;
+            }
+        }
+
+        for (int b = bucketsX * bucketsY; b > 0; b--) {
+            bucketStarts[b] = bucketStarts[b - 1];
+        }
+
+        bucketStarts[0] = 0;
+    }
+
+    private int getBucket(float x, float y) {
+        int bx = Math.max(0, Math.min(bucketsX - 1, (int) x / BUCKET_SIZE));
+        int by = Math.max(0, Math.min(bucketsY - 1, (int) y / BUCKET_SIZE));
+
+        return by * bucketsX + bx;
+    }
+
+    /**
+     * Adds the slots of the actors whose bucket overlaps the square of the given radius around a point. The caller
+     * checks the exact distance.
+     *
+     * @param x      : the X coordinate of the point
+     * @param y      : the Y coordinate of the point
+     * @param radius : the radius, in cells
+     * @param out    : the array the slots are added to
+     */
+    public void query(float x, float y, float radius, IntArray out) {
+        int minX = Math.max(0, (int) Math.floor((x - radius) / BUCKET_SIZE));
+        int maxX = Math.min(bucketsX - 1, (int) Math.floor((x + radius) / BUCKET_SIZE));
+        int minY = Math.max(0, (int) Math.floor((y - radius) / BUCKET_SIZE));
+        int maxY = Math.min(bucketsY - 1, (int) Math.floor((y + radius) / BUCKET_SIZE));
+
+        for (int by = minY; by <= maxY; by++) {
+            for (int bx = minX; bx <= maxX; bx++) {
+                int bucket = by * bucketsX + bx;
+
+                for (int i = bucketStarts[bucket]; i < bucketStarts[bucket + 1]; i++) {
+                    out.add(slots[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Getters and Setters
+     */
+    public int getBucketsX() {
+        return bucketsX;
+    }
+
+    public int getBucketsY() {
+        return bucketsY;
+    }
+
+    /**
+     * Returns where the slots of a bucket start in the sorted slots.
+     *
+     * @param bucket : the bucket, by * bucketsX + bx
+     * @return the index of the bucket's first slot
+     */
+    public int getBucketStart(int bucket) {
+        return bucketStarts[bucket];
+    }
+
+    /**
+     * Returns where the slots of a bucket end in the sorted slots.
+     *
+     * @param bucket : the bucket, by * bucketsX + bx
+     * @return the index after the bucket's last slot
+     */
+    public int getBucketEnd(int bucket) {
+        return bucketStarts[bucket + 1];
+    }
+
+    public int getSlot(int index) {
+        return slots[index];
+    }
+
+}
@@ -0,0 +1,182 @@
+package com.github.leblancjs.counter_strike.model;
+
+import com.github.leblancjs.counter_strike.model.Actor.ActorType;
+import com.github.leblancjs.counter_strike.model.Actor.Job;
+import com.github.leblancjs.counter_strike.model.Actor.State;
+
+/**
+ * Structure-of-arrays storage for the actors' hot state. Each actor owns a slot (its id) in the arrays, and the
+ * {@link Actor} instances are thin handles that read and write through to the slot. Movement, collision and
+ * rendering loops can stream through the arrays directly instead of chasing one object graph per actor.
+ * <p>
+ * Slots are never recycled during a match: dead actors keep their slot so that they can still be rendered,
+ * and are simply skipped by the loops (their state is {@link State#DYING}).
+ */
+public class ActorStore {
+
+    private final static int INITIAL_CAPACITY = 16;
+
+    /**
+     * Hot State
+     */
+    public float[] x;
+    public float[] y;
+    public float[] vx;
+    public float[] vy;
+    public float[] rotation;
+    public float[] health;
+
+    /**
+     * Positions at the start of the current tick, which the renderer blends with the current ones between ticks
+     */
+    public float[] previousX;
+    public float[] previousY;
+
+    public int[] type;
+    public int[] state;
+    public int[] job;
+
+    private int size;
+
+    /**
+     * Constructor for an empty actor store.
+     */
+    public ActorStore() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructor for an actor store able to hold the given number of actors before growing.
+     *
+     * @param capacity : the initial number of slots
+     */
+    public ActorStore(int capacity) {
+        capacity = Math.max(1, capacity);
+
+        x = new float[capacity];
+        y = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        rotation = new float[capacity];
+        health = new float[capacity];
+        previousX = new float[capacity];
+        previousY = new float[capacity];
+
+        type = new int[capacity];
+        state = new int[capacity];
+        job = new int[capacity];
+    }
+
+    /**
+     * Allocates a slot for a new actor and initializes it.
+     *
+     * @param actorType : the type of the actor
+     * @param px        : the X position of the actor
+     * @param py        : the Y position of the actor
+     * @return the id of the slot
+     */
+    public int add(ActorType actorType, float px, float py) {
+        if (size == x.length) {
+            resize(size * 2);
+        }
+
+        int id = size++;
+
+        x[id] = px;
+        y[id] = py;
+        vx[id] = 0f;
+        vy[id] = 0f;
+        rotation[id] = 0f;
+        health[id] = Actor.HEALTH_MAX;
+        previousX[id] = px;
+        previousY[id] = py;
+
+        type[id] = actorType.ordinal();
+        state[id] = State.IDLE.ordinal();
+        job[id] = Job.NONE.ordinal();
+
+        return id;
+    }
+
+    /**
+     * Returns whether the actor in the given slot is still part of the simulation.
+     *
+     * @param id : the slot
+     * @return TRUE if the actor is alive, FALSE otherwise
+     */
+    public boolean isAlive(int id) {
+        return state[id] != State.DYING.ordinal();
+    }
+
+    /**
+     * Remembers where the actors are at the start of a tick.
+     */
+    public void savePositions() {
+        System.arraycopy(x, 0, previousX, 0, size);
+        System.arraycopy(y, 0, previousY, 0, size);
+    }
+
+    /**
+     * Returns the X position of an actor between the start and the end of the last tick.
+     *
+     * @param id    : the slot
+     * @param alpha : how far between the two, from 0 (start) to 1 (end)
+     * @return the X position
+     */
+    public float getInterpolatedX(int id, float alpha) {
+        return previousX[id] + (x[id] - previousX[id]) * alpha;
+    }
+
+    /**
+     * Returns the Y position of an actor between the start and the end of the last tick.
+     *
+     * @param id    : the slot
+     * @param alpha : how far between the two, from 0 (start) to 1 (end)
+     * @return the Y position
+     */
+    public float getInterpolatedY(int id, float alpha) {
+        return previousY[id] + (y[id] - previousY[id]) * alpha;
+    }
+
+    /**
+     * Grows the arrays to the given capacity.
+     *
+     * @param capacity : the new capacity
+     */
+    private void resize(int capacity) {
+        x = copy(x, capacity);
+        y = copy(y, capacity);
+        vx = copy(vx, capacity);
+        vy = copy(vy, capacity);
+        rotation = copy(rotation, capacity);
+        health = copy(health, capacity);
+        previousX = copy(previousX, capacity);
+        previousY = copy(previousY, capacity);
+
+        type = copy(type, capacity);
+        state = copy(state, capacity);
+        job = copy(job, capacity);
+    }
+
+    private float[] copy(float[] array, int capacity) {
+        float[] copy = new float[capacity];
+        System.arraycopy(array, 0, copy, 0, size);
+
+        return copy;
+    }
+
+    private int[] copy(int[] array, int capacity) {
+        int[] copy = new int[capacity];
+        System.arraycopy(array, 0, copy, 0, size);
+
+        return copy;
+    }
+
+    /**
+     * Getters and Setters
+     */
+    public int getSize() {
+        return size;
+    }
+
+}
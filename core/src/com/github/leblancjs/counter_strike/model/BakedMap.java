@@ -0,0 +1,444 @@
+package com.github.leblancjs.counter_strike.model;
+
+import java.nio.ByteBuffer;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongMap;
+
+/**
+ * Data derived from a map offline by the bake pipeline, so that a match does not compute it when it starts. The
+ * small sections are parsed when the data is opened; the per-cell fields and visibility sets are read in place
+ * from the buffer.
+ * <p>
+ * The format is big-endian, rows go from the bottom of the map up and cells are indexed y * width + x:
+ * <pre>
+ * int magic, int version, int width, int height, int clusterSize
+ * int walkability word per 32 cells of a row
+ * int boxCount, { int x, int y, int width, int height } per merged wall box
+ * int clustersX, int clustersY
+ * int nodeCount, { int x, int y } per entrance node, grouped by cluster
+ * int first node per cluster, plus the node count
+ * int first edge per node, plus the edge count, then { int target, float cost } per edge
+ * int visible cluster word per 32 clusters, per cluster
+ * byte distance to the closest wall per cell (capped at 255)
+ * int distance to the rescue zone per cell (-1 if it cannot be reached)
+ * int routeCount, { int waypointCount, { int x, int y } per waypoint,
+ *                   { int cellCount, { int x, int y } per cell } per leg } per route
+ * int pointCount, { int kind, int x, int y, float angle, float exposure } per tactical point
+ * </pre>
+ */
+public class BakedMap {
+
+    /**
+     * Format
+     */
+    public final static int MAGIC = 0x4353424B; // "CSBK"
+    public final static int VERSION = 2;
+
+    public final static String EXTENSION = ".bake";
+
+    /**
+     * Tactical Point Kinds
+     */
+    public final static int POINT_COVER = 0;
+    public final static int POINT_CHOKE = 1;
+    public final static int POINT_CAMP = 2;
+
+    private ByteBuffer buffer;
+
+    private int width;
+    private int height;
+    private int clusterSize;
+
+    private int walkableOffset;
+    private int wordsPerRow;
+
+    private Array<Rectangle> wallBoxes;
+
+    /**
+     * Clusters
+     */
+    private int clustersX;
+    private int clustersY;
+
+    private int[] nodeX;
+    private int[] nodeY;
+    private int[] clusterNodes;
+    private int[] nodeEdges;
+    private int[] edgeTargets;
+    private float[] edgeCosts;
+
+    /**
+     * Fields
+     */
+    private int visibilityOffset;
+    private int wordsPerCluster;
+    private int wallDistanceOffset;
+    private int rescueDistanceOffset;
+
+    /**
+     * Routes
+     */
+    private Array<Array<Vector2>> routes;
+    private LongMap<int[]> legs;
+
+    /**
+     * Tactical Points
+     */
+    private int[] pointKinds;
+    private int[] pointX;
+    private int[] pointY;
+    private float[] pointAngles;
+    private float[] pointExposures;
+
+    /**
+     * Opens the baked data held by the buffer.
+     *
+     * @param buffer : the buffer, positioned at the start of the data
+     */
+    public BakedMap(ByteBuffer buffer) {
+        this.buffer = buffer;
+
+        if (buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a baked map.");
+        }
+
+        int version = buffer.getInt();
+
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported baked map version: " + version);
+        }
+
+        width = buffer.getInt();
+        height = buffer.getInt();
+        clusterSize = buffer.getInt();
+
+        // Walkability (read in place)
+        wordsPerRow = (width + 31) / 32;
+        walkableOffset = buffer.position();
+
+        buffer.position(walkableOffset + wordsPerRow * height * 4);
+
+        // Wall Boxes
+        int boxCount = buffer.getInt();
+
+        wallBoxes = new Array<Rectangle>(boxCount);
+
+        for (int i = 0; i < boxCount; i++) {
+            wallBoxes.add(new Rectangle(buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getInt()));
+        }
+
+        // Clusters
+        clustersX = buffer.getInt();
+        clustersY = buffer.getInt();
+
+        int nodeCount = buffer.getInt();
+
+        nodeX = new int[nodeCount];
+        nodeY = new int[nodeCount];
+
+        for (int i = 0; i < nodeCount; i++) {
+            nodeX[i] = buffer.getInt();
+            nodeY[i] = buffer.getInt();
+        }
+
+        clusterNodes = readInts(buffer, clustersX * clustersY + 1);
+        nodeEdges = readInts(buffer, nodeCount + 1);
+
+        int edgeCount = nodeEdges[nodeCount];
+
+        edgeTargets = new int[edgeCount];
+        edgeCosts = new float[edgeCount];
+
+        for (int i = 0; i < edgeCount; i++) {
+            edgeTargets[i] = buffer.getInt();
+            edgeCosts[i] = buffer.getFloat();
+        }
+
+        // Visibility Sets (read in place)
+        wordsPerCluster = (clustersX * clustersY + 31) / 32;
+        visibilityOffset = buffer.position();
+
+        buffer.position(visibilityOffset + clustersX * clustersY * wordsPerCluster * 4);
+
+        // Distance Fields (read in place)
+        wallDistanceOffset = buffer.position();
+        rescueDistanceOffset = wallDistanceOffset + width * height;
+
+        buffer.position(rescueDistanceOffset + width * height * 4);
+
+        // Routes
+        int routeCount = buffer.getInt();
+
+        routes = new Array<Array<Vector2>>(routeCount);
+        legs = new LongMap<int[]>();
+
+        for (int i = 0; i < routeCount; i++) {
+            int waypointCount = buffer.getInt();
+
+            Array<Vector2> route = new Array<Vector2>(waypointCount);
+
+            for (int j = 0; j < waypointCount; j++) {
+                route.add(new Vector2(buffer.getInt(), buffer.getInt()));
+            }
+
+            for (int j = 0; j < waypointCount - 1; j++) {
+                int[] cells = readInts(buffer, buffer.getInt() * 2);
+
+                legs.put(getLegKey((int) route.get(j).x, (int) route.get(j).y, (int) route.get(j + 1).x, (int) route.get(j + 1).y), cells);
+            }
+
+            routes.add(route);
+        }
+
+        // Tactical Points
+        int pointCount = buffer.getInt();
+
+        pointKinds = new int[pointCount];
+        pointX = new int[pointCount];
+        pointY = new int[pointCount];
+        pointAngles = new float[pointCount];
+        pointExposures = new float[pointCount];
+
+        for (int i = 0; i < pointCount; i++) {
+            pointKinds[i] = buffer.getInt();
+            pointX[i] = buffer.getInt();
+            pointY[i] = buffer.getInt();
+            pointAngles[i] = buffer.getFloat();
+            pointExposures[i] = buffer.getFloat();
+        }
+    }
+
+    private static int[] readInts(ByteBuffer buffer, int count) {
+        int[] values = new int[count];
+
+        for (int i = 0; i < count; i++) {
+            values[i] = buffer.getInt();
+        }
+
+        return values;
+    }
+
+    private long getLegKey(int startX, int startY, int endX, int endY) {
+        return (long) (startY * width + startX) * (width * height) + (endY * width + endX);
+    }
+
+    /**
+     * Returns whether the given cell can be walked on.
+     *
+     * @param x : the X position of the cell
+     * @param y : the Y position of the cell
+     * @return TRUE if the cell is within the map and is not a wall, FALSE otherwise
+     */
+    public boolean isWalkable(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return false;
+        }
+
+        return (buffer.getInt(walkableOffset + (y * wordsPerRow + (x >> 5)) * 4) & (1 << (x & 31))) != 0;
+    }
+
+    /* Clusters */
+
+    /**
+     * Returns the cluster containing the given cell.
+     *
+     * @param x : the X position of the cell
+     * @param y : the Y position of the cell
+     * @return the index of the cluster
+     */
+    public int getCluster(int x, int y) {
+        int cx = Math.min(Math.max(x / clusterSize, 0), clustersX - 1);
+        int cy = Math.min(Math.max(y / clusterSize, 0), clustersY - 1);
+
+        return cy * clustersX + cx;
+    }
+
+    /**
+     * Returns whether anything in the second cluster can potentially be seen from the first one.
+     *
+     * @param from : the cluster looking
+     * @param to   : the cluster looked at
+     * @return FALSE if nothing in the second cluster can be seen from the first, TRUE otherwise
+     */
+    public boolean isPotentiallyVisible(int from, int to) {
+        int word = buffer.getInt(visibilityOffset + (from * wordsPerCluster + (to >> 5)) * 4);
+
+        return (word & (1 << (to & 31))) != 0;
+    }
+
+    public int getClusterMinX(int cluster) {
+        return (cluster % clustersX) * clusterSize;
+    }
+
+    public int getClusterMinY(int cluster) {
+        return (cluster / clustersX) * clusterSize;
+    }
+
+    public int getClusterMaxX(int cluster) {
+        return Math.min(getClusterMinX(cluster) + clusterSize, width) - 1;
+    }
+
+    public int getClusterMaxY(int cluster) {
+        return Math.min(getClusterMinY(cluster) + clusterSize, height) - 1;
+    }
+
+    public int getNodeCount() {
+        return nodeX.length;
+    }
+
+    public int getNodeX(int node) {
+        return nodeX[node];
+    }
+
+    public int getNodeY(int node) {
+        return nodeY[node];
+    }
+
+    /**
+     * Returns the first entrance node of the cluster. The nodes of a cluster go up to the first of the next one.
+     */
+    public int getFirstNode(int cluster) {
+        return clusterNodes[cluster];
+    }
+
+    public int getLastNode(int cluster) {
+        return clusterNodes[cluster + 1];
+    }
+
+    /**
+     * Returns the first edge of the node. The edges of a node go up to the first of the next one.
+     */
+    public int getFirstEdge(int node) {
+        return nodeEdges[node];
+    }
+
+    public int getLastEdge(int node) {
+        return nodeEdges[node + 1];
+    }
+
+    public int getEdgeTarget(int edge) {
+        return edgeTargets[edge];
+    }
+
+    public float getEdgeCost(int edge) {
+        return edgeCosts[edge];
+    }
+
+    /* Fields */
+
+    /**
+     * Returns the distance from the cell to the closest wall, in steps.
+     *
+     * @param x : the X position of the cell
+     * @param y : the Y position of the cell
+     * @return the distance, 0 for a wall
+     */
+    public int getWallDistance(int x, int y) {
+        return buffer.get(wallDistanceOffset + y * width + x) & 0xFF;
+    }
+
+    /**
+     * Returns the walking distance from the cell to the rescue zone, in steps.
+     *
+     * @param x : the X position of the cell
+     * @param y : the Y position of the cell
+     * @return the distance, -1 if the rescue zone cannot be reached
+     */
+    public int getRescueDistance(int x, int y) {
+        return buffer.getInt(rescueDistanceOffset + (y * width + x) * 4);
+    }
+
+    /* Routes */
+
+    public Array<Array<Vector2>> getRoutes() {
+        return routes;
+    }
+
+    /**
+     * Returns a new path following the baked leg between two consecutive waypoints of a route.
+     *
+     * @param startX : the X position of the start cell
+     * @param startY : the Y position of the start cell
+     * @param endX   : the X position of the end cell
+     * @param endY   : the Y position of the end cell
+     * @return the path, or null if no route has that leg
+     */
+    public Path getLeg(int startX, int startY, int endX, int endY) {
+        if (startX < 0 || startX >= width || startY < 0 || startY >= height ||
+                endX < 0 || endX >= width || endY < 0 || endY >= height) {
+            return null;
+        }
+
+        int[] cells = legs.get(getLegKey(startX, startY, endX, endY));
+
+        if (cells == null) {
+            return null;
+        }
+
+        // The next node of a path is its last one
+        Array<PathNode> nodes = new Array<PathNode>(cells.length / 2);
+
+        for (int i = cells.length - 2; i >= 0; i -= 2) {
+            nodes.add(new PathNode(new Vector2(cells[i], cells[i + 1]), null, 0f, 0f));
+        }
+
+        return new Path(nodes);
+    }
+
+    /* Tactical Points */
+
+    public int getPointCount() {
+        return pointKinds.length;
+    }
+
+    public int getPointKind(int point) {
+        return pointKinds[point];
+    }
+
+    public int getPointX(int point) {
+        return pointX[point];
+    }
+
+    public int getPointY(int point) {
+        return pointY[point];
+    }
+
+    public float getPointAngle(int point) {
+        return pointAngles[point];
+    }
+
+    public float getPointExposure(int point) {
+        return pointExposures[point];
+    }
+
+    /**
+     * Getters and Setters
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getClusterSize() {
+        return clusterSize;
+    }
+
+    public int getClustersX() {
+        return clustersX;
+    }
+
+    public int getClustersY() {
+        return clustersY;
+    }
+
+    public Array<Rectangle> getWallBoxes() {
+        return wallBoxes;
+    }
+
+}
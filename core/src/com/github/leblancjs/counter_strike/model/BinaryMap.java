@@ -0,0 +1,239 @@
+package com.github.leblancjs.counter_strike.model;
+
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Map precompiled into a flat binary asset, read in place from a buffer. Only the header is parsed when the map is
+ * opened; the tile layers, occupancy bitset and navigation graph are read straight from the buffer, so a map that
+ * is memory mapped is only paged in by the operating system as its regions are used.
+ * <p>
+ * The format is big-endian. Strings are an int length followed by UTF-8 bytes, and rows go from the bottom of the
+ * map up, as in LibGDX:
+ * <pre>
+ * int magic, int version
+ * int width, int height, int tileWidth, int tileHeight
+ * string atlas (relative to the map's directory)
+ * int tilesetCount, { string name, int firstGid } per tileset
+ * int layerCount, { string name, int gid per cell } per layer
+ * int occupancy word per 32 cells of a row
+ * byte navigation mask per cell (one bit per walkable neighbour, see the NAV constants)
+ * int zoneCount, { int kind, float x, float y, float width, float height } per zone
+ * </pre>
+ */
+public class BinaryMap implements MapSource {
+
+    /**
+     * Format
+     */
+    public final static int MAGIC = 0x43534D50; // "CSMP"
+    public final static int VERSION = 1;
+
+    public final static String EXTENSION = ".map";
+
+    /**
+     * Navigation Mask Bits
+     */
+    public final static int NAV_RIGHT = 1;
+    public final static int NAV_LEFT = 1 << 1;
+    public final static int NAV_UP = 1 << 2;
+    public final static int NAV_DOWN = 1 << 3;
+
+    private ByteBuffer buffer;
+
+    private int width;
+    private int height;
+    private int tileWidth;
+    private int tileHeight;
+
+    private String atlas;
+
+    private Array<String> tilesetNames;
+    private int[] tilesetFirstGids;
+
+    private Array<String> layerNames;
+    private int[] layerOffsets;
+
+    private int occupancyOffset;
+    private int wordsPerRow;
+
+    private int navigationOffset;
+
+    private Array<Array<Rectangle>> zones;
+
+    /**
+     * Opens the map held by the buffer, parsing only its header.
+     *
+     * @param buffer : the buffer, positioned at the start of the map
+     */
+    public BinaryMap(ByteBuffer buffer) {
+        this.buffer = buffer;
+
+        if (buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a compiled map.");
+        }
+
+        int version = buffer.getInt();
+
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported compiled map version: " + version);
+        }
+
+        width = buffer.getInt();
+        height = buffer.getInt();
+        tileWidth = buffer.getInt();
+        tileHeight = buffer.getInt();
+
+        atlas = readString(buffer);
+
+        // Tilesets
+        int tilesetCount = buffer.getInt();
+
+        tilesetNames = new Array<String>(tilesetCount);
+        tilesetFirstGids = new int[tilesetCount];
+
+        for (int i = 0; i < tilesetCount; i++) {
+            tilesetNames.add(readString(buffer));
+            tilesetFirstGids[i] = buffer.getInt();
+        }
+
+        // Layers (skipped, they are read in place)
+        int layerCount = buffer.getInt();
+
+        layerNames = new Array<String>(layerCount);
+        layerOffsets = new int[layerCount];
+
+        for (int i = 0; i < layerCount; i++) {
+            layerNames.add(readString(buffer));
+            layerOffsets[i] = buffer.position();
+
+            buffer.position(buffer.position() + width * height * 4);
+        }
+
+        // Occupancy
+        wordsPerRow = (width + 31) / 32;
+        occupancyOffset = buffer.position();
+
+        buffer.position(occupancyOffset + wordsPerRow * height * 4);
+
+        // Navigation
+        navigationOffset = buffer.position();
+
+        buffer.position(navigationOffset + width * height);
+
+        // Zones
+        zones = new Array<Array<Rectangle>>(ZONE_NAMES.length);
+
+        for (int i = 0; i < ZONE_NAMES.length; i++) {
+            zones.add(new Array<Rectangle>());
+        }
+
+        int zoneCount = buffer.getInt();
+
+        for (int i = 0; i < zoneCount; i++) {
+            int kind = buffer.getInt();
+
+            Rectangle zone = new Rectangle(buffer.getFloat(), buffer.getFloat(), buffer.getFloat(), buffer.getFloat());
+
+            if (kind >= 0 && kind < zones.size) {
+                zones.get(kind).add(zone);
+            }
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+
+        buffer.get(bytes);
+
+        try {
+            return new String(bytes, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public int getWidth() {
+        return width;
+    }
+
+    @Override
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public boolean isWall(int x, int y) {
+        int word = buffer.getInt(occupancyOffset + (y * wordsPerRow + (x >> 5)) * 4);
+
+        return (word & (1 << (x & 31))) != 0;
+    }
+
+    /**
+     * Returns the walkable neighbours of the given cell.
+     *
+     * @param x : the X position of the cell
+     * @param y : the Y position of the cell
+     * @return the navigation mask of the cell (see the NAV constants)
+     */
+    public int getNavigation(int x, int y) {
+        return buffer.get(navigationOffset + y * width + x);
+    }
+
+    /**
+     * Returns the global tile id of the given cell of a layer, flip flags included.
+     *
+     * @param layer : the index of the layer
+     * @param x     : the X position of the cell
+     * @param y     : the Y position of the cell
+     * @return the global tile id, 0 if the cell is empty
+     */
+    public int getGid(int layer, int x, int y) {
+        return buffer.getInt(layerOffsets[layer] + (y * width + x) * 4);
+    }
+
+    @Override
+    public Array<Rectangle> getZones(int kind) {
+        return zones.get(kind);
+    }
+
+    /**
+     * Getters and Setters
+     */
+    public int getTileWidth() {
+        return tileWidth;
+    }
+
+    public int getTileHeight() {
+        return tileHeight;
+    }
+
+    public String getAtlas() {
+        return atlas;
+    }
+
+    public int getTilesetCount() {
+        return tilesetNames.size;
+    }
+
+    public String getTilesetName(int tileset) {
+        return tilesetNames.get(tileset);
+    }
+
+    public int getTilesetFirstGid(int tileset) {
+        return tilesetFirstGids[tileset];
+    }
+
+    public int getLayerCount() {
+        return layerNames.size;
+    }
+
+    public String getLayerName(int layer) {
+        return layerNames.get(layer);
+    }
+
+}
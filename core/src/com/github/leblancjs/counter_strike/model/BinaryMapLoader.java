@@ -0,0 +1,141 @@
+package com.github.leblancjs.counter_strike.model;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer.Cell;
+import com.badlogic.gdx.maps.tiled.TiledMapTileSet;
+import com.badlogic.gdx.maps.tiled.tiles.StaticTiledMapTile;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Builds the tiled map rendered for a compiled map, straight from its tile ids and the atlas it references. It
+ * resolves the tiles the same way as LibGDX's AtlasTmxMapLoader, without any XML to parse.
+ */
+public class BinaryMapLoader {
+
+    /**
+     * Flip flags of the global tile ids, as written by Tiled
+     */
+    private final static int FLIP_HORIZONTALLY = 0x80000000;
+    private final static int FLIP_VERTICALLY = 0x40000000;
+    private final static int FLIP_DIAGONALLY = 0x20000000;
+    private final static int FLIP_MASK = ~(FLIP_HORIZONTALLY | FLIP_VERTICALLY | FLIP_DIAGONALLY);
+
+    private BinaryMapLoader() {
+    }
+
+    /**
+     * Builds the tiled map of a compiled map.
+     *
+     * @param binaryMap : the compiled map
+     * @param directory : the directory of the compiled map, against which its atlas is resolved
+     * @return the tiled map, which owns its atlas
+     */
+    public static TiledMap load(BinaryMap binaryMap, FileHandle directory) {
+        TiledMap map = new TiledMap();
+
+        TextureAtlas atlas = new TextureAtlas(resolve(directory, binaryMap.getAtlas()));
+
+        Array<TextureAtlas> resources = new Array<TextureAtlas>();
+        resources.add(atlas);
+
+        map.setOwnedResources(resources);
+
+        // Tilesets
+        for (int i = 0; i < binaryMap.getTilesetCount(); i++) {
+            TiledMapTileSet tileset = new TiledMapTileSet();
+            tileset.setName(binaryMap.getTilesetName(i));
+
+            for (AtlasRegion region : atlas.findRegions(binaryMap.getTilesetName(i))) {
+                int id = binaryMap.getTilesetFirstGid(i) + region.index;
+
+                StaticTiledMapTile tile = new StaticTiledMapTile(region);
+                tile.setId(id);
+
+                tileset.putTile(id, tile);
+            }
+
+            map.getTileSets().addTileSet(tileset);
+        }
+
+        // Layers
+        int width = binaryMap.getWidth();
+        int height = binaryMap.getHeight();
+
+        for (int i = 0; i < binaryMap.getLayerCount(); i++) {
+            TiledMapTileLayer layer = new TiledMapTileLayer(width, height, binaryMap.getTileWidth(), binaryMap.getTileHeight());
+            layer.setName(binaryMap.getLayerName(i));
+
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    int gid = binaryMap.getGid(i, x, y);
+
+                    if (gid == 0) {
+                        continue;
+                    }
+
+                    Cell cell = createCell((gid & FLIP_HORIZONTALLY) != 0, (gid & FLIP_VERTICALLY) != 0, (gid & FLIP_DIAGONALLY) != 0);
+                    cell.setTile(map.getTileSets().getTile(gid & FLIP_MASK));
+
+                    layer.setCell(x, y, cell);
+                }
+            }
+
+            map.getLayers().add(layer);
+        }
+
+        return map;
+    }
+
+    /**
+     * Creates a cell oriented by the flip flags of its tile id.
+     */
+    private static Cell createCell(boolean flipHorizontally, boolean flipVertically, boolean flipDiagonally) {
+        Cell cell = new Cell();
+
+        if (flipDiagonally) {
+            if (flipHorizontally && flipVertically) {
+                cell.setFlipHorizontally(true);
+                cell.setRotation(Cell.ROTATE_270);
+            } else if (flipHorizontally) {
+                cell.setRotation(Cell.ROTATE_270);
+            } else if (flipVertically) {
+                cell.setRotation(Cell.ROTATE_90);
+            } else {
+                cell.setFlipVertically(true);
+                cell.setRotation(Cell.ROTATE_270);
+            }
+        } else {
+            cell.setFlipHorizontally(flipHorizontally);
+            cell.setFlipVertically(flipVertically);
+        }
+
+        return cell;
+    }
+
+    /**
+     * Resolves a path relative to a directory, allowing parent directories so that generated maps can share the
+     * atlas of another map.
+     *
+     * @param directory : the directory
+     * @param path      : the relative path, separated by slashes
+     * @return the file
+     */
+    private static FileHandle resolve(FileHandle directory, String path) {
+        FileHandle file = directory;
+
+        for (String name : path.split("/")) {
+            if (name.equals("..")) {
+                file = file.parent();
+            } else if (!name.isEmpty() && !name.equals(".")) {
+                file = file.child(name);
+            }
+        }
+
+        return file;
+    }
+
+}
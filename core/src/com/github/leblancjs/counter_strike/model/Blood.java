@@ -1,7 +1,5 @@
 package com.github.leblancjs.counter_strike.model;
 
-import java.util.Random;
-
 import com.badlogic.gdx.math.Vector2;
 
 public class Blood {
@@ -18,28 +16,16 @@ public class Blood {
      * Constructor class for a blood stain.
      *
      * @param position : the stain's position
+     * @param random   : the random numbers spreading, turning and sizing the stain
      */
-    public Blood(Vector2 position) {
+    public Blood(Vector2 position, MatchRandom random) {
         this.position = position;
 
-        this.position.x += randomBound(-OFFSET, OFFSET);
-        this.position.x += randomBound(-OFFSET, OFFSET);
-
-        rotation = randomBound(0f, 360f);
-        scale = randomBound(0.3f, 1f);
-    }
-
-    /**
-     * Returns a random float value between two bounds.
-     *
-     * @param lowerBound  : Lower bound
-     * @param higherBound : Higher bound
-     * @return random value
-     */
-    private float randomBound(float lowerBound, float higherBound) {
-        Random random = new Random();
+        this.position.x += random.nextFloat(-OFFSET, OFFSET);
+        this.position.x += random.nextFloat(-OFFSET, OFFSET);
 
-        return (random.nextFloat() * (higherBound - lowerBound) + lowerBound);
+        rotation = random.nextFloat(0f, 360f);
+        scale = random.nextFloat(0.3f, 1f);
     }
 
     /**
@@ -0,0 +1,137 @@
+package com.github.leblancjs.counter_strike.model;
+
+/**
+ * Where the actors were during the last ticks, so that a shot can be checked against the world as the shooter saw
+ * it when firing (lag compensation). All the actors have the same size, so an actor's bounds are given by its
+ * position.
+ * <p>
+ * The history is a ring of a fixed number of ticks, each one a row of the actors' positions and whether they were
+ * alive, laid out in flat primitive arrays. Recording a tick overwrites the oldest one, so the history never grows
+ * beyond its length times the number of actors.
+ */
+public class BoundsHistory {
+
+    private int length;
+    private int capacity;
+
+    /**
+     * Rows: the positions of actor id during the tick of row r are at index r * capacity + id
+     */
+    private float[] x;
+    private float[] y;
+    private boolean[] alive;
+    private long[] ticks;
+
+    /**
+     * Constructor for a history.
+     *
+     * @param length   : the number of ticks remembered
+     * @param capacity : the number of actors to make room for
+     */
+    public BoundsHistory(int length, int capacity) {
+        this.length = length;
+
+        x = new float[0];
+        y = new float[0];
+        alive = new boolean[0];
+        ticks = new long[length];
+
+        for (int r = 0; r < length; r++) {
+            ticks[r] = -1L;
+        }
+
+        ensureCapacity(capacity);
+    }
+
+    /**
+     * Makes room for the given number of actors, keeping the history.
+     *
+     * @param newCapacity : the number of actors
+     */
+    public void ensureCapacity(int newCapacity) {
+        if (capacity >= newCapacity) {
+            return;
+        }
+
+        float[] newX = new float[length * newCapacity];
+        float[] newY = new float[length * newCapacity];
+        boolean[] newAlive = new boolean[length * newCapacity];
+
+        for (int r = 0; r < length; r++) {
+            System.arraycopy(x, r * capacity, newX, r * newCapacity, capacity);
+            System.arraycopy(y, r * capacity, newY, r * newCapacity, capacity);
+            System.arraycopy(alive, r * capacity, newAlive, r * newCapacity, capacity);
+        }
+
+        x = newX;
+        y = newY;
+        alive = newAlive;
+        capacity = newCapacity;
+    }
+
+    /**
+     * Records where the actors are at the end of a tick.
+     *
+     * @param tick  : the tick
+     * @param store : the actor store
+     */
+    public void record(long tick, ActorStore store) {
+        ensureCapacity(store.getSize());
+
+        int row = (int) (tick % length);
+        int offset = row * capacity;
+
+        System.arraycopy(store.x, 0, x, offset, store.getSize());
+        System.arraycopy(store.y, 0, y, offset, store.getSize());
+
+        for (int id = 0; id < capacity; id++) {
+            alive[offset + id] = id < store.getSize() && store.isAlive(id);
+        }
+
+        ticks[row] = tick;
+    }
+
+    /**
+     * Returns whether the history still remembers a tick.
+     *
+     * @param tick : the tick
+     * @return TRUE if the tick was recorded and not overwritten since, FALSE otherwise
+     */
+    public boolean contains(long tick) {
+        return tick >= 0 && ticks[(int) (tick % length)] == tick;
+    }
+
+    /**
+     * Returns where the row of a tick starts in the arrays. The tick must be in the history.
+     *
+     * @param tick : the tick
+     * @return the index of the tick's first actor
+     */
+    public int getOffset(long tick) {
+        return (int) (tick % length) * capacity;
+    }
+
+    /**
+     * Getters and Setters
+     */
+    public int getLength() {
+        return length;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public float[] getX() {
+        return x;
+    }
+
+    public float[] getY() {
+        return y;
+    }
+
+    public boolean[] getAlive() {
+        return alive;
+    }
+
+}
@@ -0,0 +1,206 @@
+package com.github.leblancjs.counter_strike.model;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/**
+ * The bullets fired during a tick, kept in a ring buffer of primitive fields (origin, direction, shooter, weapon
+ * and damage) that is allocated once and recycled every tick, so that firing does not produce any garbage. An actor
+ * fires at most once per tick, so the world makes room for one bullet per actor; firing more bullets during a tick
+ * than the buffer holds is an error.
+ * <p>
+ * Each bullet also has room for what it hit, written when the bullets are resolved. Resolving a bullet only writes
+ * its own result, so the bullets can be resolved in parallel.
+ */
+public class BulletBuffer {
+
+    /**
+     * Constants
+     */
+    public static final float RANGE = 12f;
+
+    private int capacity;
+
+    /**
+     * Bullets
+     */
+    private float[] originX;
+    private float[] originY;
+    private float[] directionX;
+    private float[] directionY;
+    private int[] shooters;
+    private int[] weapons;
+    private long[] ticks;
+    private float[] damages;
+
+    /**
+     * Results (see HitscanResolver for the kinds of hit)
+     */
+    private int[] hits;
+    private int[] hitActors;
+    private float[] hitDistances;
+    private int[] hitCellX;
+    private int[] hitCellY;
+
+    private int head;
+    private int size;
+
+    /**
+     * Constructor for a bullet buffer.
+     *
+     * @param capacity : the maximum number of bullets per tick
+     */
+    public BulletBuffer(int capacity) {
+        this.capacity = capacity;
+
+        originX = new float[capacity];
+        originY = new float[capacity];
+        directionX = new float[capacity];
+        directionY = new float[capacity];
+        shooters = new int[capacity];
+        weapons = new int[capacity];
+        ticks = new long[capacity];
+        damages = new float[capacity];
+
+        hits = new int[capacity];
+        hitActors = new int[capacity];
+        hitDistances = new float[capacity];
+        hitCellX = new int[capacity];
+        hitCellY = new int[capacity];
+    }
+
+    /**
+     * Adds a bullet.
+     *
+     * @param shooter : the slot of the actor who shot the bullet
+     * @param weapon  : the id of the weapon the bullet was shot with
+     * @param tick    : the tick of the world the shooter saw when firing, against which the bullet is checked
+     * @param x       : the X coordinate of the bullet's origin
+     * @param y       : the Y coordinate of the bullet's origin
+     * @param angle   : the angle the bullet travels at, in degrees
+     * @param damage  : the damage the bullet does
+     */
+    public void add(int shooter, int weapon, long tick, float x, float y, float angle, float damage) {
+        if (size == capacity) {
+            throw new GdxRuntimeException("More than " + capacity + " bullets were fired during the tick.");
+        }
+
+        float direction = angle * (float) (Math.PI / 180f);
+
+        originX[head] = x;
+        originY[head] = y;
+        directionX[head] = (float) Math.cos(direction);
+        directionY[head] = (float) Math.sin(direction);
+        shooters[head] = shooter;
+        weapons[head] = weapon;
+        ticks[head] = tick;
+        damages[head] = damage;
+        hits[head] = HitscanResolver.NONE;
+        hitActors[head] = -1;
+        hitDistances[head] = RANGE;
+
+        head = (head + 1) % capacity;
+        size++;
+    }
+
+    /**
+     * Records what a bullet hit.
+     *
+     * @param i        : the bullet
+     * @param hit      : the kind of hit (see HitscanResolver)
+     * @param actor    : the slot of the actor hit, -1 if none
+     * @param distance : the distance from the bullet's origin to the hit
+     * @param cellX    : the X position of the wall hit
+     * @param cellY    : the Y position of the wall hit
+     */
+    public void setResult(int i, int hit, int actor, float distance, int cellX, int cellY) {
+        int slot = getSlot(i);
+
+        hits[slot] = hit;
+        hitActors[slot] = actor;
+        hitDistances[slot] = distance;
+        hitCellX[slot] = cellX;
+        hitCellY[slot] = cellY;
+    }
+
+    /**
+     * Recycles all the bullets.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns where the i-th oldest bullet is stored.
+     */
+    private int getSlot(int i) {
+        return (head - size + i + capacity) % capacity;
+    }
+
+    /**
+     * Getters and Setters
+     */
+    public int getSize() {
+        return size;
+    }
+
+    public int getShooter(int i) {
+        return shooters[getSlot(i)];
+    }
+
+    public int getWeapon(int i) {
+        return weapons[getSlot(i)];
+    }
+
+    public long getTick(int i) {
+        return ticks[getSlot(i)];
+    }
+
+    public float getOriginX(int i) {
+        return originX[getSlot(i)];
+    }
+
+    public float getOriginY(int i) {
+        return originY[getSlot(i)];
+    }
+
+    public float getDirectionX(int i) {
+        return directionX[getSlot(i)];
+    }
+
+    public float getDirectionY(int i) {
+        return directionY[getSlot(i)];
+    }
+
+    public float getDamage(int i) {
+        return damages[getSlot(i)];
+    }
+
+    public int getHit(int i) {
+        return hits[getSlot(i)];
+    }
+
+    public int getHitActor(int i) {
+        return hitActors[getSlot(i)];
+    }
+
+    public float getHitDistance(int i) {
+        return hitDistances[getSlot(i)];
+    }
+
+    public int getHitCellX(int i) {
+        return hitCellX[getSlot(i)];
+    }
+
+    public int getHitCellY(int i) {
+        return hitCellY[getSlot(i)];
+    }
+
+    public float getEndX(int i) {
+        return getOriginX(i) + getDirectionX(i) * RANGE;
+    }
+
+    public float getEndY(int i) {
+        return getOriginY(i) + getDirectionY(i) * RANGE;
+    }
+
+}
@@ -0,0 +1,224 @@
+package com.github.leblancjs.counter_strike.model;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Map split in chunks that are paged in from a source around the active actors and evicted, least recently used
+ * first, once more than a given number are resident. The navigation, collision and render code read the map
+ * through it, so that only the regions in play are ever held in memory or scanned.
+ * <p>
+ * Chunks are paged in and evicted by {@link #update(ActorStore)} at the start of the tick. A cell outside the
+ * resident chunks can still be read at any time, from any thread: its chunk is then paged in on demand. Since
+ * chunks are only evicted by the update, a chunk never disappears while the parallel phases are reading it.
+ */
+public class ChunkedMap {
+
+    /**
+     * Constants
+     */
+    public final static int DEFAULT_CAPACITY = 64;
+
+    /**
+     * Distance around an actor within which the map is kept resident, which covers what it can see and shoot.
+     */
+    public final static int ACTIVE_RADIUS = 16;
+
+    private MapSource source;
+
+    private int width;
+    private int height;
+    private int chunksX;
+    private int chunksY;
+
+    private MapChunk[] chunks;
+    private Array<MapChunk> resident;
+    private Array<MapChunk> free;
+    private int capacity;
+
+    private long frame;
+
+    /**
+     * Constructor for a chunked map.
+     *
+     * @param source   : the source the chunks are paged in from
+     * @param capacity : the number of chunks kept resident beyond those in use
+     */
+    public ChunkedMap(MapSource source, int capacity) {
+        this.source = source;
+        this.capacity = capacity;
+
+        width = source.getWidth();
+        height = source.getHeight();
+        chunksX = (width + MapChunk.SIZE - 1) / MapChunk.SIZE;
+        chunksY = (height + MapChunk.SIZE - 1) / MapChunk.SIZE;
+
+        chunks = new MapChunk[chunksX * chunksY];
+        resident = new Array<MapChunk>(false, capacity);
+        free = new Array<MapChunk>(false, capacity);
+    }
+
+    /**
+     * Pages in the chunks around the living actors and evicts the least recently used ones that are no longer
+     * needed, until no more than the capacity are resident. It must not run while other threads read the map.
+     *
+     * @param store : the actors
+     */
+    public void update(ActorStore store) {
+        frame++;
+
+        for (int id = 0; id < store.getSize(); id++) {
+            if (store.isAlive(id)) {
+                touch(store.x[id], store.y[id], ACTIVE_RADIUS);
+            }
+        }
+
+        while (resident.size > capacity) {
+            MapChunk oldest = null;
+
+            for (MapChunk chunk : resident) {
+                if (oldest == null || chunk.getLastUsed() < oldest.getLastUsed()) {
+                    oldest = chunk;
+                }
+            }
+
+            // Every resident chunk is in use
+            if (oldest.getLastUsed() == frame) {
+                break;
+            }
+
+            evict(oldest);
+        }
+    }
+
+    /**
+     * Pages in the chunks overlapping the square around the given position and marks them as used.
+     *
+     * @param x      : the X position
+     * @param y      : the Y position
+     * @param radius : the half size of the square
+     */
+    public void touch(float x, float y, float radius) {
+        int startX = Math.max(0, (int) (x - radius) / MapChunk.SIZE);
+        int startY = Math.max(0, (int) (y - radius) / MapChunk.SIZE);
+        int endX = Math.min(chunksX - 1, (int) (x + radius) / MapChunk.SIZE);
+        int endY = Math.min(chunksY - 1, (int) (y + radius) / MapChunk.SIZE);
+
+        for (int cy = startY; cy <= endY; cy++) {
+            for (int cx = startX; cx <= endX; cx++) {
+                getChunk(cx, cy).setLastUsed(frame);
+            }
+        }
+    }
+
+    /**
+     * Returns whether the given cell is a wall. Cells outside the map are considered walls.
+     *
+     * @param x : the X position of the cell
+     * @param y : the Y position of the cell
+     * @return TRUE if the cell is a wall, FALSE otherwise
+     */
+    public boolean isWall(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return true;
+        }
+
+        return getChunk(x / MapChunk.SIZE, y / MapChunk.SIZE).isWall(x % MapChunk.SIZE, y % MapChunk.SIZE);
+    }
+
+    /**
+     * Returns the collision rectangle of the given cell, or null if it is not a wall or is outside the map.
+     *
+     * @param x : the X position of the cell
+     * @param y : the Y position of the cell
+     * @return the collision rectangle of the wall
+     */
+    public Rectangle getWall(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return null;
+        }
+
+        return getChunk(x / MapChunk.SIZE, y / MapChunk.SIZE).getWall(x % MapChunk.SIZE, y % MapChunk.SIZE);
+    }
+
+    /**
+     * Returns the chunk at the given position, paging it in if it is not resident.
+     *
+     * @param chunkX : the X position of the chunk
+     * @param chunkY : the Y position of the chunk
+     * @return the chunk
+     */
+    private MapChunk getChunk(int chunkX, int chunkY) {
+        MapChunk chunk = chunks[chunkY * chunksX + chunkX];
+
+        if (chunk != null && chunk.isLoaded()) {
+            return chunk;
+        }
+
+        return pageIn(chunkX, chunkY);
+    }
+
+    /**
+     * Pages in the chunk at the given position. Chunks can be paged in by the parallel phases, so this is guarded.
+     */
+    private synchronized MapChunk pageIn(int chunkX, int chunkY) {
+        int index = chunkY * chunksX + chunkX;
+
+        MapChunk chunk = chunks[index];
+
+        if (chunk != null) {
+            return chunk;
+        }
+
+        chunk = free.size > 0 ? free.pop() : new MapChunk();
+        chunk.setLastUsed(frame);
+        chunk.load(source, chunkX, chunkY);
+
+        chunks[index] = chunk;
+        resident.add(chunk);
+
+        return chunk;
+    }
+
+    /**
+     * Evicts the chunk, keeping it to be filled with another region.
+     */
+    private synchronized void evict(MapChunk chunk) {
+        chunks[chunk.getChunkY() * chunksX + chunk.getChunkX()] = null;
+        resident.removeValue(chunk, true);
+
+        chunk.unload();
+        free.add(chunk);
+    }
+
+    /**
+     * Getters and Setters
+     */
+    public MapSource getSource() {
+        return source;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the resident chunks. It must not be iterated while other threads read the map.
+     */
+    public Array<MapChunk> getResidentChunks() {
+        return resident;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+}
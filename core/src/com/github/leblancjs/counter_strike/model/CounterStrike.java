@@ -1,47 +1,90 @@
-package com.github.leblancjs.counter_strike.model;
-
-import com.badlogic.gdx.Game;
-import com.badlogic.gdx.Gdx;
-import com.github.leblancjs.counter_strike.screens.CreditsScreen;
-import com.github.leblancjs.counter_strike.screens.GameScreen;
-import com.github.leblancjs.counter_strike.screens.InstructionsScreen;
-import com.github.leblancjs.counter_strike.screens.MenuScreen;
-
-public class CounterStrike extends Game {
-
-    public MenuScreen menuScreen;
-    public InstructionsScreen instructionsScreen;
-    public CreditsScreen creditsScreen;
-    public GameScreen gameScreen;
-
-    /**
-     * Constructor class for a game instance. It initializes the screens.
-     */
-    @Override
-    public void create() {
-        // Get the initial dimensions of the screen
-        int width = Gdx.graphics.getWidth();
-        int height = Gdx.graphics.getHeight();
-
-        // Create the screens
-        menuScreen = new MenuScreen(this, width, height);
-        instructionsScreen = new InstructionsScreen(this, width, height);
-        creditsScreen = new CreditsScreen(this, width, height);
-        gameScreen = new GameScreen(this, width, height);
-
-        setScreen(menuScreen);
-    }
-
-    /**
-     * Disposes of the screens.
-     */
-    public void dispose() {
-        if (menuScreen != null) {
-            menuScreen.dispose();
-        }
-
-        if (gameScreen != null) {
-            gameScreen.dispose();
-        }
-    }
-}
+package com.github.leblancjs.counter_strike.model;
+
+import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Gdx;
+import com.github.leblancjs.counter_strike.screens.CreditsScreen;
+import com.github.leblancjs.counter_strike.screens.GameScreen;
+import com.github.leblancjs.counter_strike.screens.InstructionsScreen;
+import com.github.leblancjs.counter_strike.screens.MenuScreen;
+import com.github.leblancjs.counter_strike.systems.SerialTaskRunner;
+import com.github.leblancjs.counter_strike.systems.TaskRunner;
+
+public class CounterStrike extends Game {
+
+    public MenuScreen menuScreen;
+    public InstructionsScreen instructionsScreen;
+    public CreditsScreen creditsScreen;
+    public GameScreen gameScreen;
+
+    private TaskRunner taskRunner;
+    private MapBufferLoader mapBufferLoader;
+
+    /**
+     * Constructor class for a game running its simulation on a single thread.
+     */
+    public CounterStrike() {
+        this(new SerialTaskRunner());
+    }
+
+    /**
+     * Constructor class for a game running the parallel phases of its simulation through the given runner.
+     *
+     * @param taskRunner : the task runner
+     */
+    public CounterStrike(TaskRunner taskRunner) {
+        this(taskRunner, new ReadingMapBufferLoader());
+    }
+
+    /**
+     * Constructor class for a game running the parallel phases of its simulation through the given runner and
+     * loading its compiled maps with the given loader.
+     *
+     * @param taskRunner      : the task runner
+     * @param mapBufferLoader : the loader of the compiled maps' content
+     */
+    public CounterStrike(TaskRunner taskRunner, MapBufferLoader mapBufferLoader) {
+        this.taskRunner = taskRunner;
+        this.mapBufferLoader = mapBufferLoader;
+    }
+
+    /**
+     * Constructor class for a game instance. It initializes the screens.
+     */
+    @Override
+    public void create() {
+        // Get the initial dimensions of the screen
+        int width = Gdx.graphics.getWidth();
+        int height = Gdx.graphics.getHeight();
+
+        // Create the screens
+        menuScreen = new MenuScreen(this, width, height);
+        instructionsScreen = new InstructionsScreen(this, width, height);
+        creditsScreen = new CreditsScreen(this, width, height);
+        gameScreen = new GameScreen(this, width, height);
+
+        setScreen(menuScreen);
+    }
+
+    /**
+     * Disposes of the screens.
+     */
+    public void dispose() {
+        if (menuScreen != null) {
+            menuScreen.dispose();
+        }
+
+        if (gameScreen != null) {
+            gameScreen.dispose();
+        }
+
+        taskRunner.dispose();
+    }
+
+    public TaskRunner getTaskRunner() {
+        return taskRunner;
+    }
+
+    public MapBufferLoader getMapBufferLoader() {
+        return mapBufferLoader;
+    }
+}
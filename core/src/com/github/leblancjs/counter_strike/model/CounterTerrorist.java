@@ -1,30 +1,30 @@
 package com.github.leblancjs.counter_strike.model;
 
-import java.util.Random;
-
 import com.badlogic.gdx.math.Vector2;
-import com.github.leblancjs.counter_strike.model.Weapon.WeaponType;
 
 public class CounterTerrorist extends Actor {
 
     /**
      * Constructor class for a counter terrorist. This will create an actor at the given position.
      *
+     * @param store    : the store holding the actor's state
+     * @param weapons  : the weapon table, giving the weapon the actor spawns with
+     * @param random   : the random numbers of the match, picking the actor's body
      * @param position : the start position
      * @param playable : whether the actor is controlled by a human player
      */
-    public CounterTerrorist(Vector2 position, boolean playable) {
-        super(position, playable);
-
-        // Type
-        type = ActorType.COUNTER_TERRORIST;
+    public CounterTerrorist(ActorStore store, WeaponTable weapons, MatchRandom random, Vector2 position, boolean playable) {
+        super(store, ActorType.COUNTER_TERRORIST, position, playable);
 
         // Body
-        Random random = new Random();
         body = random.nextInt(BODY_CT_COUNT);
 
         // Weapon
-        weapon = new Weapon(WeaponType.M4A1);
+        weapon = new Weapon(weapons, weapons.getLoadout(ActorType.COUNTER_TERRORIST));
+
+        // Grenades
+        grenade = weapons.getGrenade(ActorType.COUNTER_TERRORIST);
+        grenades = weapons.getGrenadeCount(ActorType.COUNTER_TERRORIST);
     }
 
 }
@@ -0,0 +1,296 @@
+package com.github.leblancjs.counter_strike.model;
+
+/**
+ * The cells each actor can see, computed by symmetric shadowcasting over the walls of the map: an actor sees a
+ * cell exactly when an actor standing in that cell would see it back. Each actor gets a bitset of the square of
+ * cells within range around it, rewritten in place every time its field of view is computed.
+ * <p>
+ * Slopes are kept as fractions of integers so that the result is exact and symmetric. Computing the field of view
+ * of an actor only writes its own bitset, so those of different actors can be computed in parallel.
+ */
+public class FieldOfView {
+
+    private World world;
+
+    private int range;
+    private int side;
+    private int wordsPerActor;
+
+    private int[] bits;
+    private int[] originX;
+    private int[] originY;
+    private long[] ticks;
+
+    /**
+     * Constructor for the fields of view.
+     *
+     * @param world    : the world whose walls block the view
+     * @param range    : the distance up to which the actors see, in cells
+     * @param capacity : the number of actors to make room for
+     */
+    public FieldOfView(World world, int range, int capacity) {
+        this.world = world;
+        this.range = range;
+
+        side = range * 2 + 1;
+        wordsPerActor = (side * side + 31) / 32;
+
+        bits = new int[0];
+        originX = new int[0];
+        originY = new int[0];
+        ticks = new long[0];
+
+        ensureCapacity(capacity);
+    }
+
+    /**
+     * Makes room for the given number of actors, keeping the fields of view already computed. It must not be
+     * called while fields of view are being computed or read.
+     *
+     * @param capacity : the number of actors
+     */
+    public void ensureCapacity(int capacity) {
+        if (originX.length >= capacity) {
+            return;
+        }
+
+        int[] newBits = new int[capacity * wordsPerActor];
+        int[] newOriginX = new int[capacity];
+        int[] newOriginY = new int[capacity];
+        long[] newTicks = new long[capacity];
+
+        System.arraycopy(bits, 0, newBits, 0, bits.length);
+        System.arraycopy(originX, 0, newOriginX, 0, originX.length);
+        System.arraycopy(originY, 0, newOriginY, 0, originY.length);
+        System.arraycopy(ticks, 0, newTicks, 0, ticks.length);
+
+        for (int id = ticks.length; id < capacity; id++) {
+            newTicks[id] = -1L;
+        }
+
+        bits = newBits;
+        originX = newOriginX;
+        originY = newOriginY;
+        ticks = newTicks;
+    }
+
+    /**
+     * Computes the field of view of an actor from its eyes.
+     *
+     * @param id   : the actor's slot
+     * @param x    : the X coordinate of the actor's position
+     * @param y    : the Y coordinate of the actor's position
+     * @param tick : the current tick
+     */
+    public void compute(int id, float x, float y, long tick) {
+        int ox = (int) (x + Actor.SIZE / 2);
+        int oy = (int) (y + Actor.SIZE / 2);
+
+        originX[id] = ox;
+        originY[id] = oy;
+        ticks[id] = tick;
+
+        int offset = id * wordsPerActor;
+
+        for (int i = 0; i < wordsPerActor; i++) {
+            bits[offset + i] = 0;
+        }
+
+        reveal(id, 0, 0);
+
+        for (int quadrant = 0; quadrant < 4; quadrant++) {
+            scan(id, quadrant, 1, -1, 1, 1, 1);
+        }
+    }
+
+    /**
+     * Scans a row of a quadrant between two slopes, then the rows behind it that are not in the shadow of a wall.
+     *
+     * @param id       : the actor's slot
+     * @param quadrant : the quadrant (0 up, 1 right, 2 down, 3 left)
+     * @param depth    : the distance of the row from the actor
+     * @param startNum : the numerator of the slope where the row starts
+     * @param startDen : the denominator of the slope where the row starts
+     * @param endNum   : the numerator of the slope where the row ends
+     * @param endDen   : the denominator of the slope where the row ends
+     */
+    private void scan(int id, int quadrant, int depth, int startNum, int startDen, int endNum, int endDen) {
+        if (depth > range) {
+            return;
+        }
+
+        // Columns whose center is between the slopes, rounding ties outwards
+        int minColumn = floorDiv(2 * depth * startNum + startDen, 2 * startDen);
+        int maxColumn = -floorDiv(-2 * depth * endNum + endDen, 2 * endDen);
+
+        boolean previousIsWall = false;
+        boolean first = true;
+
+        for (int column = minColumn; column <= maxColumn; column++) {
+            int dx = getDeltaX(quadrant, depth, column);
+            int dy = getDeltaY(quadrant, depth, column);
+
+            boolean wall = world.isWall(originX[id] + dx, originY[id] + dy);
+
+            // Floors are only seen when their center is between the slopes, which keeps the view symmetric
+            if (wall || (column * startDen >= depth * startNum && column * endDen <= depth * endNum)) {
+                if (dx * dx + dy * dy <= range * range) {
+                    reveal(id, dx, dy);
+                }
+            }
+
+            if (!first && previousIsWall && !wall) {
+                // The wall ends, the next rows start at the edge of this cell
+                startNum = 2 * column - 1;
+                startDen = 2 * depth;
+            }
+
+            if (!first && !previousIsWall && wall) {
+                // A wall starts, the next rows up to it are scanned now
+                scan(id, quadrant, depth + 1, startNum, startDen, 2 * column - 1, 2 * depth);
+            }
+
+            previousIsWall = wall;
+            first = false;
+        }
+
+        if (!first && !previousIsWall) {
+            scan(id, quadrant, depth + 1, startNum, startDen, endNum, endDen);
+        }
+    }
+
+    private static int getDeltaX(int quadrant, int depth, int column) {
+        switch (quadrant) {
+            case 1:
+                return depth;
+
+            case 3:
+                return -depth;
+
+            default:
+                return column;
+        }
+    }
+
+    private static int getDeltaY(int quadrant, int depth, int column) {
+        switch (quadrant) {
+            case 0:
+                return depth;
+
+            case 2:
+                return -depth;
+
+            default:
+                return column;
+        }
+    }
+
+    private static int floorDiv(int dividend, int divisor) {
+        int quotient = dividend / divisor;
+
+        if ((dividend % divisor != 0) && ((dividend < 0) != (divisor < 0))) {
+            quotient--;
+        }
+
+        return quotient;
+    }
+
+    private void reveal(int id, int dx, int dy) {
+        int bit = (dy + range) * side + dx + range;
+
+        bits[id * wordsPerActor + (bit >>> 5)] |= 1 << (bit & 31);
+    }
+
+    /**
+     * Returns whether an actor saw the given cell when its field of view was last computed.
+     *
+     * @param id : the actor's slot
+     * @param x  : the X coordinate of the cell
+     * @param y  : the Y coordinate of the cell
+     * @return TRUE if the cell is visible, FALSE otherwise
+     */
+    public boolean isVisible(int id, int x, int y) {
+        int dx = x - originX[id];
+        int dy = y - originY[id];
+
+        if (dx < -range || dx > range || dy < -range || dy > range) {
+            return false;
+        }
+
+        int bit = (dy + range) * side + dx + range;
+
+        return (bits[id * wordsPerActor + (bit >>> 5)] & (1 << (bit & 31))) != 0;
+    }
+
+    /**
+     * Returns whether an actor saw another actor's eyes when its field of view was last computed.
+     *
+     * @param id : the actor's slot
+     * @param x  : the X coordinate of the other actor's position
+     * @param y  : the Y coordinate of the other actor's position
+     * @return TRUE if the other actor is visible, FALSE otherwise
+     */
+    public boolean isVisible(int id, float x, float y) {
+        return isVisible(id, (int) (x + Actor.SIZE / 2), (int) (y + Actor.SIZE / 2));
+    }
+
+    /**
+     * Returns whether an actor sees another actor's eyes during a tick. Since the fields of view are symmetric, the
+     * sightline is answered by the field of view of whichever of them computed it from its current cell during the
+     * tick, the actor's own one being used if neither did.
+     *
+     * @param id    : the actor's slot
+     * @param x     : the X coordinate of the actor's position
+     * @param y     : the Y coordinate of the actor's position
+     * @param other : the other actor's slot
+     * @param ox    : the X coordinate of the other actor's position
+     * @param oy    : the Y coordinate of the other actor's position
+     * @param tick  : the current tick
+     * @return TRUE if the other actor is visible, FALSE otherwise
+     */
+    public boolean isVisible(int id, float x, float y, int other, float ox, float oy, long tick) {
+        int cellX = (int) (x + Actor.SIZE / 2);
+        int cellY = (int) (y + Actor.SIZE / 2);
+        int otherX = (int) (ox + Actor.SIZE / 2);
+        int otherY = (int) (oy + Actor.SIZE / 2);
+
+        if (!isFresh(id, cellX, cellY, tick) && isFresh(other, otherX, otherY, tick)) {
+            return isVisible(other, cellX, cellY);
+        }
+
+        return isVisible(id, otherX, otherY);
+    }
+
+    /**
+     * Returns whether the actor's field of view was computed during the tick, from the given cell.
+     */
+    private boolean isFresh(int id, int cellX, int cellY, long tick) {
+        return ticks[id] == tick && originX[id] == cellX && originY[id] == cellY;
+    }
+
+    /**
+     * Getters and Setters
+     */
+    public int getRange() {
+        return range;
+    }
+
+    /**
+     * Returns the tick during which an actor's field of view was last computed, -1 if it never was.
+     *
+     * @param id : the actor's slot
+     * @return the tick
+     */
+    public long getTick(int id) {
+        return ticks[id];
+    }
+
+    public int getOriginX(int id) {
+        return originX[id];
+    }
+
+    public int getOriginY(int id) {
+        return originY[id];
+    }
+
+}
@@ -0,0 +1,267 @@
+package com.github.leblancjs.counter_strike.model;
+
+/**
+ * The grenades thrown and not exploded yet, along with those that exploded during the tick. Like the projectiles,
+ * they are kept packed at the start of parallel arrays that only grow, a removed grenade being replaced by the
+ * last one. The explosions are kept until the next tick so that they can be rendered.
+ */
+public class GrenadePool {
+
+    /**
+     * Constants
+     */
+    private final static int INITIAL_CAPACITY = 16;
+
+    /**
+     * Grenades
+     */
+    private float[] x;
+    private float[] y;
+    private float[] directionX;
+    private float[] directionY;
+    private float[] speeds;
+    private float[] remaining;
+    private float[] fuses;
+    private int[] throwers;
+    private int[] weapons;
+
+    private int size;
+
+    /**
+     * Explosions of the tick
+     */
+    private float[] explosionX;
+    private float[] explosionY;
+    private int[] explosionThrowers;
+    private int[] explosionWeapons;
+
+    private int explosionCount;
+
+    /**
+     * Constructor for an empty pool.
+     */
+    public GrenadePool() {
+        x = new float[INITIAL_CAPACITY];
+        y = new float[INITIAL_CAPACITY];
+        directionX = new float[INITIAL_CAPACITY];
+        directionY = new float[INITIAL_CAPACITY];
+        speeds = new float[INITIAL_CAPACITY];
+        remaining = new float[INITIAL_CAPACITY];
+        fuses = new float[INITIAL_CAPACITY];
+        throwers = new int[INITIAL_CAPACITY];
+        weapons = new int[INITIAL_CAPACITY];
+
+        explosionX = new float[INITIAL_CAPACITY];
+        explosionY = new float[INITIAL_CAPACITY];
+        explosionThrowers = new int[INITIAL_CAPACITY];
+        explosionWeapons = new int[INITIAL_CAPACITY];
+    }
+
+    private float[] copy(float[] array, int length, int capacity) {
+        float[] copy = new float[capacity];
+        System.arraycopy(array, 0, copy, 0, length);
+
+        return copy;
+    }
+
+    private int[] copy(int[] array, int length, int capacity) {
+        int[] copy = new int[capacity];
+        System.arraycopy(array, 0, copy, 0, length);
+
+        return copy;
+    }
+
+    /**
+     * Throws a grenade.
+     *
+     * @param thrower  : the slot of the actor who threw it
+     * @param weapon   : the id of the grenade's weapon
+     * @param px       : the X coordinate it is thrown from
+     * @param py       : the Y coordinate it is thrown from
+     * @param dx       : the X component of its normalized direction
+     * @param dy       : the Y component of its normalized direction
+     * @param speed    : the speed it rolls at, in cells per second
+     * @param distance : the distance it rolls before stopping
+     * @param fuse     : the time before it explodes, in seconds
+     */
+    public void spawn(int thrower, int weapon, float px, float py, float dx, float dy, float speed, float distance, float fuse) {
+        if (size == x.length) {
+            int capacity = size * 2;
+
+            x = copy(x, size, capacity);
+            y = copy(y, size, capacity);
+            directionX = copy(directionX, size, capacity);
+            directionY = copy(directionY, size, capacity);
+            speeds = copy(speeds, size, capacity);
+            remaining = copy(remaining, size, capacity);
+            fuses = copy(fuses, size, capacity);
+            throwers = copy(throwers, size, capacity);
+            weapons = copy(weapons, size, capacity);
+        }
+
+        x[size] = px;
+        y[size] = py;
+        directionX[size] = dx;
+        directionY[size] = dy;
+        speeds[size] = speed;
+        remaining[size] = distance;
+        fuses[size] = fuse;
+        throwers[size] = thrower;
+        weapons[size] = weapon;
+
+        size++;
+    }
+
+    /**
+     * Makes a grenade explode: it is removed, the last one moving in its place, and added to the explosions of the
+     * tick.
+     *
+     * @param i : the grenade
+     */
+    public void explode(int i) {
+        if (explosionCount == explosionX.length) {
+            int capacity = explosionCount * 2;
+
+            explosionX = copy(explosionX, explosionCount, capacity);
+            explosionY = copy(explosionY, explosionCount, capacity);
+            explosionThrowers = copy(explosionThrowers, explosionCount, capacity);
+            explosionWeapons = copy(explosionWeapons, explosionCount, capacity);
+        }
+
+        explosionX[explosionCount] = x[i];
+        explosionY[explosionCount] = y[i];
+        explosionThrowers[explosionCount] = throwers[i];
+        explosionWeapons[explosionCount] = weapons[i];
+
+        explosionCount++;
+
+        int last = --size;
+
+        x[i] = x[last];
+        y[i] = y[last];
+        directionX[i] = directionX[last];
+        directionY[i] = directionY[last];
+        speeds[i] = speeds[last];
+        remaining[i] = remaining[last];
+        fuses[i] = fuses[last];
+        throwers[i] = throwers[last];
+        weapons[i] = weapons[last];
+    }
+
+    /**
+     * Moves a grenade forward along its direction.
+     *
+     * @param i        : the grenade
+     * @param distance : the distance to move it by
+     */
+    public void advance(int i, float distance) {
+        x[i] += directionX[i] * distance;
+        y[i] += directionY[i] * distance;
+        remaining[i] -= distance;
+    }
+
+    /**
+     * Makes a grenade bounce off a wall, reversing its direction along the given axes.
+     *
+     * @param i      : the grenade
+     * @param alongX : whether it hit a wall across the X axis
+     * @param alongY : whether it hit a wall across the Y axis
+     */
+    public void bounce(int i, boolean alongX, boolean alongY) {
+        if (alongX) {
+            directionX[i] = -directionX[i];
+        }
+
+        if (alongY) {
+            directionY[i] = -directionY[i];
+        }
+    }
+
+    /**
+     * Burns the fuse of a grenade.
+     *
+     * @param i     : the grenade
+     * @param delta : the time elapsed
+     * @return TRUE if the fuse ran out, FALSE otherwise
+     */
+    public boolean burn(int i, float delta) {
+        fuses[i] -= delta;
+
+        return fuses[i] <= 0f;
+    }
+
+    /**
+     * Forgets the explosions of the previous tick.
+     */
+    public void clearExplosions() {
+        explosionCount = 0;
+    }
+
+    /**
+     * Removes all the grenades and explosions.
+     */
+    public void clear() {
+        size = 0;
+        explosionCount = 0;
+    }
+
+    /**
+     * Getters and Setters
+     */
+    public int getSize() {
+        return size;
+    }
+
+    public float getX(int i) {
+        return x[i];
+    }
+
+    public float getY(int i) {
+        return y[i];
+    }
+
+    public float getDirectionX(int i) {
+        return directionX[i];
+    }
+
+    public float getDirectionY(int i) {
+        return directionY[i];
+    }
+
+    public float getSpeed(int i) {
+        return speeds[i];
+    }
+
+    public float getRemaining(int i) {
+        return remaining[i];
+    }
+
+    public int getThrower(int i) {
+        return throwers[i];
+    }
+
+    public int getWeapon(int i) {
+        return weapons[i];
+    }
+
+    public int getExplosionCount() {
+        return explosionCount;
+    }
+
+    public float getExplosionX(int e) {
+        return explosionX[e];
+    }
+
+    public float getExplosionY(int e) {
+        return explosionY[e];
+    }
+
+    public int getExplosionThrower(int e) {
+        return explosionThrowers[e];
+    }
+
+    public int getExplosionWeapon(int e) {
+        return explosionWeapons[e];
+    }
+
+}
@@ -0,0 +1,299 @@
+package com.github.leblancjs.counter_strike.model;
+
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Finds what a shot hits first. The ray is walked through the grid once, cell by cell (DDA), stopping at the first
+ * wall; the actors bucketed around each visited cell are gathered on the way and tested in a single batch, so the
+ * cost of a shot grows with its length rather than with the number of walls and actors of the map.
+ * <p>
+ * Distances along the ray are parametric: the direction is normalized, so a hit at distance t is t cells away
+ * from the origin. The result of the last resolution is kept in the resolver, so each thread needs its own.
+ * <p>
+ * A resolver can be rewound to a past tick, to check shots against where the actors were when the shooter fired
+ * (lag compensation). Actors that died since cannot be hit anymore.
+ */
+public class HitscanResolver {
+
+    /**
+     * Constants
+     */
+    public final static int NONE = 0;
+    public final static int WALL = 1;
+    public final static int ACTOR = 2;
+
+    private World world;
+    private ActorStore store;
+    private ActorIndex index;
+
+    /**
+     * Bounds the actors are tested against: those of the store, or a row of the history when rewound
+     */
+    private float[] boundsX;
+    private float[] boundsY;
+    private int boundsOffset;
+
+    private ActorIndex rewoundIndex;
+    private long rewoundTick = -1L;
+
+    private IntArray testedBuckets;
+    private RayBoxKernel kernel;
+
+    /**
+     * Result
+     */
+    private int hit;
+    private float distance;
+    private int actor;
+    private int cellX;
+    private int cellY;
+
+    /**
+     * Constructor for a hitscan resolver.
+     *
+     * @param world : the world whose walls and actors are hit
+     */
+    public HitscanResolver(World world) {
+        this.world = world;
+        this.store = world.getActorStore();
+        this.index = world.getActorIndex();
+
+        boundsX = store.x;
+        boundsY = store.y;
+
+        testedBuckets = new IntArray();
+        kernel = new RayBoxKernel();
+    }
+
+    /**
+     * Makes the next shots be checked against where the actors were at the end of a past tick. The current tick,
+     * or a tick the history no longer remembers, is checked against where the actors are now.
+     *
+     * @param tick : the tick
+     */
+    public void rewind(long tick) {
+        BoundsHistory history = world.getBoundsHistory();
+
+        if (tick >= world.getTick() || !history.contains(tick)) {
+            index = world.getActorIndex();
+            boundsX = store.x;
+            boundsY = store.y;
+            boundsOffset = 0;
+
+            return;
+        }
+
+        if (rewoundIndex == null) {
+            rewoundIndex = new ActorIndex(world.getMapWidth(), world.getMapHeight());
+        }
+
+        // The index is only rebuilt when the tick changes, which the bullets of a tick rarely do
+        if (tick != rewoundTick) {
+            rewoundIndex.rebuild(history, tick);
+            rewoundTick = tick;
+        }
+
+        index = rewoundIndex;
+        boundsX = history.getX();
+        boundsY = history.getY();
+        boundsOffset = history.getOffset(tick);
+    }
+
+    /**
+     * Resolves a shot, finding the first wall or actor it hits within range.
+     *
+     * @param x           : the X coordinate of the origin
+     * @param y           : the Y coordinate of the origin
+     * @param dx          : the X component of the direction
+     * @param dy          : the Y component of the direction
+     * @param maxDistance : the range of the shot
+     * @param shooter     : the slot of the actor shooting, who cannot be hit
+     * @return the kind of hit (NONE, WALL or ACTOR)
+     */
+    public int resolve(float x, float y, float dx, float dy, float maxDistance, int shooter) {
+        return resolve(x, y, dx, dy, maxDistance, shooter, -1);
+    }
+
+    /**
+     * Resolves a shot, finding the first wall or actor it hits within range, ignoring an actor it already went
+     * through.
+     *
+     * @param x           : the X coordinate of the origin
+     * @param y           : the Y coordinate of the origin
+     * @param dx          : the X component of the direction
+     * @param dy          : the Y component of the direction
+     * @param maxDistance : the range of the shot
+     * @param shooter     : the slot of the actor shooting, who cannot be hit
+     * @param ignored     : the slot of another actor that cannot be hit, -1 if none
+     * @return the kind of hit (NONE, WALL or ACTOR)
+     */
+    public int resolve(float x, float y, float dx, float dy, float maxDistance, int shooter, int ignored) {
+        float length = (float) Math.sqrt(dx * dx + dy * dy);
+
+        hit = NONE;
+        distance = maxDistance;
+        actor = -1;
+
+        if (length == 0f) {
+            return hit;
+        }
+
+        dx /= length;
+        dy /= length;
+
+        testedBuckets.clear();
+        kernel.clear();
+
+        walk(x, y, dx, dy, true, shooter, ignored);
+
+        // An actor in front of the wall is hit instead
+        int victim = kernel.findNearest(x, y, dx, dy, distance);
+
+        if (victim >= 0) {
+            hit = ACTOR;
+            distance = kernel.getNearestDistance();
+            actor = victim;
+        }
+
+        return hit;
+    }
+
+    /**
+     * Finds the first wall between two points, going through the actors. This is how explosions check that a wall
+     * shields an actor.
+     *
+     * @param x   : the X coordinate of the first point
+     * @param y   : the Y coordinate of the first point
+     * @param toX : the X coordinate of the second point
+     * @param toY : the Y coordinate of the second point
+     * @return the kind of hit (NONE or WALL)
+     */
+    public int castWall(float x, float y, float toX, float toY) {
+        float dx = toX - x;
+        float dy = toY - y;
+        float length = (float) Math.sqrt(dx * dx + dy * dy);
+
+        hit = NONE;
+        distance = length;
+        actor = -1;
+
+        if (length == 0f) {
+            return hit;
+        }
+
+        walk(x, y, dx / length, dy / length, false, -1, -1);
+
+        return hit;
+    }
+
+    /**
+     * Walks a ray through the grid up to the distance of the result, stopping at the first wall, and gathering the
+     * actors on the way if asked to.
+     */
+    private void walk(float x, float y, float dx, float dy, boolean gather, int shooter, int ignored) {
+        int cx = (int) Math.floor(x);
+        int cy = (int) Math.floor(y);
+
+        int stepX = dx > 0 ? 1 : -1;
+        int stepY = dy > 0 ? 1 : -1;
+
+        float deltaX = dx != 0 ? Math.abs(1f / dx) : Float.MAX_VALUE;
+        float deltaY = dy != 0 ? Math.abs(1f / dy) : Float.MAX_VALUE;
+
+        float nextX = dx != 0 ? (dx > 0 ? cx + 1 - x : x - cx) * deltaX : Float.MAX_VALUE;
+        float nextY = dy != 0 ? (dy > 0 ? cy + 1 - y : y - cy) * deltaY : Float.MAX_VALUE;
+
+        // Distance at which the ray enters the current cell
+        float t = 0f;
+
+        while (t <= distance) {
+            if (gather) {
+                gatherActors(cx, cy, shooter, ignored);
+            }
+
+            if (world.isWall(cx, cy)) {
+                hit = WALL;
+                distance = t;
+                cellX = cx;
+                cellY = cy;
+
+                break;
+            }
+
+            if (nextX < nextY) {
+                t = nextX;
+                nextX += deltaX;
+                cx += stepX;
+            } else {
+                t = nextY;
+                nextY += deltaY;
+                cy += stepY;
+            }
+        }
+    }
+
+    /**
+     * Gathers the actors of the buckets around a cell that were not gathered yet. The buckets of the neighbouring
+     * cells are included since an actor's bounds can stick out of its bucket.
+     */
+    private void gatherActors(int cx, int cy, int shooter, int ignored) {
+        int minX = Math.max(0, (cx - 1) / ActorIndex.BUCKET_SIZE);
+        int maxX = Math.min(index.getBucketsX() - 1, (cx + 1) / ActorIndex.BUCKET_SIZE);
+        int minY = Math.max(0, (cy - 1) / ActorIndex.BUCKET_SIZE);
+        int maxY = Math.min(index.getBucketsY() - 1, (cy + 1) / ActorIndex.BUCKET_SIZE);
+
+        for (int by = minY; by <= maxY; by++) {
+            for (int bx = minX; bx <= maxX; bx++) {
+                int bucket = by * index.getBucketsX() + bx;
+
+                if (testedBuckets.contains(bucket)) {
+                    continue;
+                }
+
+                testedBuckets.add(bucket);
+
+                for (int i = index.getBucketStart(bucket); i < index.getBucketEnd(bucket); i++) {
+                    int id = index.getSlot(i);
+
+                    if (id == shooter || id == ignored || !store.isAlive(id)) {
+                        continue;
+                    }
+
+                    float x = boundsX[boundsOffset + id];
+                    float y = boundsY[boundsOffset + id];
+
+                    kernel.add(id, x, y, x + Actor.BOUNDS_SIZE, y + Actor.BOUNDS_SIZE);
+                }
+            }
+        }
+    }
+
+    /**
+     * Getters and Setters
+     */
+    public int getHit() {
+        return hit;
+    }
+
+    /**
+     * Returns the distance from the origin to the hit, or the range of the shot if nothing was hit.
+     *
+     * @return the distance, in cells
+     */
+    public float getDistance() {
+        return distance;
+    }
+
+    public int getActor() {
+        return actor;
+    }
+
+    public int getCellX() {
+        return cellX;
+    }
+
+    public int getCellY() {
+        return cellY;
+    }
+
+}
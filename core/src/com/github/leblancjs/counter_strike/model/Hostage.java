@@ -1,9 +1,6 @@
 package com.github.leblancjs.counter_strike.model;
 
-import java.util.Random;
-
 import com.badlogic.gdx.math.Vector2;
-import com.github.leblancjs.counter_strike.model.Weapon.WeaponType;
 
 public class Hostage extends Actor {
 
@@ -12,22 +9,21 @@ public class Hostage extends Actor {
     /**
      * Constructor class for a hostage. This will create a new actor at the given position.
      *
+     * @param store    : the store holding the actor's state
+     * @param weapons  : the weapon table, giving the weapon the actor spawns with
+     * @param random   : the random numbers of the match, picking the actor's body
      * @param position : the start position
      */
-    public Hostage(Vector2 position) {
-        super(position, false);
+    public Hostage(ActorStore store, WeaponTable weapons, MatchRandom random, Vector2 position) {
+        super(store, ActorType.HOSTAGE, position, false);
 
         rescued = false;
 
-        // Type
-        type = ActorType.HOSTAGE;
-
         // Body
-        Random random = new Random();
         body = random.nextInt(BODY_H_COUNT);
 
         // Weapon
-        weapon = new Weapon(WeaponType.NONE);
+        weapon = new Weapon(weapons, weapons.getLoadout(ActorType.HOSTAGE));
     }
 
     public boolean isRescued() {
@@ -0,0 +1,21 @@
+package com.github.leblancjs.counter_strike.model;
+
+import java.nio.ByteBuffer;
+
+import com.badlogic.gdx.files.FileHandle;
+
+/**
+ * Loads the content of a compiled map into a buffer. Platforms that can memory map files provide their own loader
+ * so that opening a map does not read it.
+ */
+public interface MapBufferLoader {
+
+    /**
+     * Returns a buffer holding the content of the file, positioned at its start.
+     *
+     * @param file : the compiled map
+     * @return the buffer
+     */
+    ByteBuffer load(FileHandle file);
+
+}
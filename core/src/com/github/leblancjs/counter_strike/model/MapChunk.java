@@ -0,0 +1,131 @@
+package com.github.leblancjs.counter_strike.model;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Square region of the map that is paged in and out as a whole. It holds the occupancy of its cells, one row per
+ * int, and the collision rectangles of its walls, which are reused when the chunk is recycled for another region.
+ */
+public class MapChunk {
+
+    /**
+     * Constants
+     */
+    public final static int SIZE = 32;
+
+    private int chunkX;
+    private int chunkY;
+
+    private int[] rows = new int[SIZE];
+
+    private Rectangle[] cells = new Rectangle[SIZE * SIZE];
+    private Array<Rectangle> walls = new Array<Rectangle>();
+
+    private long lastUsed;
+
+    /**
+     * Set once the chunk is filled, so that the threads reading it see its cells.
+     */
+    private volatile boolean loaded;
+
+    /**
+     * Fills the chunk with the given region of the map.
+     *
+     * @param source : the map source
+     * @param chunkX : the X position of the region, in chunks
+     * @param chunkY : the Y position of the region, in chunks
+     */
+    void load(MapSource source, int chunkX, int chunkY) {
+        this.chunkX = chunkX;
+        this.chunkY = chunkY;
+
+        walls.clear();
+
+        int startX = chunkX * SIZE;
+        int startY = chunkY * SIZE;
+        int endX = Math.min(startX + SIZE, source.getWidth());
+        int endY = Math.min(startY + SIZE, source.getHeight());
+
+        for (int y = 0; y < SIZE; y++) {
+            int row = 0;
+
+            for (int x = 0; x < SIZE; x++) {
+                int index = y * SIZE + x;
+
+                if (startX + x < endX && startY + y < endY && source.isWall(startX + x, startY + y)) {
+                    row |= 1 << x;
+
+                    if (cells[index] == null) {
+                        cells[index] = new Rectangle();
+                    }
+
+                    cells[index].set(startX + x, startY + y, World.WALL_SIZE, World.WALL_SIZE);
+
+                    walls.add(cells[index]);
+                }
+            }
+
+            rows[y] = row;
+        }
+
+        loaded = true;
+    }
+
+    /**
+     * Marks the chunk as free to be filled with another region.
+     */
+    void unload() {
+        loaded = false;
+    }
+
+    /**
+     * Returns whether the given cell of the chunk is a wall.
+     *
+     * @param x : the X position of the cell within the chunk
+     * @param y : the Y position of the cell within the chunk
+     * @return TRUE if the cell is a wall, FALSE otherwise
+     */
+    public boolean isWall(int x, int y) {
+        return (rows[y] & (1 << x)) != 0;
+    }
+
+    /**
+     * Returns the collision rectangle of the given cell of the chunk, or null if it is not a wall.
+     *
+     * @param x : the X position of the cell within the chunk
+     * @param y : the Y position of the cell within the chunk
+     * @return the collision rectangle of the wall
+     */
+    public Rectangle getWall(int x, int y) {
+        return isWall(x, y) ? cells[y * SIZE + x] : null;
+    }
+
+    /**
+     * Getters and Setters
+     */
+    public int getChunkX() {
+        return chunkX;
+    }
+
+    public int getChunkY() {
+        return chunkY;
+    }
+
+    public Array<Rectangle> getWalls() {
+        return walls;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    long getLastUsed() {
+        return lastUsed;
+    }
+
+    void setLastUsed(long lastUsed) {
+        this.lastUsed = lastUsed;
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.github.leblancjs.counter_strike.model;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Source from which the chunks of a map are paged in. A source only has to be able to read the cells of a region
+ * of the map, so that the map never has to be scanned whole.
+ */
+public interface MapSource {
+
+    /**
+     * Zone Kinds
+     */
+    int ZONE_COUNTER_TERRORIST_SPAWN = 0;
+    int ZONE_TERRORIST_SPAWN = 1;
+    int ZONE_HOSTAGE_SPAWN = 2;
+    int ZONE_RESCUE = 3;
+
+    /**
+     * Names of the zone kinds, as set on the objects of the map's "Spawns" layer
+     */
+    String[] ZONE_NAMES = {"ct_spawn", "t_spawn", "hostage_spawn", "rescue_zone"};
+
+    /**
+     * Returns the width of the map, in cells.
+     *
+     * @return the width of the map
+     */
+    int getWidth();
+
+    /**
+     * Returns the height of the map, in cells.
+     *
+     * @return the height of the map
+     */
+    int getHeight();
+
+    /**
+     * Returns whether the given cell is a wall. The cell is always within the map.
+     *
+     * @param x : the X position of the cell
+     * @param y : the Y position of the cell
+     * @return TRUE if the cell is a wall, FALSE otherwise
+     */
+    boolean isWall(int x, int y);
+
+    /**
+     * Returns the zones of the given kind declared by the map.
+     *
+     * @param kind : the kind of zone (see the ZONE constants)
+     * @return the zones, in world coordinates, empty if the map declares none
+     */
+    Array<Rectangle> getZones(int kind);
+
+}
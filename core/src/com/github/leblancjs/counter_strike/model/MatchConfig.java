@@ -0,0 +1,160 @@
+package com.github.leblancjs.counter_strike.model;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+
+public class MatchConfig {
+
+    /**
+     * Default Map (path without extension, the compiled map is used when present)
+     */
+    public final static String MAP = "dust/dust";
+
+    /**
+     * Default Team Sizes
+     */
+    public final static int COUNTER_TERRORIST_COUNT = 1;
+    public final static int TERRORIST_COUNT = 4;
+    public final static int HOSTAGE_COUNT = 3;
+
+    /**
+     * Default Perception Rate (times per second an AI controlled actor senses)
+     */
+    public final static float PERCEPTION_RATE = 10f;
+
+    private String map;
+
+    /**
+     * Team Sizes (the player is not included in the counter-terrorist count)
+     */
+    private int counterTerroristCount;
+    private int terroristCount;
+    private int hostageCount;
+
+    /**
+     * Spawn Regions (in world coordinates). When a team has no region, the ones declared by the map are used.
+     */
+    private Array<Rectangle> counterTerroristSpawns;
+    private Array<Rectangle> terroristSpawns;
+    private Array<Rectangle> hostageSpawns;
+
+    private float perceptionRate;
+
+    /**
+     * Whether bullets travel as projectiles instead of hitting instantly
+     */
+    private boolean projectiles;
+
+    /**
+     * Seed of the match's random numbers: matches with the same seed and configuration play out the same way
+     */
+    private long seed;
+
+    /**
+     * Constructor for the configuration of a standard match.
+     */
+    public MatchConfig() {
+        this(COUNTER_TERRORIST_COUNT, TERRORIST_COUNT, HOSTAGE_COUNT);
+    }
+
+    /**
+     * Constructor for the configuration of a match with the given team sizes.
+     *
+     * @param counterTerroristCount : the number of counter-terrorists besides the player
+     * @param terroristCount        : the number of terrorists
+     * @param hostageCount          : the number of hostages
+     */
+    public MatchConfig(int counterTerroristCount, int terroristCount, int hostageCount) {
+        this.map = MAP;
+        this.counterTerroristCount = counterTerroristCount;
+        this.terroristCount = terroristCount;
+        this.hostageCount = hostageCount;
+        this.perceptionRate = PERCEPTION_RATE;
+        this.seed = System.currentTimeMillis();
+
+        counterTerroristSpawns = new Array<Rectangle>();
+        terroristSpawns = new Array<Rectangle>();
+        hostageSpawns = new Array<Rectangle>();
+    }
+
+    /**
+     * Returns the total number of actors in the match, player included.
+     *
+     * @return the number of actors
+     */
+    public int getActorCount() {
+        return 1 + counterTerroristCount + terroristCount + hostageCount;
+    }
+
+    /**
+     * Getters and Setters
+     */
+    public String getMap() {
+        return map;
+    }
+
+    public void setMap(String map) {
+        this.map = map;
+    }
+
+    public int getCounterTerroristCount() {
+        return counterTerroristCount;
+    }
+
+    public void setCounterTerroristCount(int counterTerroristCount) {
+        this.counterTerroristCount = counterTerroristCount;
+    }
+
+    public int getTerroristCount() {
+        return terroristCount;
+    }
+
+    public void setTerroristCount(int terroristCount) {
+        this.terroristCount = terroristCount;
+    }
+
+    public int getHostageCount() {
+        return hostageCount;
+    }
+
+    public void setHostageCount(int hostageCount) {
+        this.hostageCount = hostageCount;
+    }
+
+    public Array<Rectangle> getCounterTerroristSpawns() {
+        return counterTerroristSpawns;
+    }
+
+    public Array<Rectangle> getTerroristSpawns() {
+        return terroristSpawns;
+    }
+
+    public Array<Rectangle> getHostageSpawns() {
+        return hostageSpawns;
+    }
+
+    public float getPerceptionRate() {
+        return perceptionRate;
+    }
+
+    public void setPerceptionRate(float perceptionRate) {
+        this.perceptionRate = perceptionRate;
+    }
+
+    public boolean isProjectiles() {
+        return projectiles;
+    }
+
+    public void setProjectiles(boolean projectiles) {
+        this.projectiles = projectiles;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.github.leblancjs.counter_strike.model;
+
+/**
+ * The random numbers of a match (SplitMix64). The world seeds one from the match configuration, and everything
+ * that needs random numbers gets its own stream split from it, in a deterministic order, so that a match played
+ * again with the same seed and configuration plays out the same way.
+ * <p>
+ * Drawing a number only updates a long, so it does not allocate anything. A stream is not thread-safe: code run
+ * in parallel uses one stream per entity rather than a shared one, which also keeps the numbers each entity draws
+ * independent from how the entities are spread across threads.
+ */
+public class MatchRandom {
+
+    /**
+     * Constants
+     */
+    private final static long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private final static float FLOAT_UNIT = 1f / (1 << 24);
+
+    private long seed;
+    private long gamma;
+
+    /**
+     * Constructor for the random numbers of a match.
+     *
+     * @param seed : the seed
+     */
+    public MatchRandom(long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    private MatchRandom(long seed, long gamma) {
+        this.seed = seed;
+        this.gamma = gamma;
+    }
+
+    /**
+     * Returns a new stream of random numbers, independent from this one.
+     *
+     * @return the stream
+     */
+    public MatchRandom split() {
+        return new MatchRandom(nextLong(), mixGamma(nextLong()));
+    }
+
+    /**
+     * Returns a random long.
+     *
+     * @return the long
+     */
+    public long nextLong() {
+        seed += gamma;
+
+        return mix64(seed);
+    }
+
+    /**
+     * Returns a random int between 0 (included) and a bound (excluded).
+     *
+     * @param bound : the bound, which must be positive
+     * @return the int
+     */
+    public int nextInt(int bound) {
+        // 31 random bits scaled to the bound
+        return (int) (((nextLong() >>> 33) * bound) >>> 31);
+    }
+
+    /**
+     * Returns a random float between 0 (included) and 1 (excluded).
+     *
+     * @return the float
+     */
+    public float nextFloat() {
+        return (nextLong() >>> 40) * FLOAT_UNIT;
+    }
+
+    /**
+     * Returns a random float between two bounds.
+     *
+     * @param min : the lower bound (included)
+     * @param max : the upper bound (excluded)
+     * @return the float
+     */
+    public float nextFloat(float min, float max) {
+        return min + nextFloat() * (max - min);
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Returns an odd gamma with enough bit transitions to keep the split streams apart.
+     */
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        z = (z ^ (z >>> 33)) | 1L;
+
+        return Long.bitCount(z ^ (z >>> 1)) < 24 ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+    }
+
+}
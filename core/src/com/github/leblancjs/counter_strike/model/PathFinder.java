@@ -1,7 +1,11 @@
 package com.github.leblancjs.counter_strike.model;
 
+import java.util.Arrays;
+
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
 
 public class PathFinder {
 
@@ -19,20 +23,45 @@ public class PathFinder {
     }
 
     /**
-     * Returns the best path to reach the end point.
+     * Returns the best path to reach the end point. When the map has baked clusters and the points are in different
+     * clusters, the path is first planned across the clusters' entrances (HPA*), then refined between them.
      *
      * @param start : the start point
      * @param end   : the end point
      * @return the best path to the end point
      */
     public Path getPath(Vector2 start, Vector2 end) {
-        float[][] heuristics = getHeuristics(end);
+        BakedMap baked = world.getBakedMap();
+
+        if (baked != null) {
+            int from = baked.getCluster((int) start.x, (int) start.y);
+            int to = baked.getCluster((int) end.x, (int) end.y);
+
+            if (from != to) {
+                Array<Vector2> waypoints = getAbstractPath(baked, start, end, from, to);
+
+                if (waypoints != null) {
+                    return refinePath(waypoints);
+                }
+            }
+        }
 
+        return getGridPath(start, end);
+    }
+
+    /**
+     * Returns the best path to reach the end point, searching the grid cell by cell.
+     *
+     * @param start : the start point
+     * @param end   : the end point
+     * @return the best path to the end point
+     */
+    private Path getGridPath(Vector2 start, Vector2 end) {
         Array<PathNode> closed = new Array<PathNode>();
         Array<PathNode> open = new Array<PathNode>();
 
         // Create the start node
-        open.add(createNode(null, start.cpy(), heuristics));
+        open.add(createNode(null, start.cpy(), end));
 
         float heuristic = 1;
 
@@ -48,7 +77,7 @@ public class PathFinder {
 
             if (heuristic != 0) {
                 // Get adjacent nodes
-                Array<PathNode> neighbours = getNeighbours(parent, heuristics);
+                Array<PathNode> neighbours = getNeighbours(parent, end);
 
                 // Put them in the right list
                 for (PathNode node : neighbours) {
@@ -70,6 +99,177 @@ public class PathFinder {
         return new Path(tracePath(closed));
     }
 
+    /**
+     * Searches the graph of the baked clusters' entrances for the entrances to go through to reach the end point.
+     * The start and end points are linked to the entrances of their clusters for the search.
+     *
+     * @param baked : the baked map
+     * @param start : the start point
+     * @param end   : the end point
+     * @param from  : the cluster of the start point
+     * @param to    : the cluster of the end point
+     * @return the start point, the entrances and the end point, or null if the end point cannot be reached
+     */
+    private Array<Vector2> getAbstractPath(BakedMap baked, Vector2 start, Vector2 end, int from, int to) {
+        int nodeCount = baked.getNodeCount();
+        int startNode = nodeCount;
+        int endNode = nodeCount + 1;
+
+        int[] startCosts = getClusterDistances(baked, (int) start.x, (int) start.y, from);
+        int[] endCosts = getClusterDistances(baked, (int) end.x, (int) end.y, to);
+
+        float[] g = new float[nodeCount + 2];
+        int[] parents = new int[nodeCount + 2];
+        boolean[] closed = new boolean[nodeCount + 2];
+
+        Arrays.fill(g, Float.MAX_VALUE);
+
+        NodeHeap open = new NodeHeap();
+
+        g[startNode] = 0f;
+        parents[startNode] = -1;
+        open.push(startNode, 0f);
+
+        while (open.size() > 0) {
+            int node = open.pop();
+
+            if (closed[node]) {
+                continue;
+            }
+
+            closed[node] = true;
+
+            if (node == endNode) {
+                break;
+            }
+
+            if (node == startNode) {
+                for (int next = baked.getFirstNode(from); next < baked.getLastNode(from); next++) {
+                    int cost = getClusterCost(baked, startCosts, next, from);
+
+                    if (cost >= 0) {
+                        relax(baked, open, g, parents, node, next, cost, end);
+                    }
+                }
+            } else {
+                for (int edge = baked.getFirstEdge(node); edge < baked.getLastEdge(node); edge++) {
+                    relax(baked, open, g, parents, node, baked.getEdgeTarget(edge), baked.getEdgeCost(edge), end);
+                }
+
+                if (node >= baked.getFirstNode(to) && node < baked.getLastNode(to)) {
+                    int cost = getClusterCost(baked, endCosts, node, to);
+
+                    if (cost >= 0) {
+                        relax(baked, open, g, parents, node, endNode, cost, end);
+                    }
+                }
+            }
+        }
+
+        if (!closed[endNode]) {
+            return null;
+        }
+
+        // Trace the waypoints back from the end
+        Array<Vector2> waypoints = new Array<Vector2>();
+
+        for (int node = endNode; node >= 0; node = parents[node]) {
+            if (node == endNode) {
+                waypoints.add(new Vector2((int) end.x, (int) end.y));
+            } else if (node == startNode) {
+                waypoints.add(new Vector2((int) start.x, (int) start.y));
+            } else {
+                waypoints.add(new Vector2(baked.getNodeX(node), baked.getNodeY(node)));
+            }
+        }
+
+        waypoints.reverse();
+
+        return waypoints;
+    }
+
+    private void relax(BakedMap baked, NodeHeap open, float[] g, int[] parents, int node, int next, float cost, Vector2 end) {
+        float score = g[node] + cost;
+
+        if (score < g[next]) {
+            g[next] = score;
+            parents[next] = node;
+
+            // The end node is past the entrances, so its heuristic is zero
+            float h = next < baked.getNodeCount() ? Math.abs(end.x - baked.getNodeX(next)) + Math.abs(end.y - baked.getNodeY(next)) : 0f;
+
+            open.push(next, score + h);
+        }
+    }
+
+    /**
+     * Returns the walking distances from the given cell to every cell of its cluster, -1 where it cannot walk.
+     */
+    private int[] getClusterDistances(BakedMap baked, int x, int y, int cluster) {
+        int minX = baked.getClusterMinX(cluster);
+        int minY = baked.getClusterMinY(cluster);
+        int maxX = baked.getClusterMaxX(cluster);
+        int maxY = baked.getClusterMaxY(cluster);
+        int size = baked.getClusterSize();
+
+        int[] distances = new int[size * size];
+        Arrays.fill(distances, -1);
+
+        if (!baked.isWalkable(x, y)) {
+            return distances;
+        }
+
+        IntArray queue = new IntArray();
+
+        distances[(y - minY) * size + (x - minX)] = 0;
+        queue.add(y * baked.getWidth() + x);
+
+        for (int head = 0; head < queue.size; head++) {
+            int cx = queue.get(head) % baked.getWidth();
+            int cy = queue.get(head) / baked.getWidth();
+            int distance = distances[(cy - minY) * size + (cx - minX)];
+
+            for (int d = 0; d < 4; d++) {
+                int nx = cx + (d == 0 ? 1 : d == 1 ? -1 : 0);
+                int ny = cy + (d == 2 ? 1 : d == 3 ? -1 : 0);
+
+                if (nx < minX || nx > maxX || ny < minY || ny > maxY || !baked.isWalkable(nx, ny) ||
+                        distances[(ny - minY) * size + (nx - minX)] >= 0) {
+                    continue;
+                }
+
+                distances[(ny - minY) * size + (nx - minX)] = distance + 1;
+                queue.add(ny * baked.getWidth() + nx);
+            }
+        }
+
+        return distances;
+    }
+
+    private int getClusterCost(BakedMap baked, int[] distances, int node, int cluster) {
+        int x = baked.getNodeX(node) - baked.getClusterMinX(cluster);
+        int y = baked.getNodeY(node) - baked.getClusterMinY(cluster);
+
+        return distances[y * baked.getClusterSize() + x];
+    }
+
+    /**
+     * Joins the grid paths between consecutive waypoints into one path.
+     *
+     * @param waypoints : the waypoints, from the start point to the end point
+     * @return the path
+     */
+    private Path refinePath(Array<Vector2> waypoints) {
+        Array<PathNode> nodes = new Array<PathNode>();
+
+        // The next node of a path is its last one, so the legs are added from the end
+        for (int i = waypoints.size - 1; i > 0; i--) {
+            nodes.addAll(getGridPath(waypoints.get(i - 1), waypoints.get(i)).getNodes());
+        }
+
+        return new Path(nodes);
+    }
+
     /**
      * Returns the best path to take to reach the end point.
      *
@@ -92,19 +292,19 @@ public class PathFinder {
     /**
      * Creates a new node at the given position with a cost relative to the parent node (if not null).
      *
-     * @param parent     : the parent node (leave null if this is the first node of the path)
-     * @param position   : the position of the node
-     * @param heuristics : an array of heuristic values
+     * @param parent   : the parent node (leave null if this is the first node of the path)
+     * @param position : the position of the node
+     * @param end      : the end point
      * @return a new node
      */
-    private PathNode createNode(PathNode parent, Vector2 position, float[][] heuristics) {
+    private PathNode createNode(PathNode parent, Vector2 position, Vector2 end) {
         float cost = COST;
 
         if (parent != null) {
             cost += parent.getG();
         }
 
-        return new PathNode(position, parent, cost, heuristics[(int) position.y][(int) position.x]);
+        return new PathNode(position, parent, cost, getHeuristic(position, end));
     }
 
     /**
@@ -132,11 +332,11 @@ public class PathFinder {
     /**
      * Returns all the nodes neighboring the current position.
      *
-     * @param parent     : the parent node
-     * @param heuristics : array of heuristic values
+     * @param parent : the parent node
+     * @param end    : the end point
      * @return an array containing the neighboring nodes
      */
-    private Array<PathNode> getNeighbours(PathNode parent, float[][] heuristics) {
+    private Array<PathNode> getNeighbours(PathNode parent, Vector2 end) {
         Array<PathNode> neighbours = new Array<PathNode>();
 
         for (int x = -1; x <= 1; x++) {
@@ -152,8 +352,8 @@ public class PathFinder {
                     position.x += x;
                     position.y += y;
 
-                    if (world.getWallLayer().getCell((int) position.x, (int) world.convertY(position.y)) == null) {
-                        neighbours.add(createNode(parent, position, heuristics));
+                    if (!world.isWall((int) position.x, (int) position.y)) {
+                        neighbours.add(createNode(parent, position, end));
                     }
                 }
             }
@@ -184,21 +384,78 @@ public class PathFinder {
     }
 
     /**
-     * Calculates the heuristics for each node on the map according to the end point.
+     * Calculates the heuristic of a node according to the end point. It is computed when the node is created, rather
+     * than for the whole map up front, so that finding a path only touches the part of the map it explores.
      *
-     * @param end : the end point
-     * @return the heuristics for each node on the map
+     * @param position : the position of the node
+     * @param end      : the end point
+     * @return the heuristic of the node
+     */
+    private float getHeuristic(Vector2 position, Vector2 end) {
+        return Math.abs(end.x - (int) position.x) + Math.abs(end.y - (int) position.y);
+    }
+
+    /**
+     * Binary heap of graph nodes ordered by score. Nodes are pushed again when their score improves, and the stale
+     * entries are skipped once their node is closed.
      */
-    private float[][] getHeuristics(Vector2 end) {
-        float[][] heuristics = new float[world.getMapHeight()][world.getMapWidth()];
+    private static class NodeHeap {
 
-        for (int x = 0; x < world.getMapWidth(); x++) {
-            for (int y = 0; y < world.getMapHeight(); y++) {
-                heuristics[y][x] = Math.abs(end.x - x) + Math.abs(end.y - y);
+        private IntArray nodes = new IntArray();
+        private FloatArray scores = new FloatArray();
+
+        int size() {
+            return nodes.size;
+        }
+
+        void push(int node, float score) {
+            nodes.add(node);
+            scores.add(score);
+
+            int i = nodes.size - 1;
+
+            while (i > 0 && scores.get((i - 1) / 2) > scores.get(i)) {
+                swap(i, (i - 1) / 2);
+                i = (i - 1) / 2;
             }
         }
 
-        return heuristics;
+        int pop() {
+            int top = nodes.get(0);
+
+            swap(0, nodes.size - 1);
+            nodes.pop();
+            scores.pop();
+
+            int i = 0;
+
+            while (true) {
+                int smallest = i;
+                int left = i * 2 + 1;
+                int right = left + 1;
+
+                if (left < nodes.size && scores.get(left) < scores.get(smallest)) {
+                    smallest = left;
+                }
+
+                if (right < nodes.size && scores.get(right) < scores.get(smallest)) {
+                    smallest = right;
+                }
+
+                if (smallest == i) {
+                    return top;
+                }
+
+                swap(i, smallest);
+                i = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            nodes.swap(a, b);
+            scores.swap(a, b);
+        }
+
     }
 
 }
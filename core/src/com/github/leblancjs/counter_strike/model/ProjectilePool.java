@@ -0,0 +1,209 @@
+package com.github.leblancjs.counter_strike.model;
+
+/**
+ * The projectiles in flight, when bullets travel instead of hitting instantly. They are kept packed at the start
+ * of parallel arrays that only grow, so that spawning and removing projectiles does not allocate anything once
+ * the arrays are large enough: a removed projectile is replaced by the last one.
+ */
+public class ProjectilePool {
+
+    /**
+     * Constants
+     */
+    private final static int INITIAL_CAPACITY = 64;
+
+    /**
+     * Projectiles
+     */
+    private float[] x;
+    private float[] y;
+    private float[] directionX;
+    private float[] directionY;
+    private float[] traveled;
+    private float[] damages;
+    private int[] shooters;
+    private int[] weapons;
+    private int[] penetrations;
+    private int[] lastHits;
+
+    private int size;
+
+    /**
+     * Constructor for an empty pool.
+     */
+    public ProjectilePool() {
+        x = new float[0];
+        y = new float[0];
+        directionX = new float[0];
+        directionY = new float[0];
+        traveled = new float[0];
+        damages = new float[0];
+        shooters = new int[0];
+        weapons = new int[0];
+        penetrations = new int[0];
+        lastHits = new int[0];
+
+        resize(INITIAL_CAPACITY);
+    }
+
+    private void resize(int capacity) {
+        x = copy(x, capacity);
+        y = copy(y, capacity);
+        directionX = copy(directionX, capacity);
+        directionY = copy(directionY, capacity);
+        traveled = copy(traveled, capacity);
+        damages = copy(damages, capacity);
+        shooters = copy(shooters, capacity);
+        weapons = copy(weapons, capacity);
+        penetrations = copy(penetrations, capacity);
+        lastHits = copy(lastHits, capacity);
+    }
+
+    private float[] copy(float[] array, int capacity) {
+        float[] copy = new float[capacity];
+        System.arraycopy(array, 0, copy, 0, size);
+
+        return copy;
+    }
+
+    private int[] copy(int[] array, int capacity) {
+        int[] copy = new int[capacity];
+        System.arraycopy(array, 0, copy, 0, size);
+
+        return copy;
+    }
+
+    /**
+     * Launches a projectile.
+     *
+     * @param shooter     : the slot of the actor who fired it
+     * @param weapon      : the id of the weapon it was fired with
+     * @param px          : the X coordinate of its origin
+     * @param py          : the Y coordinate of its origin
+     * @param dx          : the X component of its normalized direction
+     * @param dy          : the Y component of its normalized direction
+     * @param damage      : the damage it does at close range
+     * @param penetration : the number of walls or actors it can go through
+     */
+    public void spawn(int shooter, int weapon, float px, float py, float dx, float dy, float damage, int penetration) {
+        if (size == x.length) {
+            resize(size * 2);
+        }
+
+        x[size] = px;
+        y[size] = py;
+        directionX[size] = dx;
+        directionY[size] = dy;
+        traveled[size] = 0f;
+        damages[size] = damage;
+        shooters[size] = shooter;
+        weapons[size] = weapon;
+        penetrations[size] = penetration;
+        lastHits[size] = -1;
+
+        size++;
+    }
+
+    /**
+     * Removes a projectile, moving the last one in its place.
+     *
+     * @param i : the projectile
+     */
+    public void remove(int i) {
+        int last = --size;
+
+        x[i] = x[last];
+        y[i] = y[last];
+        directionX[i] = directionX[last];
+        directionY[i] = directionY[last];
+        traveled[i] = traveled[last];
+        damages[i] = damages[last];
+        shooters[i] = shooters[last];
+        weapons[i] = weapons[last];
+        penetrations[i] = penetrations[last];
+        lastHits[i] = lastHits[last];
+    }
+
+    /**
+     * Moves a projectile forward along its direction.
+     *
+     * @param i        : the projectile
+     * @param distance : the distance to move it by
+     */
+    public void advance(int i, float distance) {
+        x[i] += directionX[i] * distance;
+        y[i] += directionY[i] * distance;
+        traveled[i] += distance;
+    }
+
+    /**
+     * Makes a projectile go through a wall or an actor, losing some of its power.
+     *
+     * @param i          : the projectile
+     * @param damageLoss : the share of its damage it loses
+     * @param actor      : the slot of the actor it goes through, -1 for a wall
+     * @return TRUE if it goes through, FALSE if it has no penetration left and stops
+     */
+    public boolean penetrate(int i, float damageLoss, int actor) {
+        if (penetrations[i] <= 0) {
+            return false;
+        }
+
+        penetrations[i]--;
+        damages[i] *= 1f - damageLoss;
+        lastHits[i] = actor;
+
+        return true;
+    }
+
+    /**
+     * Removes all the projectiles.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Getters and Setters
+     */
+    public int getSize() {
+        return size;
+    }
+
+    public float getX(int i) {
+        return x[i];
+    }
+
+    public float getY(int i) {
+        return y[i];
+    }
+
+    public float getDirectionX(int i) {
+        return directionX[i];
+    }
+
+    public float getDirectionY(int i) {
+        return directionY[i];
+    }
+
+    public float getTraveled(int i) {
+        return traveled[i];
+    }
+
+    public float getDamage(int i) {
+        return damages[i];
+    }
+
+    public int getShooter(int i) {
+        return shooters[i];
+    }
+
+    public int getWeapon(int i) {
+        return weapons[i];
+    }
+
+    public int getLastHit(int i) {
+        return lastHits[i];
+    }
+
+}
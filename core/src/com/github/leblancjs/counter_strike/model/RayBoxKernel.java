@@ -0,0 +1,174 @@
+package com.github.leblancjs.counter_strike.model;
+
+/**
+ * Batched intersection of rays with axis-aligned boxes. The boxes are laid out in parallel arrays and each ray is
+ * tested against all of them with the slab method, in a loop without branches over those arrays so that the JIT
+ * can run it with SIMD instructions where the platform has them; elsewhere it still runs as a plain loop.
+ * <p>
+ * The boxes are loaded once, then any number of rays can be tested against them. Distances are parametric: the
+ * directions are normalized, so a box hit at distance t is t units away from the ray's origin.
+ */
+public class RayBoxKernel {
+
+    /**
+     * Constants
+     */
+    private final static int INITIAL_CAPACITY = 16;
+
+    /**
+     * Boxes
+     */
+    private float[] minX;
+    private float[] minY;
+    private float[] maxX;
+    private float[] maxY;
+    private int[] ids;
+    private int size;
+
+    /**
+     * Distances at which the last ray enters and leaves each box
+     */
+    private float[] near;
+    private float[] far;
+
+    private float nearestDistance;
+
+    /**
+     * Constructor for an empty kernel.
+     */
+    public RayBoxKernel() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    private void allocate(int capacity) {
+        float[] newMinX = new float[capacity];
+        float[] newMinY = new float[capacity];
+        float[] newMaxX = new float[capacity];
+        float[] newMaxY = new float[capacity];
+        int[] newIds = new int[capacity];
+
+        if (minX != null) {
+            System.arraycopy(minX, 0, newMinX, 0, size);
+            System.arraycopy(minY, 0, newMinY, 0, size);
+            System.arraycopy(maxX, 0, newMaxX, 0, size);
+            System.arraycopy(maxY, 0, newMaxY, 0, size);
+            System.arraycopy(ids, 0, newIds, 0, size);
+        }
+
+        minX = newMinX;
+        minY = newMinY;
+        maxX = newMaxX;
+        maxY = newMaxY;
+        ids = newIds;
+
+        near = new float[capacity];
+        far = new float[capacity];
+    }
+
+    /**
+     * Removes all the boxes.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Adds a box.
+     *
+     * @param id      : what the box belongs to, returned when it is hit
+     * @param boxMinX : the X coordinate of the box's lower left corner
+     * @param boxMinY : the Y coordinate of the box's lower left corner
+     * @param boxMaxX : the X coordinate of the box's upper right corner
+     * @param boxMaxY : the Y coordinate of the box's upper right corner
+     */
+    public void add(int id, float boxMinX, float boxMinY, float boxMaxX, float boxMaxY) {
+        if (size == minX.length) {
+            allocate(size * 2);
+        }
+
+        minX[size] = boxMinX;
+        minY[size] = boxMinY;
+        maxX[size] = boxMaxX;
+        maxY[size] = boxMaxY;
+        ids[size] = id;
+
+        size++;
+    }
+
+    /**
+     * Returns the first box hit by a ray within the given distance.
+     *
+     * @param x           : the X coordinate of the ray's origin
+     * @param y           : the Y coordinate of the ray's origin
+     * @param dx          : the X component of the ray's normalized direction
+     * @param dy          : the Y component of the ray's normalized direction
+     * @param maxDistance : the distance up to which boxes are hit
+     * @return the id of the box hit, or -1 if there is none
+     */
+    public int findNearest(float x, float y, float dx, float dy, float maxDistance) {
+        // A zero component makes its slab infinite, which the divisions turn into infinities of the right sign
+        float inverseX = 1f / dx;
+        float inverseY = 1f / dy;
+
+        for (int i = 0; i < size; i++) {
+            float x1 = (minX[i] - x) * inverseX;
+            float x2 = (maxX[i] - x) * inverseX;
+            float y1 = (minY[i] - y) * inverseY;
+            float y2 = (maxY[i] - y) * inverseY;
+
+            near[i] = Math.max(Math.min(x1, x2), Math.min(y1, y2));
+            far[i] = Math.min(Math.max(x1, x2), Math.max(y1, y2));
+        }
+
+        int nearest = -1;
+        nearestDistance = maxDistance;
+
+        for (int i = 0; i < size; i++) {
+            float distance = Math.max(near[i], 0f);
+
+            // NaN (a ray on the edge of a slab) fails the comparisons and counts as a miss
+            if (distance <= far[i] && distance < nearestDistance) {
+                nearest = i;
+                nearestDistance = distance;
+            }
+        }
+
+        return nearest < 0 ? -1 : ids[nearest];
+    }
+
+    /**
+     * Finds the first box hit by each ray of a batch.
+     *
+     * @param x           : the X coordinates of the rays' origins
+     * @param y           : the Y coordinates of the rays' origins
+     * @param dx          : the X components of the rays' normalized directions
+     * @param dy          : the Y components of the rays' normalized directions
+     * @param maxDistance : the distance up to which boxes are hit
+     * @param count       : the number of rays
+     * @param hits        : the ids of the boxes hit, -1 where there is none
+     * @param distances   : the distances to the boxes hit
+     */
+    public void findNearest(float[] x, float[] y, float[] dx, float[] dy, float maxDistance, int count, int[] hits, float[] distances) {
+        for (int r = 0; r < count; r++) {
+            hits[r] = findNearest(x[r], y[r], dx[r], dy[r], maxDistance);
+            distances[r] = nearestDistance;
+        }
+    }
+
+    /**
+     * Getters and Setters
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the distance to the box found by the last search, or its maximum distance if none was hit.
+     *
+     * @return the distance
+     */
+    public float getNearestDistance() {
+        return nearestDistance;
+    }
+
+}
@@ -0,0 +1,17 @@
+package com.github.leblancjs.counter_strike.model;
+
+import java.nio.ByteBuffer;
+
+import com.badlogic.gdx.files.FileHandle;
+
+/**
+ * Map buffer loader reading the whole file into memory, which works on every platform.
+ */
+public class ReadingMapBufferLoader implements MapBufferLoader {
+
+    @Override
+    public ByteBuffer load(FileHandle file) {
+        return ByteBuffer.wrap(file.readBytes());
+    }
+
+}
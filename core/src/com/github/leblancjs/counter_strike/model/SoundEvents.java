@@ -0,0 +1,121 @@
+package com.github.leblancjs.counter_strike.model;
+
+/**
+ * The sounds emitted during a tick (gunshots, deaths, explosions), waiting to be heard. They are kept in parallel
+ * arrays that only grow, and cleared once heard.
+ */
+public class SoundEvents {
+
+    /**
+     * Kinds
+     */
+    public final static int GUNSHOT = 0;
+    public final static int DEATH = 1;
+    public final static int EXPLOSION = 2;
+
+    /**
+     * Volumes, in cells walked before the sound fades out
+     */
+    public final static float GUNSHOT_VOLUME = 30f;
+    public final static float DEATH_VOLUME = 12f;
+    public final static float EXPLOSION_VOLUME = 40f;
+
+    private final static int INITIAL_CAPACITY = 16;
+
+    private int[] kinds;
+    private float[] x;
+    private float[] y;
+    private float[] volumes;
+    private int[] sources;
+
+    private int count;
+
+    /**
+     * Constructor for an empty list of sounds.
+     */
+    public SoundEvents() {
+        kinds = new int[INITIAL_CAPACITY];
+        x = new float[INITIAL_CAPACITY];
+        y = new float[INITIAL_CAPACITY];
+        volumes = new float[INITIAL_CAPACITY];
+        sources = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Emits a sound.
+     *
+     * @param kind   : the kind of sound
+     * @param px     : the X coordinate where it is emitted
+     * @param py     : the Y coordinate where it is emitted
+     * @param volume : the number of cells it can be heard through
+     * @param source : the slot of the actor emitting it
+     */
+    public synchronized void emit(int kind, float px, float py, float volume, int source) {
+        if (count == kinds.length) {
+            resize(count * 2);
+        }
+
+        kinds[count] = kind;
+        x[count] = px;
+        y[count] = py;
+        volumes[count] = volume;
+        sources[count] = source;
+
+        count++;
+    }
+
+    private void resize(int capacity) {
+        int[] newKinds = new int[capacity];
+        float[] newX = new float[capacity];
+        float[] newY = new float[capacity];
+        float[] newVolumes = new float[capacity];
+        int[] newSources = new int[capacity];
+
+        System.arraycopy(kinds, 0, newKinds, 0, count);
+        System.arraycopy(x, 0, newX, 0, count);
+        System.arraycopy(y, 0, newY, 0, count);
+        System.arraycopy(volumes, 0, newVolumes, 0, count);
+        System.arraycopy(sources, 0, newSources, 0, count);
+
+        kinds = newKinds;
+        x = newX;
+        y = newY;
+        volumes = newVolumes;
+        sources = newSources;
+    }
+
+    /**
+     * Forgets the sounds, once they have been heard.
+     */
+    public void clear() {
+        count = 0;
+    }
+
+    /**
+     * Getters and Setters
+     */
+    public int getCount() {
+        return count;
+    }
+
+    public int getKind(int event) {
+        return kinds[event];
+    }
+
+    public float getX(int event) {
+        return x[event];
+    }
+
+    public float getY(int event) {
+        return y[event];
+    }
+
+    public float getVolume(int event) {
+        return volumes[event];
+    }
+
+    public int getSource(int event) {
+        return sources[event];
+    }
+
+}
@@ -0,0 +1,156 @@
+package com.github.leblancjs.counter_strike.model;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntMap;
+
+/**
+ * How far sounds travel through the map: the walking distance from a source cell to the cells around it, found by a
+ * breadth-first search that stops at the walls and at the range. Sounds go around walls, not through them.
+ * <p>
+ * Since the walls never move, the distances from a source cell are cached once computed. The cache holds a bounded
+ * number of source cells and forgets the oldest first.
+ */
+public class SoundMap {
+
+    /**
+     * Constants
+     */
+    public final static int RANGE = 32;
+    public final static int CACHE_SIZE = 256;
+
+    private final static short UNREACHED = -1;
+
+    private final static int[] DX = {1, -1, 0, 0};
+    private final static int[] DY = {0, 0, 1, -1};
+
+    private World world;
+
+    private int side;
+
+    private IntMap<short[]> cache;
+    private IntArray cacheOrder;
+
+    private IntArray queue;
+
+    /**
+     * Constructor for the sound map.
+     *
+     * @param world : the world whose walls stop the sounds
+     */
+    public SoundMap(World world) {
+        this.world = world;
+
+        side = RANGE * 2 + 1;
+
+        cache = new IntMap<short[]>(CACHE_SIZE);
+        cacheOrder = new IntArray(CACHE_SIZE);
+
+        queue = new IntArray(side * side);
+    }
+
+    /**
+     * Returns the walking distance from a source cell to another cell, -1 if the sound cannot reach it within
+     * range.
+     *
+     * @param sourceX : the X coordinate of the source cell
+     * @param sourceY : the Y coordinate of the source cell
+     * @param x       : the X coordinate of the cell
+     * @param y       : the Y coordinate of the cell
+     * @return the distance, in cells
+     */
+    public int getDistance(int sourceX, int sourceY, int x, int y) {
+        int dx = x - sourceX;
+        int dy = y - sourceY;
+
+        if (dx < -RANGE || dx > RANGE || dy < -RANGE || dy > RANGE) {
+            return -1;
+        }
+
+        return getDistances(sourceX, sourceY)[(dy + RANGE) * side + dx + RANGE];
+    }
+
+    /**
+     * Returns the loudness of a sound once it has reached a cell: its volume minus the distance it walked, zero or
+     * less when it cannot be heard there.
+     *
+     * @param sourceX : the X coordinate of the source cell
+     * @param sourceY : the Y coordinate of the source cell
+     * @param volume  : the volume of the sound, in cells
+     * @param x       : the X coordinate of the cell
+     * @param y       : the Y coordinate of the cell
+     * @return the loudness
+     */
+    public float getLoudness(int sourceX, int sourceY, float volume, int x, int y) {
+        int distance = getDistance(sourceX, sourceY, x, y);
+
+        return distance < 0 ? 0f : volume - distance;
+    }
+
+    private short[] getDistances(int sourceX, int sourceY) {
+        int key = sourceY * world.getMapWidth() + sourceX;
+
+        short[] distances = cache.get(key);
+
+        if (distances == null) {
+            // Forget the oldest source, reusing its distances
+            if (cacheOrder.size >= CACHE_SIZE) {
+                distances = cache.remove(cacheOrder.removeIndex(0));
+            } else {
+                distances = new short[side * side];
+            }
+
+            spread(distances, sourceX, sourceY);
+
+            cache.put(key, distances);
+            cacheOrder.add(key);
+        }
+
+        return distances;
+    }
+
+    private void spread(short[] distances, int sourceX, int sourceY) {
+        for (int i = 0; i < distances.length; i++) {
+            distances[i] = UNREACHED;
+        }
+
+        queue.clear();
+
+        if (world.isWall(sourceX, sourceY)) {
+            return;
+        }
+
+        int origin = RANGE * side + RANGE;
+
+        distances[origin] = 0;
+        queue.add(origin);
+
+        for (int head = 0; head < queue.size; head++) {
+            int cell = queue.get(head);
+            int cx = cell % side;
+            int cy = cell / side;
+
+            if (distances[cell] >= RANGE) {
+                continue;
+            }
+
+            for (int d = 0; d < 4; d++) {
+                int nx = cx + DX[d];
+                int ny = cy + DY[d];
+
+                if (nx < 0 || nx >= side || ny < 0 || ny >= side) {
+                    continue;
+                }
+
+                int next = ny * side + nx;
+
+                if (distances[next] != UNREACHED || world.isWall(sourceX + nx - RANGE, sourceY + ny - RANGE)) {
+                    continue;
+                }
+
+                distances[next] = (short) (distances[cell] + 1);
+                queue.add(next);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,265 @@
+package com.github.leblancjs.counter_strike.model;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+
+/**
+ * Hands out spawn slots from zones. The slots of each zone are baked once, when the zone is added, by Poisson-disk
+ * sampling (Bridson's algorithm) so that no two slots are close enough for the actors standing on them to
+ * overlap, and no slot overlaps a wall. Since the samples cannot grow across walls, every area of the zone cut off
+ * from the others gets its own seed. The slots are then shuffled and handed out in order: spawning is constant
+ * time per actor and simply fails once every zone is full.
+ */
+public class SpawnAllocator {
+
+    /**
+     * Minimum distance between two slots (on each axis), which keeps the actors' bounds apart.
+     */
+    private final static float SPACING = Actor.SIZE;
+
+    /**
+     * Number of candidates tried around an active sample before it is retired.
+     */
+    private final static int ATTEMPTS = 30;
+
+    private World world;
+    private MatchRandom random;
+
+    private Array<FloatArray> zones;
+    private int[] cursors;
+
+    /**
+     * Constructor for a spawn allocator.
+     *
+     * @param world  : the world, used to keep the slots clear of walls
+     * @param random : the random numbers used to sample and shuffle the slots
+     */
+    public SpawnAllocator(World world, MatchRandom random) {
+        this.world = world;
+        this.random = random;
+
+        zones = new Array<FloatArray>();
+        cursors = new int[0];
+    }
+
+    /**
+     * Bakes the slots of a new zone. The actors' positions (their lower left corner) will be within the zone,
+     * minus one unit on each axis so that they stand inside it.
+     *
+     * @param zone : the zone
+     * @return the index of the zone
+     */
+    public int addZone(Rectangle zone) {
+        FloatArray slots = sample(zone.x, zone.y, Math.max(0f, zone.width - 1f), Math.max(0f, zone.height - 1f));
+
+        shuffle(slots);
+
+        zones.add(slots);
+
+        int[] grown = new int[zones.size];
+        System.arraycopy(cursors, 0, grown, 0, cursors.length);
+        cursors = grown;
+
+        return zones.size - 1;
+    }
+
+    /**
+     * Takes the next free slot of the zone.
+     *
+     * @param zone     : the index of the zone
+     * @param position : set to the slot's position
+     * @return TRUE if a slot was free, FALSE if the zone is full
+     */
+    public boolean allocate(int zone, Vector2 position) {
+        FloatArray slots = zones.get(zone);
+        int cursor = cursors[zone];
+
+        if (cursor >= slots.size) {
+            return false;
+        }
+
+        position.set(slots.get(cursor), slots.get(cursor + 1));
+
+        cursors[zone] = cursor + 2;
+
+        return true;
+    }
+
+    /**
+     * Returns the number of slots of the zone that have not been handed out yet.
+     *
+     * @param zone : the index of the zone
+     * @return the number of free slots
+     */
+    public int getFreeSlots(int zone) {
+        return (zones.get(zone).size - cursors[zone]) / 2;
+    }
+
+    /**
+     * Samples the area with Bridson's algorithm, using the Chebyshev distance so that spacing the slots by the
+     * size of an actor is enough to keep the actors' bounds from overlapping.
+     *
+     * @param x      : the X position of the area
+     * @param y      : the Y position of the area
+     * @param width  : the width of the area
+     * @param height : the height of the area
+     * @return the slots, as X and Y pairs
+     */
+    private FloatArray sample(float x, float y, float width, float height) {
+        FloatArray slots = new FloatArray();
+
+        // Background grid whose cells can hold at most one slot
+        float cellSize = SPACING / 2f;
+        int columns = (int) (width / cellSize) + 1;
+        int rows = (int) (height / cellSize) + 1;
+
+        int[] grid = new int[columns * rows];
+
+        for (int i = 0; i < grid.length; i++) {
+            grid[i] = -1;
+        }
+
+        int[] active = new int[columns * rows];
+        int activeCount = 0;
+
+        // Initial sample
+        float sx = x + random.nextFloat() * width;
+        float sy = y + random.nextFloat() * height;
+
+        if (isClear(sx, sy)) {
+            active[activeCount++] = add(slots, grid, columns, x, y, cellSize, sx, sy);
+        }
+
+        // Walls split the zone into areas the samples cannot grow across, so each time the samples run out, the
+        // next clear cell of the background grid without a slot nearby seeds a new area
+        int seed = 0;
+
+        while (true) {
+            while (activeCount == 0 && seed < grid.length) {
+                sx = x + (seed % columns) * cellSize;
+                sy = y + (seed / columns) * cellSize;
+
+                if (sx <= x + width && sy <= y + height && isFarEnough(slots, grid, columns, rows, x, y, cellSize, sx, sy) && isClear(sx, sy)) {
+                    active[activeCount++] = add(slots, grid, columns, x, y, cellSize, sx, sy);
+                }
+
+                seed++;
+            }
+
+            if (activeCount == 0) {
+                break;
+            }
+
+            int index = random.nextInt(activeCount);
+            int slot = active[index];
+
+            float px = slots.get(slot * 2);
+            float py = slots.get(slot * 2 + 1);
+
+            boolean found = false;
+
+            for (int attempt = 0; attempt < ATTEMPTS && !found; attempt++) {
+                // Candidate within [SPACING, 2 * SPACING] of the sample
+                float dx = (random.nextFloat() * 4f - 2f) * SPACING;
+                float dy = (random.nextFloat() * 4f - 2f) * SPACING;
+
+                if (Math.abs(dx) < SPACING && Math.abs(dy) < SPACING) {
+                    continue;
+                }
+
+                float cx = px + dx;
+                float cy = py + dy;
+
+                if (cx < x || cy < y || cx > x + width || cy > y + height) {
+                    continue;
+                }
+
+                if (isFarEnough(slots, grid, columns, rows, x, y, cellSize, cx, cy) && isClear(cx, cy)) {
+                    active[activeCount++] = add(slots, grid, columns, x, y, cellSize, cx, cy);
+                    found = true;
+                }
+            }
+
+            if (!found) {
+                active[index] = active[--activeCount];
+            }
+        }
+
+        return slots;
+    }
+
+    private int add(FloatArray slots, int[] grid, int columns, float x, float y, float cellSize, float sx, float sy) {
+        int slot = slots.size / 2;
+
+        slots.add(sx);
+        slots.add(sy);
+
+        grid[(int) ((sy - y) / cellSize) * columns + (int) ((sx - x) / cellSize)] = slot;
+
+        return slot;
+    }
+
+    /**
+     * Returns whether the candidate is at least the spacing away from every slot, on at least one axis.
+     */
+    private boolean isFarEnough(FloatArray slots, int[] grid, int columns, int rows, float x, float y, float cellSize, float cx, float cy) {
+        int column = (int) ((cx - x) / cellSize);
+        int row = (int) ((cy - y) / cellSize);
+
+        for (int j = Math.max(0, row - 2); j <= Math.min(rows - 1, row + 2); j++) {
+            for (int i = Math.max(0, column - 2); i <= Math.min(columns - 1, column + 2); i++) {
+                int slot = grid[j * columns + i];
+
+                if (slot < 0) {
+                    continue;
+                }
+
+                if (Math.abs(slots.get(slot * 2) - cx) < SPACING && Math.abs(slots.get(slot * 2 + 1) - cy) < SPACING) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns whether an actor standing at the given position would be clear of the walls.
+     */
+    private boolean isClear(float px, float py) {
+        int startX = (int) Math.floor(px);
+        int startY = (int) Math.floor(py);
+        int endX = (int) Math.floor(px + Actor.BOUNDS_SIZE);
+        int endY = (int) Math.floor(py + Actor.BOUNDS_SIZE);
+
+        for (int cx = startX; cx <= endX; cx++) {
+            for (int cy = startY; cy <= endY; cy++) {
+                if (world.isWall(cx, cy)) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Shuffles the slots so that consecutive actors do not spawn next to each other.
+     */
+    private void shuffle(FloatArray slots) {
+        for (int i = slots.size / 2 - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+
+            float x = slots.get(i * 2);
+            float y = slots.get(i * 2 + 1);
+
+            slots.set(i * 2, slots.get(j * 2));
+            slots.set(i * 2 + 1, slots.get(j * 2 + 1));
+            slots.set(j * 2, x);
+            slots.set(j * 2 + 1, y);
+        }
+    }
+
+}
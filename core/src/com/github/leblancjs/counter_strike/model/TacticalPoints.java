@@ -0,0 +1,236 @@
+package com.github.leblancjs.counter_strike.model;
+
+/**
+ * The tactical points of a map (cover, choke and camping points found by the bake pipeline), with the angle they
+ * face and how exposed they are, indexed by buckets of cells for spatial queries. An actor claims a point while it
+ * uses it, so that the others look for another one. The claims are only changed serially, between the parallel
+ * passes that query the points, so that the queries read them without locking and which actor gets a point does
+ * not depend on how the actors are spread across threads.
+ * <p>
+ * The points are kept in parallel arrays, sorted by bucket, so that queries do not allocate anything.
+ */
+public class TacticalPoints {
+
+    /**
+     * Constants
+     */
+    public final static int BUCKET_SIZE = 8;
+    public final static int UNCLAIMED = -1;
+
+    /**
+     * Points
+     */
+    private int[] kinds;
+    private int[] x;
+    private int[] y;
+    private float[] angles;
+    private float[] exposures;
+    private int[] claimants;
+
+    /**
+     * Buckets: the points of bucket b are those from bucketStarts[b] to bucketStarts[b + 1]
+     */
+    private int bucketsX;
+    private int bucketsY;
+    private int[] bucketStarts;
+
+    /**
+     * Constructor for a map without tactical points.
+     *
+     * @param width  : the width of the map, in cells
+     * @param height : the height of the map, in cells
+     */
+    public TacticalPoints(int width, int height) {
+        this(width, height, 0);
+    }
+
+    /**
+     * Constructor for the tactical points baked for a map.
+     *
+     * @param baked : the baked data of the map
+     */
+    public TacticalPoints(BakedMap baked) {
+        this(baked.getWidth(), baked.getHeight(), baked.getPointCount());
+
+        // Counting sort of the points by bucket
+        int count = baked.getPointCount();
+
+        for (int i = 0; i < count; i++) {
+            bucketStarts[getBucket(baked.getPointX(i), baked.getPointY(i)) + 1]++;
+        }
+
+        for (int b = 0; b < bucketsX * bucketsY; b++) {
+            bucketStarts[b + 1] += bucketStarts[b];
+        }
+
+        int[] next = new int[bucketsX * bucketsY];
+        System.arraycopy(bucketStarts, 0, next, 0, next.length);
+
+        for (int i = 0; i < count; i++) {
+            int point = next[getBucket(baked.getPointX(i), baked.getPointY(i))]++;
+
+            kinds[point] = baked.getPointKind(i);
+            x[point] = baked.getPointX(i);
+            y[point] = baked.getPointY(i);
+            angles[point] = baked.getPointAngle(i);
+            exposures[point] = baked.getPointExposure(i);
+        }
+    }
+
+    private TacticalPoints(int width, int height, int count) {
+        kinds = new int[count];
+        x = new int[count];
+        y = new int[count];
+        angles = new float[count];
+        exposures = new float[count];
+        claimants = new int[count];
+
+        for (int i = 0; i < count; i++) {
+            claimants[i] = UNCLAIMED;
+        }
+
+        bucketsX = Math.max(1, (width + BUCKET_SIZE - 1) / BUCKET_SIZE);
+        bucketsY = Math.max(1, (height + BUCKET_SIZE - 1) / BUCKET_SIZE);
+        bucketStarts = new int[bucketsX * bucketsY + 1];
+    }
+
+    private int getBucket(int cellX, int cellY) {
+        return (cellY / BUCKET_SIZE) * bucketsX + cellX / BUCKET_SIZE;
+    }
+
+    /**
+     * Returns the best point of the given kind within range that is not claimed by another actor and faces the
+     * given angle. The closer and the less exposed a point, the better: its distance is weighed by one plus its
+     * exposure.
+     *
+     * @param kind      : the kind of point (see BakedMap.POINT_*)
+     * @param px        : the X coordinate to search around
+     * @param py        : the Y coordinate to search around
+     * @param range     : the maximum distance to the point, in cells
+     * @param facing    : the angle the point should face, in degrees
+     * @param tolerance : the maximum difference between the point's angle and the one it should face, 180 for any
+     * @param claimant  : the actor searching, whose own claim does not count
+     * @return the point, or -1 if there is none
+     */
+    public int findNearest(int kind, float px, float py, float range, float facing, float tolerance, int claimant) {
+        int minX = Math.max(0, (int) (px - range) / BUCKET_SIZE);
+        int maxX = Math.min(bucketsX - 1, (int) (px + range) / BUCKET_SIZE);
+        int minY = Math.max(0, (int) (py - range) / BUCKET_SIZE);
+        int maxY = Math.min(bucketsY - 1, (int) (py + range) / BUCKET_SIZE);
+
+        int best = -1;
+        float bestScore = Float.MAX_VALUE;
+
+        for (int by = minY; by <= maxY; by++) {
+            for (int bx = minX; bx <= maxX; bx++) {
+                int bucket = by * bucketsX + bx;
+
+                for (int i = bucketStarts[bucket]; i < bucketStarts[bucket + 1]; i++) {
+                    if (kinds[i] != kind || (claimants[i] != UNCLAIMED && claimants[i] != claimant)) {
+                        continue;
+                    }
+
+                    float dx = x[i] - px;
+                    float dy = y[i] - py;
+                    float distance = (float) Math.sqrt(dx * dx + dy * dy);
+
+                    if (distance > range || getAngleDifference(angles[i], facing) > tolerance) {
+                        continue;
+                    }
+
+                    float score = distance * (1f + exposures[i]);
+
+                    if (score < bestScore) {
+                        best = i;
+                        bestScore = score;
+                    }
+                }
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Returns the difference between two angles, between 0 and 180 degrees.
+     */
+    private static float getAngleDifference(float a, float b) {
+        float difference = Math.abs(a - b) % 360f;
+
+        return difference > 180f ? 360f - difference : difference;
+    }
+
+    /**
+     * Claims a point for an actor, unless another actor has claimed it first.
+     *
+     * @param point    : the point
+     * @param claimant : the actor
+     * @return TRUE if the actor now holds the point, FALSE otherwise
+     */
+    public boolean claim(int point, int claimant) {
+        if (claimants[point] != UNCLAIMED && claimants[point] != claimant) {
+            return false;
+        }
+
+        claimants[point] = claimant;
+
+        return true;
+    }
+
+    /**
+     * Releases a point held by an actor.
+     *
+     * @param point    : the point
+     * @param claimant : the actor
+     */
+    public void release(int point, int claimant) {
+        if (claimants[point] == claimant) {
+            claimants[point] = UNCLAIMED;
+        }
+    }
+
+    /**
+     * Releases all the points held by an actor.
+     *
+     * @param claimant : the actor
+     */
+    public void releaseAll(int claimant) {
+        for (int i = 0; i < claimants.length; i++) {
+            if (claimants[i] == claimant) {
+                claimants[i] = UNCLAIMED;
+            }
+        }
+    }
+
+    /**
+     * Getters and Setters
+     */
+    public int getCount() {
+        return kinds.length;
+    }
+
+    public int getKind(int point) {
+        return kinds[point];
+    }
+
+    public int getX(int point) {
+        return x[point];
+    }
+
+    public int getY(int point) {
+        return y[point];
+    }
+
+    public float getAngle(int point) {
+        return angles[point];
+    }
+
+    public float getExposure(int point) {
+        return exposures[point];
+    }
+
+    public int getClaimant(int point) {
+        return claimants[point];
+    }
+
+}
@@ -0,0 +1,252 @@
+package com.github.leblancjs.counter_strike.model;
+
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * What a team knows about its enemies: where each one was last seen, when and by whom. The sightings of all the
+ * teammates that sensed during a tick are gathered once, so that each of them only has to consider the enemies
+ * the team currently sees instead of every actor of the world.
+ * <p>
+ * The entries are kept per enemy slot. The blackboard is written once per tick, between the perception passes,
+ * and only read during them.
+ */
+public class TeamBlackboard {
+
+    /**
+     * Time of an enemy that was never seen.
+     */
+    public final static float NEVER = -1f;
+
+    private int team;
+
+    private float time;
+
+    /**
+     * Sightings
+     */
+    private float[] lastX;
+    private float[] lastY;
+    private float[] lastSeen;
+    private int[] seenBy;
+    private long[] sightedTicks;
+    private boolean[] remembered;
+
+    private IntArray sighted;
+
+    /**
+     * Enemies sighted recently enough to be remembered, in the order they were first sighted
+     */
+    private IntArray recent;
+    private IntArray candidates;
+
+    /**
+     * Constructor for a team's blackboard.
+     *
+     * @param team     : the team
+     * @param capacity : the number of actors to make room for
+     */
+    public TeamBlackboard(Actor.ActorType team, int capacity) {
+        this.team = team.ordinal();
+
+        lastX = new float[0];
+        lastY = new float[0];
+        lastSeen = new float[0];
+        seenBy = new int[0];
+        sightedTicks = new long[0];
+        remembered = new boolean[0];
+
+        sighted = new IntArray();
+        recent = new IntArray();
+        candidates = new IntArray();
+
+        ensureCapacity(capacity);
+    }
+
+    /**
+     * Makes room for the given number of actors, keeping the sightings.
+     *
+     * @param capacity : the number of actors
+     */
+    public void ensureCapacity(int capacity) {
+        if (lastSeen.length >= capacity) {
+            return;
+        }
+
+        float[] newLastX = new float[capacity];
+        float[] newLastY = new float[capacity];
+        float[] newLastSeen = new float[capacity];
+        int[] newSeenBy = new int[capacity];
+        long[] newSightedTicks = new long[capacity];
+        boolean[] newRemembered = new boolean[capacity];
+
+        System.arraycopy(lastX, 0, newLastX, 0, lastX.length);
+        System.arraycopy(lastY, 0, newLastY, 0, lastY.length);
+        System.arraycopy(lastSeen, 0, newLastSeen, 0, lastSeen.length);
+        System.arraycopy(seenBy, 0, newSeenBy, 0, seenBy.length);
+        System.arraycopy(sightedTicks, 0, newSightedTicks, 0, sightedTicks.length);
+        System.arraycopy(remembered, 0, newRemembered, 0, remembered.length);
+
+        for (int id = lastSeen.length; id < capacity; id++) {
+            newLastSeen[id] = NEVER;
+            newSeenBy[id] = -1;
+            newSightedTicks[id] = -1L;
+        }
+
+        lastX = newLastX;
+        lastY = newLastY;
+        lastSeen = newLastSeen;
+        seenBy = newSeenBy;
+        sightedTicks = newSightedTicks;
+        remembered = newRemembered;
+    }
+
+    /**
+     * Gathers what the teammates whose field of view was computed during this tick see. An enemy is sighted when
+     * one of them sees it within range. Only the actors the spatial index buckets within range of each of these
+     * teammates are considered, so that the cost depends on how many actors sensed and how crowded they are rather
+     * than on the size of the match.
+     *
+     * @param delta       : the time elapsed since the last update
+     * @param sensed      : the slots of the actors whose field of view was computed during this tick
+     * @param snapshot    : the snapshot the fields of view were computed from
+     * @param index       : the spatial index matching the snapshot
+     * @param fieldOfView : the fields of view of the actors
+     * @param tick        : the current tick
+     * @param range       : the distance up to which an enemy is seen
+     * @param memory      : how long a sighting is remembered, in seconds
+     */
+    public void update(float delta, IntArray sensed, WorldSnapshot snapshot, ActorIndex index, FieldOfView fieldOfView, long tick, float range,
+            float memory) {
+        int hostage = Actor.ActorType.HOSTAGE.ordinal();
+
+        time += delta;
+
+        sighted.clear();
+
+        // Forget the sightings that are too old and the enemies that died
+        int kept = 0;
+
+        for (int i = 0; i < recent.size; i++) {
+            int id = recent.get(i);
+
+            if (lastSeen[id] != NEVER && time - lastSeen[id] <= memory) {
+                recent.set(kept++, id);
+            } else {
+                remembered[id] = false;
+            }
+        }
+
+        recent.size = kept;
+
+        for (int i = 0; i < sensed.size; i++) {
+            int id = sensed.get(i);
+
+            if (snapshot.type[id] != team) {
+                continue;
+            }
+
+            candidates.clear();
+            index.query(snapshot.x[id] + Actor.SIZE / 2, snapshot.y[id] + Actor.SIZE / 2, range, candidates);
+
+            for (int c = 0; c < candidates.size; c++) {
+                int other = candidates.get(c);
+
+                if (snapshot.type[other] == team || snapshot.type[other] == hostage || !snapshot.isAlive(other)
+                        || sightedTicks[other] == tick) {
+                    continue;
+                }
+
+                float dx = snapshot.x[other] - snapshot.x[id];
+                float dy = snapshot.y[other] - snapshot.y[id];
+
+                if (dx * dx + dy * dy <= range * range
+                        && fieldOfView.isVisible(id, snapshot.x[id], snapshot.y[id], other, snapshot.x[other], snapshot.y[other], tick)) {
+                    lastX[other] = snapshot.x[other];
+                    lastY[other] = snapshot.y[other];
+                    lastSeen[other] = time;
+                    seenBy[other] = id;
+                    sightedTicks[other] = tick;
+
+                    sighted.add(other);
+
+                    if (!remembered[other]) {
+                        remembered[other] = true;
+                        recent.add(other);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the enemy that was seen the most recently, no longer ago than the given age, and closest to the given
+     * position among those seen at that time. Only the sightings still remembered are searched.
+     *
+     * @param x      : the X coordinate of the position
+     * @param y      : the Y coordinate of the position
+     * @param maxAge : the maximum age of the sighting, in seconds, at most the memory of the blackboard
+     * @return the enemy's slot, or -1 if there is none
+     */
+    public int getLatestSighting(float x, float y, float maxAge) {
+        int best = -1;
+        float bestDistance = Float.MAX_VALUE;
+
+        for (int i = 0; i < recent.size; i++) {
+            int id = recent.get(i);
+
+            if (lastSeen[id] == NEVER || time - lastSeen[id] > maxAge) {
+                continue;
+            }
+
+            float dx = lastX[id] - x;
+            float dy = lastY[id] - y;
+            float distance = dx * dx + dy * dy;
+
+            if (best < 0 || lastSeen[id] > lastSeen[best]
+                    || (lastSeen[id] == lastSeen[best] && (distance < bestDistance || (distance == bestDistance && id < best)))) {
+                best = id;
+                bestDistance = distance;
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Forgets an enemy, when it dies.
+     *
+     * @param id : the enemy's slot
+     */
+    public void forget(int id) {
+        lastSeen[id] = NEVER;
+        seenBy[id] = -1;
+    }
+
+    /**
+     * Getters and Setters
+     */
+    public IntArray getSighted() {
+        return sighted;
+    }
+
+    public float getTime() {
+        return time;
+    }
+
+    public float getLastX(int id) {
+        return lastX[id];
+    }
+
+    public float getLastY(int id) {
+        return lastY[id];
+    }
+
+    public float getLastSeen(int id) {
+        return lastSeen[id];
+    }
+
+    public int getSeenBy(int id) {
+        return seenBy[id];
+    }
+
+}
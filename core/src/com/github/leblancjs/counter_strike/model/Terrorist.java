@@ -1,30 +1,30 @@
 package com.github.leblancjs.counter_strike.model;
 
-import java.util.Random;
-
 import com.badlogic.gdx.math.Vector2;
-import com.github.leblancjs.counter_strike.model.Weapon.WeaponType;
 
 public class Terrorist extends Actor {
 
     /**
      * Constructor class for a terrorist. This will create a new actor at the given position.
      *
+     * @param store    : the store holding the actor's state
+     * @param weapons  : the weapon table, giving the weapon the actor spawns with
+     * @param random   : the random numbers of the match, picking the actor's body
      * @param position : the start position
      * @param playable : whether the actor is controlled by a human player
      */
-    public Terrorist(Vector2 position, boolean playable) {
-        super(position, playable);
-
-        // Type
-        type = ActorType.TERRORIST;
+    public Terrorist(ActorStore store, WeaponTable weapons, MatchRandom random, Vector2 position, boolean playable) {
+        super(store, ActorType.TERRORIST, position, playable);
 
         // Body
-        Random random = new Random();
         body = random.nextInt(BODY_T_COUNT);
 
         // Weapon
-        weapon = new Weapon(WeaponType.AK47);
+        weapon = new Weapon(weapons, weapons.getLoadout(ActorType.TERRORIST));
+
+        // Grenades
+        grenade = weapons.getGrenade(ActorType.TERRORIST);
+        grenades = weapons.getGrenadeCount(ActorType.TERRORIST);
     }
 
 }
@@ -0,0 +1,70 @@
+package com.github.leblancjs.counter_strike.model;
+
+import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapObject;
+import com.badlogic.gdx.maps.objects.RectangleMapObject;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Map source reading the walls from the "Walls" layer of a Tiled map and the zones from its "Spawns" object layer.
+ */
+public class TiledMapSource implements MapSource {
+
+    private TiledMap map;
+    private TiledMapTileLayer walls;
+
+    /**
+     * Constructor for a source reading the given map.
+     *
+     * @param map : the map
+     */
+    public TiledMapSource(TiledMap map) {
+        this.map = map;
+
+        walls = (TiledMapTileLayer) map.getLayers().get("Walls");
+    }
+
+    @Override
+    public int getWidth() {
+        return walls.getWidth();
+    }
+
+    @Override
+    public int getHeight() {
+        return walls.getHeight();
+    }
+
+    @Override
+    public boolean isWall(int x, int y) {
+        return walls.getCell(x, y) != null;
+    }
+
+    @Override
+    public Array<Rectangle> getZones(int kind) {
+        Array<Rectangle> zones = new Array<Rectangle>();
+
+        MapLayer layer = map.getLayers().get("Spawns");
+
+        if (layer == null) {
+            return zones;
+        }
+
+        for (MapObject object : layer.getObjects()) {
+            if (!(object instanceof RectangleMapObject) || !ZONE_NAMES[kind].equals(object.getProperties().get("type"))) {
+                continue;
+            }
+
+            // The objects are in pixels
+            Rectangle rectangle = ((RectangleMapObject) object).getRectangle();
+
+            zones.add(new Rectangle(rectangle.x / walls.getTileWidth(), rectangle.y / walls.getTileHeight(),
+                    rectangle.width / walls.getTileWidth(), rectangle.height / walls.getTileHeight()));
+        }
+
+        return zones;
+    }
+
+}
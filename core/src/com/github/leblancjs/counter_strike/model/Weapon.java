@@ -1,46 +1,31 @@
 package com.github.leblancjs.counter_strike.model;
 
-import java.util.HashMap;
-
+/**
+ * A weapon carried by an actor. Its stats are read from the weapon table by id, while the weapon itself only
+ * keeps what changes as it is used: its state and the rounds left in its magazine.
+ */
 public class Weapon {
 
     public enum WeaponState {
         IDLE, FIRING, RELOADING
     }
 
-    public enum WeaponType {
-        NONE, M4A1, AK47
-    }
-
     private WeaponState state = WeaponState.IDLE;
-    private WeaponType type = WeaponType.NONE;
-
-    private static HashMap<WeaponType, Float> damage = new HashMap<WeaponType, Float>();
-    private static HashMap<WeaponType, Float> recoil = new HashMap<WeaponType, Float>();
-    private static HashMap<WeaponType, Float> fireRate = new HashMap<WeaponType, Float>();
-
-    static {
-        // Damage
-        damage.put(WeaponType.NONE, 0f);
-        damage.put(WeaponType.M4A1, 10f);
-        damage.put(WeaponType.AK47, 10f);
-
-        // Recoil
-        recoil.put(WeaponType.NONE, 0f);
-        recoil.put(WeaponType.M4A1, 5f);
-        recoil.put(WeaponType.AK47, 10f);
-
-        // Fire Rate
-        fireRate.put(WeaponType.NONE, 0f);
-        fireRate.put(WeaponType.M4A1, 0.1f);
-        fireRate.put(WeaponType.AK47, 0.2f);
-    }
+
+    private WeaponTable table;
+    private int type;
+    private int ammo;
 
     /**
-     * Constructor class for a weapon.
+     * Constructor class for a weapon. The weapon starts with a full magazine.
+     *
+     * @param table : the weapon table
+     * @param type  : the weapon's id in the table
      */
-    public Weapon(WeaponType type) {
+    public Weapon(WeaponTable table, int type) {
+        this.table = table;
         this.type = type;
+        this.ammo = table.getMagazine(type);
     }
 
     /**
@@ -54,20 +39,36 @@ public class Weapon {
         this.state = state;
     }
 
-    public WeaponType getType() {
+    public int getType() {
         return type;
     }
 
-    public float getDamage() {
-        return damage.get(type);
+    public WeaponTable getTable() {
+        return table;
+    }
+
+    public int getAmmo() {
+        return ammo;
     }
 
-    public float getRecoil() {
-        return recoil.get(type);
+    public void setAmmo(int ammo) {
+        this.ammo = ammo;
+    }
+
+    public float getDamage() {
+        return table.getDamage(type);
     }
 
     public float getFireRate() {
-        return fireRate.get(type);
+        return table.getFireRate(type);
+    }
+
+    public int getMagazine() {
+        return table.getMagazine(type);
+    }
+
+    public float getReloadTime() {
+        return table.getReloadTime(type);
     }
 
 }
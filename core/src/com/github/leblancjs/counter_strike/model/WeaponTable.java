@@ -0,0 +1,349 @@
+package com.github.leblancjs.counter_strike.model;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.github.leblancjs.counter_strike.model.Actor.ActorType;
+
+/**
+ * The weapons, loaded from a data file into primitive arrays indexed by weapon id, so that looking up a weapon's
+ * stats while firing is an array read. Adding a weapon only takes a new entry in the file (and its texture and
+ * sound in the assets).
+ * <p>
+ * Id 0 is reserved for having no weapon: it does no damage and has no texture or sound. The weapons of the file
+ * follow in the order they are listed. The file also gives the weapon each type of actor spawns with.
+ * <p>
+ * Spread is in degrees: a shot deviates from where the actor aims by up to the current spread, which starts at
+ * the base spread, grows with each shot up to the maximum and recovers over time when the weapon is not firing.
+ * Damage falls off with distance: full damage up to the start of the falloff, then less and less down to the
+ * minimum share at its end.
+ * <p>
+ * Explosive weapons (grenades) are thrown rather than fired: they roll up to their range, bouncing off the walls,
+ * and explode when their fuse runs out, damaging the actors within their radius less and less towards its edge.
+ * The file gives the grenades each type of actor spawns with.
+ */
+public class WeaponTable {
+
+    /**
+     * Constants
+     */
+    public final static String FILE = "weapons/weapons.json";
+    public final static int NONE = 0;
+    public final static String NONE_NAME = "none";
+
+    /**
+     * Weapons
+     */
+    private int size;
+
+    private String[] names;
+    private String[] textures;
+    private String[] sounds;
+
+    private float[] damage;
+    private float[] fireRate;
+    private int[] magazine;
+    private float[] reloadTime;
+
+    private float[] spreadBase;
+    private float[] spreadPerShot;
+    private float[] spreadMax;
+    private float[] spreadRecovery;
+
+    private float[] falloffStart;
+    private float[] falloffEnd;
+    private float[] falloffMin;
+
+    private float[] explosionRadius;
+    private float[] explosionDamage;
+    private float[] fuseTime;
+    private float[] throwSpeed;
+    private float[] throwRange;
+
+    private ObjectIntMap<String> ids;
+
+    /**
+     * Weapon of each type of actor, by ordinal
+     */
+    private int[] loadouts;
+
+    /**
+     * Grenades of each type of actor and how many, by ordinal
+     */
+    private int[] grenades;
+    private int[] grenadeCounts;
+
+    /**
+     * Loads the weapons from a data file.
+     *
+     * @param file : the data file
+     * @return the weapons
+     */
+    public static WeaponTable load(FileHandle file) {
+        return new WeaponTable(new JsonReader().parse(file));
+    }
+
+    /**
+     * Constructor for a table of weapons.
+     *
+     * @param root : the parsed data file
+     */
+    public WeaponTable(JsonValue root) {
+        JsonValue weapons = root.get("weapons");
+
+        size = 1 + (weapons == null ? 0 : weapons.size);
+
+        names = new String[size];
+        textures = new String[size];
+        sounds = new String[size];
+        damage = new float[size];
+        fireRate = new float[size];
+        magazine = new int[size];
+        reloadTime = new float[size];
+        spreadBase = new float[size];
+        spreadPerShot = new float[size];
+        spreadMax = new float[size];
+        spreadRecovery = new float[size];
+        falloffStart = new float[size];
+        falloffEnd = new float[size];
+        falloffMin = new float[size];
+        explosionRadius = new float[size];
+        explosionDamage = new float[size];
+        fuseTime = new float[size];
+        throwSpeed = new float[size];
+        throwRange = new float[size];
+        ids = new ObjectIntMap<String>(size);
+
+        names[NONE] = NONE_NAME;
+        ids.put(NONE_NAME, NONE);
+
+        int id = 1;
+
+        for (JsonValue weapon = weapons == null ? null : weapons.child; weapon != null; weapon = weapon.next, id++) {
+            String name = weapon.getString("name");
+
+            if (ids.containsKey(name)) {
+                throw new GdxRuntimeException("The weapon " + name + " is defined more than once.");
+            }
+
+            names[id] = name;
+            textures[id] = weapon.getString("texture", null);
+            sounds[id] = weapon.getString("sound", null);
+            damage[id] = weapon.getFloat("damage", 0f);
+            fireRate[id] = weapon.getFloat("fireRate", 0f);
+            magazine[id] = weapon.getInt("magazine", 0);
+            reloadTime[id] = weapon.getFloat("reloadTime", 0f);
+
+            JsonValue spread = weapon.get("spread");
+
+            if (spread != null) {
+                spreadBase[id] = spread.getFloat("base");
+                spreadPerShot[id] = spread.getFloat("perShot", 0f);
+                spreadMax[id] = spread.getFloat("max", spreadBase[id]);
+                spreadRecovery[id] = spread.getFloat("recovery", 0f);
+            }
+
+            // Without falloff, the damage stays the same at any distance
+            JsonValue falloff = weapon.get("falloff");
+            falloffStart[id] = falloff == null ? Float.MAX_VALUE : falloff.getFloat("start");
+            falloffEnd[id] = falloff == null ? Float.MAX_VALUE : falloff.getFloat("end");
+            falloffMin[id] = falloff == null ? 1f : falloff.getFloat("min");
+
+            JsonValue explosion = weapon.get("explosion");
+
+            if (explosion != null) {
+                explosionRadius[id] = explosion.getFloat("radius");
+                explosionDamage[id] = explosion.getFloat("damage");
+                fuseTime[id] = explosion.getFloat("fuse");
+                throwSpeed[id] = explosion.getFloat("speed");
+                throwRange[id] = explosion.getFloat("range");
+            }
+
+            ids.put(name, id);
+        }
+
+        loadouts = new int[ActorType.values().length];
+        JsonValue loadout = root.get("loadouts");
+
+        for (ActorType type : ActorType.values()) {
+            loadouts[type.ordinal()] = loadout == null ? NONE : getId(loadout.getString(type.name(), NONE_NAME));
+        }
+
+        grenades = new int[ActorType.values().length];
+        grenadeCounts = new int[ActorType.values().length];
+        JsonValue grenadeLoadout = root.get("grenades");
+
+        for (ActorType type : ActorType.values()) {
+            JsonValue entry = grenadeLoadout == null ? null : grenadeLoadout.get(type.name());
+
+            if (entry != null) {
+                grenades[type.ordinal()] = getId(entry.getString("weapon"));
+                grenadeCounts[type.ordinal()] = entry.getInt("count");
+
+                if (!isExplosive(grenades[type.ordinal()])) {
+                    throw new GdxRuntimeException("The grenade " + entry.getString("weapon") + " does not explode.");
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the id of a weapon.
+     *
+     * @param name : the weapon's name
+     * @return the weapon's id
+     */
+    public int getId(String name) {
+        int id = ids.get(name, -1);
+
+        if (id < 0) {
+            throw new GdxRuntimeException("There is no weapon named " + name + ".");
+        }
+
+        return id;
+    }
+
+    /**
+     * Returns whether a weapon is thrown and explodes.
+     *
+     * @param id : the weapon's id
+     * @return TRUE if it explodes, FALSE otherwise
+     */
+    public boolean isExplosive(int id) {
+        return explosionRadius[id] > 0f;
+    }
+
+    /**
+     * Returns the share of its damage an explosion does at the given distance from its center: all of it at the
+     * center, none at the edge of its radius.
+     *
+     * @param id       : the explosive weapon's id
+     * @param distance : the distance from the center
+     * @return the share of the damage, between 0 and 1
+     */
+    public float getExplosionFalloff(int id, float distance) {
+        return Math.max(0f, 1f - distance / explosionRadius[id]);
+    }
+
+    /**
+     * Returns the spread of a weapon after it fired one more shot.
+     *
+     * @param id     : the weapon's id
+     * @param spread : the current spread
+     * @return the new spread
+     */
+    public float getSpreadAfterShot(int id, float spread) {
+        return Math.min(spreadMax[id], spread + spreadPerShot[id]);
+    }
+
+    /**
+     * Returns the spread of a weapon after it recovered for a while.
+     *
+     * @param id     : the weapon's id
+     * @param spread : the current spread
+     * @param delta  : the time elapsed
+     * @return the new spread
+     */
+    public float getSpreadAfterRecovery(int id, float spread, float delta) {
+        return Math.max(spreadBase[id], spread - spreadRecovery[id] * delta);
+    }
+
+    /**
+     * Returns the share of its damage a weapon's bullet still does after travelling the given distance.
+     *
+     * @param id       : the weapon's id
+     * @param distance : the distance travelled
+     * @return the share of the damage, between the weapon's minimum and 1
+     */
+    public float getFalloff(int id, float distance) {
+        if (distance <= falloffStart[id]) {
+            return 1f;
+        }
+
+        if (distance >= falloffEnd[id]) {
+            return falloffMin[id];
+        }
+
+        float progress = (distance - falloffStart[id]) / (falloffEnd[id] - falloffStart[id]);
+
+        return 1f - progress * (1f - falloffMin[id]);
+    }
+
+    /**
+     * Getters and Setters
+     */
+    public int getSize() {
+        return size;
+    }
+
+    public int getLoadout(ActorType type) {
+        return loadouts[type.ordinal()];
+    }
+
+    public int getGrenade(ActorType type) {
+        return grenades[type.ordinal()];
+    }
+
+    public int getGrenadeCount(ActorType type) {
+        return grenadeCounts[type.ordinal()];
+    }
+
+    public String getName(int id) {
+        return names[id];
+    }
+
+    public String getTexture(int id) {
+        return textures[id];
+    }
+
+    public String getSound(int id) {
+        return sounds[id];
+    }
+
+    public float getDamage(int id) {
+        return damage[id];
+    }
+
+    public float getFireRate(int id) {
+        return fireRate[id];
+    }
+
+    public int getMagazine(int id) {
+        return magazine[id];
+    }
+
+    public float getReloadTime(int id) {
+        return reloadTime[id];
+    }
+
+    public float getSpreadBase(int id) {
+        return spreadBase[id];
+    }
+
+    public float getSpreadMax(int id) {
+        return spreadMax[id];
+    }
+
+    public float getExplosionRadius(int id) {
+        return explosionRadius[id];
+    }
+
+    public float getExplosionDamage(int id) {
+        return explosionDamage[id];
+    }
+
+    public float getFuseTime(int id) {
+        return fuseTime[id];
+    }
+
+    public float getThrowSpeed(int id) {
+        return throwSpeed[id];
+    }
+
+    public float getThrowRange(int id) {
+        return throwRange[id];
+    }
+
+}
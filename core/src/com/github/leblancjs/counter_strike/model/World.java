@@ -1,15 +1,17 @@
 package com.github.leblancjs.counter_strike.model;
 
+import java.util.concurrent.atomic.AtomicReference;
 
-import java.util.HashMap;
-import java.util.Random;
-
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.maps.tiled.AtlasTmxMapLoader;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
 import com.github.leblancjs.counter_strike.model.Actor.ActorType;
 
 public class World {
@@ -18,36 +20,51 @@ public class World {
      * Constants
      */
     public final static float WALL_SIZE = 1f;
+    private final static String TAG = "World";
+    private final static int REWIND_TICKS = 32;
     private final static float RESCUE_ZONE_SIZE = 5f;
 
-    private final static int COUNTER_TERRORIST_COUNT = 1;
-    private final static int TERRORIST_COUNT = 4;
-    private final static int HOSTAGE_COUNT = 3;
+    private final static int SNAPSHOT_COUNT = 2;
 
     /**
      * Contents
      */
     private Actor player;
 
+    private ActorStore store;
     private Array<Actor> actors;
+    private Array<Actor> actorsBySlot;
     private Array<Actor> deadActors;
     private Array<Rectangle> collisions;
-    private Array<Rectangle> blocks;
-    private Array<Bullet> bullets;
+    private WeaponTable weapons;
+    private BulletBuffer bullets;
+    private ProjectilePool projectiles;
+    private GrenadePool grenades;
     private Array<Blood> blood;
 
+    /**
+     * Snapshots
+     */
+    private Array<WorldSnapshot> snapshots;
+    private AtomicReference<WorldSnapshot> snapshot;
+    private long tick;
+
     /**
      * Map
      */
     private TiledMap map;
+    private ChunkedMap chunkedMap;
+    private BakedMap bakedMap;
 
     /**
-     * Spawn Points
+     * Spawning
      */
-    private Array<Vector2> hostageSpawnPoints;
+    private MatchConfig config;
+    private SpawnAllocator spawnAllocator;
 
-    private Rectangle ctSpawn;
-    private Rectangle tSpawn;
+    private IntArray ctSpawnZones;
+    private IntArray tSpawnZones;
+    private IntArray hostageSpawnZones;
 
     /**
      * Rescue
@@ -63,13 +80,26 @@ public class World {
     private Array<Array<Vector2>> terroristPaths;
 
     /**
-     * Camping Spots
+     * Tactical Points
      */
-    private Array<Vector2> campingSpots;
-    private Array<Float> campingAngles;
-    private HashMap<Vector2, Float> campingSpotAngles;
+    private TacticalPoints tacticalPoints;
 
-    private Random random = new Random();
+    /**
+     * Perception
+     */
+    private FieldOfView fieldOfView;
+    private TeamBlackboard terroristBlackboard;
+    private TeamBlackboard counterTerroristBlackboard;
+    private ActorIndex actorIndex;
+    private BoundsHistory boundsHistory;
+
+    /**
+     * Sounds
+     */
+    private SoundEvents sounds;
+    private SoundMap soundMap;
+
+    private MatchRandom random;
 
     /**
      * Debugging
@@ -77,35 +107,70 @@ public class World {
     private boolean debug;
 
     /**
-     * Constructor for the world. It will create the player and his counter-terrorist team, the terrorist team,
-     * the hostages and load the map.
+     * Constructor for the world of a standard match. It will create the player and his counter-terrorist team,
+     * the terrorist team, the hostages and load the map.
      */
     public World(boolean debug) {
+        this(new MatchConfig(), debug);
+    }
+
+    /**
+     * Constructor for the world, reading the compiled map into memory.
+     *
+     * @param config : the match configuration
+     * @param debug  : whether to show debugging information
+     */
+    public World(MatchConfig config, boolean debug) {
+        this(config, new ReadingMapBufferLoader(), debug);
+    }
+
+    /**
+     * Constructor for the world. It will load the map, then create the player and his counter-terrorist team, the
+     * terrorist team and the hostages as sized and placed by the match configuration.
+     *
+     * @param config       : the match configuration
+     * @param bufferLoader : the loader of the compiled map's content
+     * @param debug        : whether to show debugging information
+     */
+    public World(MatchConfig config, MapBufferLoader bufferLoader, boolean debug) {
+        this.config = config;
         this.debug = debug;
 
-        loadMap();
+        random = new MatchRandom(config.getSeed());
 
-        paths = new Array<Path>();
+        loadMap(bufferLoader);
+
+        actorIndex = new ActorIndex(getMapWidth(), getMapHeight());
+        boundsHistory = new BoundsHistory(REWIND_TICKS, config.getActorCount());
+
+        sounds = new SoundEvents();
+        soundMap = new SoundMap(this);
 
-        // Blocks
-        blocks = getCollisionRectangles(0, 0, getMapWidth() - 1, getMapHeight() - 1);
+        paths = new Array<Path>();
 
         // Collisions
         collisions = new Array<Rectangle>();
 
-        // Spawn Points
-        hostageSpawnPoints = new Array<Vector2>();
-
-        hostageSpawnPoints.add(new Vector2(28f, convertYForInitialization(39f)));
-        hostageSpawnPoints.add(new Vector2(28f, convertYForInitialization(40f)));
-        hostageSpawnPoints.add(new Vector2(28f, convertYForInitialization(41f)));
+        // Spawn Zones
+        spawnAllocator = new SpawnAllocator(this, random.split());
 
-        ctSpawn = new Rectangle(39f, convertYForInitialization(43f), 5f, 5f);
-        tSpawn = new Rectangle(7f, convertYForInitialization(39f), 5f, 5f);
+        ctSpawnZones = addSpawnZones(config.getCounterTerroristSpawns(), MapSource.ZONE_COUNTER_TERRORIST_SPAWN,
+                new Rectangle(39f, convertYForInitialization(43f), 5f, 5f));
+        tSpawnZones = addSpawnZones(config.getTerroristSpawns(), MapSource.ZONE_TERRORIST_SPAWN,
+                new Rectangle(7f, convertYForInitialization(39f), 5f, 5f));
+        hostageSpawnZones = addSpawnZones(config.getHostageSpawns(), MapSource.ZONE_HOSTAGE_SPAWN,
+                new Rectangle(27f, convertYForInitialization(42f), 3f, 4f));
 
         // Rescue Zone
-        rescueZonePoint = new Vector2(39f, convertYForInitialization(43f));
-        rescueZone = new Rectangle(rescueZonePoint.x, rescueZonePoint.y, RESCUE_ZONE_SIZE, RESCUE_ZONE_SIZE);
+        Array<Rectangle> rescueZones = chunkedMap.getSource().getZones(MapSource.ZONE_RESCUE);
+
+        if (rescueZones.size > 0) {
+            rescueZone = new Rectangle(rescueZones.first());
+            rescueZonePoint = new Vector2(rescueZone.x, rescueZone.y);
+        } else {
+            rescueZonePoint = new Vector2(39f, convertYForInitialization(43f));
+            rescueZone = new Rectangle(rescueZonePoint.x, rescueZonePoint.y, RESCUE_ZONE_SIZE, RESCUE_ZONE_SIZE);
+        }
 
         // Paths
         // Terrorist
@@ -134,72 +199,106 @@ public class World {
 
         terroristPaths.add(path);
 
-        // Camping Spots
-        // Terrorist
-        campingSpots = new Array<Vector2>();
-
-        campingSpots.add(new Vector2(14f, convertYForInitialization(32f)));
-        campingSpots.add(new Vector2(26f, convertYForInitialization(41f)));
-        campingSpots.add(new Vector2(15f, convertYForInitialization(26f)));
-        campingSpots.add(new Vector2(18f, convertYForInitialization(19f)));
-        campingSpots.add(new Vector2(6f, convertYForInitialization(16f)));
-        campingSpots.add(new Vector2(43f, convertYForInitialization(43f)));
-        campingSpots.add(new Vector2(38f, convertYForInitialization(43f)));
-        campingSpots.add(new Vector2(37f, convertYForInitialization(34f)));
-
-        campingAngles = new Array<Float>();
-
-        campingAngles.add(90f);
-        campingAngles.add(45f);
-        campingAngles.add(0f);
-        campingAngles.add(180f);
-        campingAngles.add(0f);
-        campingAngles.add(90f);
-        campingAngles.add(0f);
-        campingAngles.add(0f);
-
-        campingSpotAngles = new HashMap<Vector2, Float>();
-
-        for (int i = 0; i < campingSpots.size; i++) {
-            campingSpotAngles.put(campingSpots.get(i), campingAngles.get(i));
-        }
+        // Weapons
+        weapons = WeaponTable.load(Gdx.files.internal(WeaponTable.FILE));
 
         // Actors
-        actors = new Array<Actor>();
+        store = new ActorStore(config.getActorCount());
+        actors = new Array<Actor>(config.getActorCount());
+        actorsBySlot = new Array<Actor>(config.getActorCount());
         deadActors = new Array<Actor>();
 
+        terroristBlackboard = new TeamBlackboard(ActorType.TERRORIST, config.getActorCount());
+        counterTerroristBlackboard = new TeamBlackboard(ActorType.COUNTER_TERRORIST, config.getActorCount());
+
         spawn(ActorType.COUNTER_TERRORIST);
 
-        if (actors.size > 0) {
-            player = actors.get(0);
-            player.setPlayable(true);
+        // The match cannot be played without the player
+        if (actors.size == 0) {
+            throw new GdxRuntimeException("The counter-terrorist spawn zones of " + config.getMap() + " have no room for the player.");
         }
 
-        for (int i = 0; i < COUNTER_TERRORIST_COUNT; i++) {
+        player = actors.get(0);
+        player.setPlayable(true);
+
+        for (int i = 0; i < config.getCounterTerroristCount(); i++) {
             spawn(ActorType.COUNTER_TERRORIST);
         }
 
-        for (int i = 0; i < TERRORIST_COUNT; i++) {
+        for (int i = 0; i < config.getTerroristCount(); i++) {
             spawn(ActorType.TERRORIST);
         }
 
-        for (int i = 0; i < HOSTAGE_COUNT; i++) {
-            actors.add(new Hostage(hostageSpawnPoints.get(i)));
+        for (int i = 0; i < config.getHostageCount(); i++) {
+            spawn(ActorType.HOSTAGE);
         }
 
         // Bullets
-        bullets = new Array<Bullet>();
+        bullets = new BulletBuffer(config.getActorCount());
+        projectiles = new ProjectilePool();
+        grenades = new GrenadePool();
 
         // Blood
         blood = new Array<Blood>();
+
+        // Snapshots
+        snapshots = new Array<WorldSnapshot>(SNAPSHOT_COUNT);
+
+        for (int i = 0; i < SNAPSHOT_COUNT; i++) {
+            snapshots.add(new WorldSnapshot());
+        }
+
+        snapshot = new AtomicReference<WorldSnapshot>();
+
+        publishSnapshot();
     }
 
-    private void loadMap() {
-        map = new AtlasTmxMapLoader().load("dust/dust.tmx");
+    /**
+     * Loads the map, from its compiled form when there is one and from its TMX file otherwise, along with the data
+     * baked from it if there is any.
+     *
+     * @param bufferLoader : the loader of the compiled map's content
+     */
+    private void loadMap(MapBufferLoader bufferLoader) {
+        FileHandle compiled = Gdx.files.internal(config.getMap() + BinaryMap.EXTENSION);
+        MapSource source;
+
+        if (compiled.exists()) {
+            BinaryMap binaryMap = new BinaryMap(bufferLoader.load(compiled));
+
+            map = BinaryMapLoader.load(binaryMap, compiled.parent());
+            source = binaryMap;
+        } else {
+            map = new AtlasTmxMapLoader().load(config.getMap() + ".tmx");
+            source = new TiledMapSource(map);
+        }
+
+        chunkedMap = new ChunkedMap(source, ChunkedMap.DEFAULT_CAPACITY);
+
+        // Baked data, ignored if it is out of date
+        FileHandle baked = Gdx.files.internal(config.getMap() + BakedMap.EXTENSION);
+
+        if (baked.exists()) {
+            bakedMap = new BakedMap(bufferLoader.load(baked));
+
+            if (bakedMap.getWidth() != source.getWidth() || bakedMap.getHeight() != source.getHeight()) {
+                Gdx.app.log(TAG, "The baked data of " + config.getMap() + " does not match the map, it was ignored.");
+
+                bakedMap = null;
+            }
+        }
+
+        // Tactical points, none without baked data
+        if (bakedMap != null) {
+            tacticalPoints = new TacticalPoints(bakedMap);
+        } else {
+            tacticalPoints = new TacticalPoints(source.getWidth(), source.getHeight());
+        }
     }
 
     /**
-     * Returns all the walls within the area delimited by the given bounds.
+     * Returns all the walls within the area delimited by the given bounds. The rectangles belong to the map's
+     * chunks and must not be modified.
      *
      * @param startX : start X position of the area
      * @param startY : start Y position of the area
@@ -210,12 +309,12 @@ public class World {
     public Array<Rectangle> getCollisionRectangles(int startX, int startY, int endX, int endY) {
         Array<Rectangle> walls = new Array<Rectangle>();
 
-        TiledMapTileLayer layer = getWallLayer();
-
         for (int x = startX; x <= endX; x++) {
             for (int y = startY; y <= endY; y++) {
-                if (x >= 0 && x < getMapWidth() && y >= 0 && y < getMapHeight() && layer.getCell(x, (int) convertY(y)) != null) {
-                    walls.add(new Rectangle(x, y, WALL_SIZE, WALL_SIZE));
+                Rectangle wall = chunkedMap.getWall(x, (int) convertY(y));
+
+                if (wall != null) {
+                    walls.add(wall);
                 }
             }
         }
@@ -223,22 +322,113 @@ public class World {
         return walls;
     }
 
+    /**
+     * Returns the collision rectangle of the given cell.
+     *
+     * @param x : the X position of the cell
+     * @param y : the Y position of the cell
+     * @return the collision rectangle of the wall, or null if the cell is not a wall
+     */
+    public Rectangle getWall(int x, int y) {
+        return chunkedMap.getWall(x, (int) convertY(y));
+    }
+
+    /**
+     * Returns whether the given cell is a wall. Cells outside the map are considered walls.
+     *
+     * @param x : the X position of the cell
+     * @param y : the Y position of the cell
+     * @return TRUE if the cell is a wall, FALSE otherwise
+     */
+    public boolean isWall(int x, int y) {
+        return chunkedMap.isWall(x, (int) convertY(y));
+    }
+
     public int getMapWidth() {
-        return ((TiledMapTileLayer) map.getLayers().get(0)).getWidth();
+        return chunkedMap.getWidth();
     }
 
     public int getMapHeight() {
-        return ((TiledMapTileLayer) map.getLayers().get(0)).getHeight();
+        return chunkedMap.getHeight();
+    }
+
+    /* Snapshot */
+
+    /**
+     * Ends the current tick by capturing the world's state into a snapshot of the pool that is neither published
+     * nor held by a reader, and publishing it. The actor index is rebuilt along with it, and the actors' bounds are
+     * added to the history.
+     */
+    public void publishSnapshot() {
+        WorldSnapshot next = obtainSnapshot();
+
+        boundsHistory.record(tick, store);
+
+        next.capture(tick++, this);
+
+        actorIndex.rebuild(store);
+
+        snapshot.set(next);
+    }
+
+    /**
+     * Returns a snapshot of the pool that can be rewritten, adding one to the pool if the readers hold them all.
+     */
+    private WorldSnapshot obtainSnapshot() {
+        WorldSnapshot current = snapshot.get();
+
+        for (int i = 0; i < snapshots.size; i++) {
+            WorldSnapshot candidate = snapshots.get(i);
+
+            if (candidate != current && !candidate.isHeld()) {
+                return candidate;
+            }
+        }
+
+        WorldSnapshot added = new WorldSnapshot();
+        snapshots.add(added);
+
+        return added;
+    }
+
+    /**
+     * Returns the latest published snapshot, which will not be rewritten until it is released. Readers that do not
+     * run on the simulation's thread must use it rather than getSnapshot().
+     *
+     * @return the snapshot
+     */
+    public WorldSnapshot acquireSnapshot() {
+        while (true) {
+            WorldSnapshot latest = snapshot.get();
+
+            latest.retain();
+
+            // The snapshot may have been replaced, and picked to be rewritten, before it was retained
+            if (snapshot.get() == latest) {
+                return latest;
+            }
+
+            latest.release();
+        }
+    }
+
+    /**
+     * Releases a snapshot acquired by a reader, so that it can be rewritten.
+     *
+     * @param released : the snapshot
+     */
+    public void releaseSnapshot(WorldSnapshot released) {
+        released.release();
     }
 
     /* Paths */
 
     /**
-     * Adds the path to the list of active paths.
+     * Adds the path to the list of active paths. Paths are planned in parallel, so the list is guarded.
      *
      * @param path : the path to add
      */
-    public void addPath(Path path) {
+    public synchronized void addPath(Path path) {
         paths.add(path);
     }
 
@@ -247,7 +437,7 @@ public class World {
      *
      * @param path : the path to remove
      */
-    public void removePath(Path path) {
+    public synchronized void removePath(Path path) {
         if (path != null) {
             paths.removeValue(path, false);
         }
@@ -257,22 +447,6 @@ public class World {
         return paths;
     }
 
-    /* Camping */
-
-    /**
-     * Returns the angle to face when at the given camping spot.
-     *
-     * @param spot : the camping spot
-     * @return the angle to be facing
-     */
-    public float getTerroristCampingSpotAngle(Vector2 spot) {
-        if (campingSpots.contains(spot, false)) {
-            return campingSpotAngles.get(spot);
-        } else {
-            return 0f;
-        }
-    }
-
     /* Coordinates */
 
     /**
@@ -298,102 +472,147 @@ public class World {
     /* Spawning */
 
     /**
-     * Spawns an actor.
+     * Bakes the slots of the configured spawn zones of a team. If none were configured, the zones declared by
+     * the map are used, or the default zone if the map declares none either.
      *
-     * @param type
+     * @param zones       : the configured zones
+     * @param kind        : the kind of the team's zones in the map
+     * @param defaultZone : the default zone for the team
+     * @return the indices of the zones in the spawn allocator
      */
-    private void spawn(ActorType type) {
-        float lowerBoundX = 0f;
-        float lowerBoundY = 0f;
-        float upperBoundX = 0f;
-        float upperBoundY = 0f;
+    private IntArray addSpawnZones(Array<Rectangle> zones, int kind, Rectangle defaultZone) {
+        IntArray indices = new IntArray();
 
-        Actor actor = null;
+        if (zones.size == 0) {
+            zones = chunkedMap.getSource().getZones(kind);
+        }
 
-        switch (type) {
-            case TERRORIST:
-                lowerBoundX = tSpawn.x;
-                lowerBoundY = tSpawn.y;
-                upperBoundX = tSpawn.x + tSpawn.width;
-                upperBoundY = tSpawn.y + tSpawn.height;
+        if (zones.size == 0) {
+            indices.add(spawnAllocator.addZone(defaultZone));
+        } else {
+            for (Rectangle zone : zones) {
+                indices.add(spawnAllocator.addZone(zone));
+            }
+        }
+
+        return indices;
+    }
 
-                actor = new Terrorist(new Vector2(), false);
+    /**
+     * Spawns an actor on the next free slot of its team's spawn zones. When every zone of the team is full, the
+     * actor is not spawned.
+     *
+     * @param type : the type of actor
+     */
+    private void spawn(ActorType type) {
+        IntArray zones;
 
+        switch (type) {
+            case TERRORIST:
+                zones = tSpawnZones;
                 break;
 
             case COUNTER_TERRORIST:
-                lowerBoundX = ctSpawn.x;
-                lowerBoundY = ctSpawn.y;
-                upperBoundX = ctSpawn.x + ctSpawn.width;
-                upperBoundY = ctSpawn.y + ctSpawn.height;
-
-                actor = new CounterTerrorist(new Vector2(), false);
+                zones = ctSpawnZones;
+                break;
 
+            case HOSTAGE:
+                zones = hostageSpawnZones;
                 break;
 
             default:
-                break;
+                return;
+        }
+
+        // Find a free slot
+        Vector2 position = new Vector2();
+        boolean allocated = false;
+
+        for (int i = 0; i < zones.size && !allocated; i++) {
+            allocated = spawnAllocator.allocate(zones.get(i), position);
         }
 
-        upperBoundX -= 1;
-        upperBoundY -= 1;
+        if (!allocated) {
+            Gdx.app.error(TAG, "No spawn slot left for a " + type + ", it was not spawned.");
 
-        if (actor == null) {
             return;
         }
 
         // Spawn the actor
-        Vector2 position = new Vector2(randomBound(lowerBoundX, upperBoundX), randomBound(lowerBoundY, upperBoundY));
-        actor.setPosition(position);
-
-        boolean free = false;
+        switch (type) {
+            case TERRORIST:
+                actors.add(new Terrorist(store, weapons, random, position, false));
+                break;
 
-        while (!free) {
-            free = true;
+            case COUNTER_TERRORIST:
+                actors.add(new CounterTerrorist(store, weapons, random, position, false));
+                break;
 
-            for (Actor other : actors) {
-                if (actor.getBounds().overlaps(other.getBounds())) {
-                    free = false;
-                }
-            }
+            case HOSTAGE:
+                actors.add(new Hostage(store, weapons, random, position));
+                break;
 
-            if (!free) {
-                position = new Vector2(randomBound(lowerBoundX, upperBoundX), randomBound(lowerBoundY, upperBoundY));
-                actor.setPosition(position);
-            }
+            default:
+                return;
         }
 
-        actors.add(actor);
+        actorsBySlot.add(actors.peek());
     }
 
     /**
-     * Returns a random float value between two bounds.
+     * Getters and Setters
+     */
+    public boolean isDebug() {
+        return debug;
+    }
+
+    public void setDebug(boolean debug) {
+        this.debug = debug;
+    }
+
+    public MatchConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Returns the random numbers of the match. They must only be drawn from serially; whatever needs its own
+     * stream splits one from them.
      *
-     * @param lowerBound  : Lower bound
-     * @param higherBound : Higher bound
-     * @return random value
+     * @return the random numbers
      */
-    private float randomBound(float lowerBound, float higherBound) {
-        Random random = new Random();
+    public MatchRandom getRandom() {
+        return random;
+    }
 
-        return (random.nextFloat() * (higherBound - lowerBound) + lowerBound);
+    public ActorStore getActorStore() {
+        return store;
     }
 
     /**
-     * Getters and Setters
+     * Returns the latest published snapshot, for the simulation's own phases.
      */
-    public boolean isDebug() {
-        return debug;
+    public WorldSnapshot getSnapshot() {
+        return snapshot.get();
     }
 
-    public void setDebug(boolean debug) {
-        this.debug = debug;
+    public long getTick() {
+        return tick;
     }
 
     public Array<Actor> getActors() {
         return actors;
     }
 
+    /**
+     * Returns the actor in the given slot of the actor store, dead or alive.
+     *
+     * @param id : the slot
+     * @return the actor
+     */
+    public Actor getActor(int id) {
+        return actorsBySlot.get(id);
+    }
+
     public Actor getPrimaryActor() {
         return actors.get(0);
     }
@@ -410,8 +629,15 @@ public class World {
         return (TiledMapTileLayer) map.getLayers().get("Walls");
     }
 
-    public Array<Rectangle> getBlocks() {
-        return blocks;
+    /**
+     * Returns the data baked from the map, or null if the map was not baked.
+     */
+    public BakedMap getBakedMap() {
+        return bakedMap;
+    }
+
+    public ChunkedMap getChunkedMap() {
+        return chunkedMap;
     }
 
     public Array<Rectangle> getCollisions() {
@@ -430,24 +656,95 @@ public class World {
         this.rescueCount = rescueCount;
     }
 
-    public Array<Vector2> getTerroristRoute() {
+    public synchronized void incrementRescueCount() {
+        rescueCount++;
+    }
+
+    /**
+     * Returns a copy of one of the terrorists' routes, picked at random.
+     *
+     * @param random : the random numbers of the actor asking for a route
+     * @return the route
+     */
+    public Array<Vector2> getTerroristRoute(MatchRandom random) {
+        Array<Array<Vector2>> routes = terroristPaths;
+
+        if (bakedMap != null && bakedMap.getRoutes().size > 0) {
+            routes = bakedMap.getRoutes();
+        }
+
         Array<Vector2> path = new Array<Vector2>();
 
-        for (Vector2 position : terroristPaths.get(random.nextInt(terroristPaths.size))) {
+        for (Vector2 position : routes.get(random.nextInt(routes.size))) {
             path.add(position);
         }
 
         return path;
     }
 
-    public Vector2 getCampingSpot() {
-        return campingSpots.get(random.nextInt(campingSpots.size));
+    public TacticalPoints getTacticalPoints() {
+        return tacticalPoints;
+    }
+
+    public FieldOfView getFieldOfView() {
+        return fieldOfView;
+    }
+
+    public void setFieldOfView(FieldOfView fieldOfView) {
+        this.fieldOfView = fieldOfView;
     }
 
-    public Array<Bullet> getBullets() {
+    public ActorIndex getActorIndex() {
+        return actorIndex;
+    }
+
+    public BoundsHistory getBoundsHistory() {
+        return boundsHistory;
+    }
+
+    public SoundEvents getSounds() {
+        return sounds;
+    }
+
+    public SoundMap getSoundMap() {
+        return soundMap;
+    }
+
+    /**
+     * Returns the blackboard of the given team, null for the hostages.
+     *
+     * @param team : the team
+     * @return the team's blackboard
+     */
+    public TeamBlackboard getBlackboard(ActorType team) {
+        switch (team) {
+            case TERRORIST:
+                return terroristBlackboard;
+
+            case COUNTER_TERRORIST:
+                return counterTerroristBlackboard;
+
+            default:
+                return null;
+        }
+    }
+
+    public BulletBuffer getBullets() {
         return bullets;
     }
 
+    public WeaponTable getWeapons() {
+        return weapons;
+    }
+
+    public ProjectilePool getProjectiles() {
+        return projectiles;
+    }
+
+    public GrenadePool getGrenades() {
+        return grenades;
+    }
+
     public Array<Actor> getDeadActors() {
         return deadActors;
     }
@@ -0,0 +1,125 @@
+package com.github.leblancjs.counter_strike.model;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Read-only copy of the world's state at the end of a tick. The world publishes one every tick, reusing a pool of
+ * snapshots, so that AI workers, renderers, replay recorders or network senders can read a consistent state
+ * without locking the simulation.
+ * <p>
+ * A snapshot is never rewritten while it is published or held by a reader: readers on other threads acquire it
+ * from the world and release it when they are done, and the world only reuses the snapshots nobody holds, adding
+ * one to the pool otherwise. The simulation's own phases read the latest snapshot during the tick without
+ * acquiring it, since the next one is only written at the end of the tick, on the same thread.
+ */
+public class WorldSnapshot {
+
+    private long tick;
+
+    /**
+     * Number of readers holding the snapshot
+     */
+    private AtomicInteger readers = new AtomicInteger();
+
+    /**
+     * Actors
+     */
+    public float[] x = new float[0];
+    public float[] y = new float[0];
+    public float[] vx = new float[0];
+    public float[] vy = new float[0];
+    public float[] rotation = new float[0];
+    public float[] health = new float[0];
+
+    public int[] type = new int[0];
+    public int[] state = new int[0];
+    public int[] job = new int[0];
+
+    private int size;
+
+    /**
+     * Game
+     */
+    private int rescueCount;
+
+    /**
+     * Copies the state of the world into the snapshot. The arrays are only reallocated when the actor store has
+     * outgrown them.
+     *
+     * @param tick  : the tick the state belongs to
+     * @param world : the world to copy
+     */
+    void capture(long tick, World world) {
+        ActorStore store = world.getActorStore();
+
+        size = store.getSize();
+
+        if (x.length < size) {
+            int capacity = store.x.length;
+
+            x = new float[capacity];
+            y = new float[capacity];
+            vx = new float[capacity];
+            vy = new float[capacity];
+            rotation = new float[capacity];
+            health = new float[capacity];
+
+            type = new int[capacity];
+            state = new int[capacity];
+            job = new int[capacity];
+        }
+
+        System.arraycopy(store.x, 0, x, 0, size);
+        System.arraycopy(store.y, 0, y, 0, size);
+        System.arraycopy(store.vx, 0, vx, 0, size);
+        System.arraycopy(store.vy, 0, vy, 0, size);
+        System.arraycopy(store.rotation, 0, rotation, 0, size);
+        System.arraycopy(store.health, 0, health, 0, size);
+
+        System.arraycopy(store.type, 0, type, 0, size);
+        System.arraycopy(store.state, 0, state, 0, size);
+        System.arraycopy(store.job, 0, job, 0, size);
+
+        rescueCount = world.getRescueCount();
+
+        this.tick = tick;
+    }
+
+    void retain() {
+        readers.incrementAndGet();
+    }
+
+    void release() {
+        readers.decrementAndGet();
+    }
+
+    boolean isHeld() {
+        return readers.get() > 0;
+    }
+
+    /**
+     * Returns whether the actor in the given slot was alive when the snapshot was captured.
+     *
+     * @param id : the slot
+     * @return TRUE if the actor was alive, FALSE otherwise
+     */
+    public boolean isAlive(int id) {
+        return state[id] != Actor.State.DYING.ordinal();
+    }
+
+    /**
+     * Getters and Setters
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getRescueCount() {
+        return rescueCount;
+    }
+
+}
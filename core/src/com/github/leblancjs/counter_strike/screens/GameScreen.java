@@ -8,6 +8,7 @@ import com.badlogic.gdx.graphics.GL20;
 import com.github.leblancjs.counter_strike.controller.GameController;
 import com.github.leblancjs.counter_strike.controller.GameController.State;
 import com.github.leblancjs.counter_strike.model.CounterStrike;
+import com.github.leblancjs.counter_strike.model.MatchConfig;
 import com.github.leblancjs.counter_strike.model.World;
 import com.github.leblancjs.counter_strike.view.GameRenderer;
 
@@ -62,7 +63,7 @@ public class GameScreen implements Screen, InputProcessor {
         }
 
         controller.update(delta);
-        renderer.render();
+        renderer.render(controller.getAlpha());
     }
 
     @Override
@@ -75,8 +76,8 @@ public class GameScreen implements Screen, InputProcessor {
 
     @Override
     public void show() {
-        world = new World(debug);
-        controller = new GameController(world);
+        world = new World(new MatchConfig(), game.getMapBufferLoader(), debug);
+        controller = new GameController(world, game.getTaskRunner());
         renderer = new GameRenderer(world, width, height);
 
         Gdx.input.setInputProcessor(this);
@@ -143,6 +144,10 @@ public class GameScreen implements Screen, InputProcessor {
             controller.getPlayerController().usePressed();
         }
 
+        if (keycode == Keys.G) {
+            controller.getPlayerController().grenadePressed();
+        }
+
         if (keycode == Keys.P) {
             debug = !debug;
 
@@ -0,0 +1,357 @@
+package com.github.leblancjs.counter_strike.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.math.Vector2;
+import com.github.leblancjs.counter_strike.components.AIJobComponent;
+import com.github.leblancjs.counter_strike.components.ActorComponent;
+import com.github.leblancjs.counter_strike.components.Mappers;
+import com.github.leblancjs.counter_strike.components.PathCursorComponent;
+import com.github.leblancjs.counter_strike.model.Actor;
+import com.github.leblancjs.counter_strike.model.Actor.Job;
+import com.github.leblancjs.counter_strike.model.BakedMap;
+import com.github.leblancjs.counter_strike.model.TacticalPoints;
+import com.github.leblancjs.counter_strike.model.Weapon.WeaponState;
+import com.github.leblancjs.counter_strike.model.World;
+import com.github.leblancjs.counter_strike.model.WorldSnapshot;
+
+/**
+ * Makes the AI controlled actors carry out their jobs: attacking the enemy they see, investigating where they
+ * were shot from, camping or exploring the map. The other actors are read from the world's snapshot.
+ * <p>
+ * The camping points are shared by the actors: while they think in parallel, they only request the points they
+ * want and give up the ones they leave. The points are then released and granted serially, in entity order, the
+ * first actor to request a point getting it.
+ */
+public class AISystem extends ParallelIteratingSystem {
+
+    /**
+     * Constants
+     */
+    private static final float CAMPING_TIME = 20f;
+    private static final float CAMPING_RANGE = 24f;
+    private static final float CAMPING_TOLERANCE = 90f;
+
+    private static final float RANGE = 7f;
+    private static final float ANGLE_THRESHOLD = 5f;
+    private static final float MIN_THROW_DISTANCE = 3f;
+
+    private World world;
+    private WorldSnapshot snapshot;
+    private PerceptionSystem perception;
+
+    /**
+     * Constructor for the AI system.
+     *
+     * @param world      : the world
+     * @param perception : the perception system used to check whether the actor's target is visible
+     * @param runner     : the task runner spreading the actors across threads
+     */
+    public AISystem(World world, PerceptionSystem perception, TaskRunner runner) {
+        super(Family.all(ActorComponent.class, AIJobComponent.class, PathCursorComponent.class).get(), SystemPriority.AI, runner);
+
+        this.world = world;
+        this.perception = perception;
+    }
+
+    @Override
+    protected void processEntities(float delta) {
+        snapshot = world.getSnapshot();
+
+        super.processEntities(delta);
+
+        grantCampingPoints();
+    }
+
+    /**
+     * Releases the camping points the actors gave up, then grants those they requested, in entity order. An actor
+     * whose point was granted to another one looks for a point again on the next tick.
+     */
+    private void grantCampingPoints() {
+        TacticalPoints points = world.getTacticalPoints();
+        ImmutableArray<Entity> entities = getEntities();
+
+        for (int i = 0; i < entities.size(); i++) {
+            AIJobComponent job = Mappers.aiJob.get(entities.get(i));
+
+            if (job.releasedPoint >= 0) {
+                points.release(job.releasedPoint, Mappers.actor.get(entities.get(i)).actor.getId());
+                job.releasedPoint = -1;
+            }
+        }
+
+        for (int i = 0; i < entities.size(); i++) {
+            AIJobComponent job = Mappers.aiJob.get(entities.get(i));
+
+            if (job.requestedPoint < 0) {
+                continue;
+            }
+
+            Actor actor = Mappers.actor.get(entities.get(i)).actor;
+            int point = job.requestedPoint;
+
+            job.requestedPoint = -1;
+
+            if (points.claim(point, actor.getId())) {
+                job.campingPoint = point;
+
+                actor.setTarget(new Vector2(points.getX(point), points.getY(point)));
+            }
+        }
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float delta) {
+        aiGeneric(Mappers.actor.get(entity).actor, Mappers.aiJob.get(entity), Mappers.pathCursor.get(entity), delta);
+    }
+
+    /**
+     * Makes the actor follow a generic AI pattern.
+     *
+     * @param actor  : the actor
+     * @param job    : the actor's job state
+     * @param cursor : the actor's path cursor
+     * @param delta  : the time elapsed since the last update
+     */
+    private void aiGeneric(Actor actor, AIJobComponent job, PathCursorComponent cursor, float delta) {
+        if (actor.getHead() != null) {
+            if (actor.getJob() == Job.INVESTIGATE && !perception.isVisible(actor, actor.getHead())) {
+                aiInvestigate(actor, cursor);
+            } else {
+                aiAttack(actor, cursor);
+            }
+        } else {
+            setWeaponState(actor, WeaponState.IDLE);
+
+            // Give up the camping point when doing something else
+            if (actor.getJob() != Actor.Job.CAMP && job.campingPoint >= 0) {
+                job.releasedPoint = job.campingPoint;
+                job.campingPoint = -1;
+            }
+
+            if (actor.getJob() == Actor.Job.NONE) {
+                Actor.Job next = Actor.Job.NONE;
+
+                while (next == Actor.Job.INVESTIGATE || next == Actor.Job.NONE) {
+                    next = Actor.Job.values()[job.random.nextInt(Actor.Job.values().length)];
+                }
+
+                actor.setJob(next);
+            } else {
+                switch (actor.getJob()) {
+                    case NONE:
+                        break;
+
+                    case INVESTIGATE:
+                        aiInvestigate(actor, cursor);
+                        break;
+
+                    case CAMP:
+                        aiCamp(actor, job, cursor, delta);
+                        break;
+
+                    case EXPLORE:
+                        aiExplore(actor, job, cursor);
+                        break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Makes the actor attack.
+     *
+     * @param actor  : the actor
+     * @param cursor : the actor's path cursor
+     */
+    private void aiAttack(Actor actor, PathCursorComponent cursor) {
+        int enemy = actor.getHead().getId();
+
+        // Check if the enemy is still alive
+        if (!snapshot.isAlive(enemy)) {
+            actor.setHead(null);
+
+            return;
+        }
+
+        // Attack
+        Vector2 position = new Vector2(snapshot.x[actor.getId()], snapshot.y[actor.getId()]);
+        Vector2 enemyPos = new Vector2(snapshot.x[enemy], snapshot.y[enemy]);
+
+        actor.setTarget(enemyPos.cpy());
+
+        if (position.dst(enemyPos) < RANGE) {
+            NavigationSystem.turnTowardsTarget(actor, enemyPos.cpy().sub(position));
+
+            float dAngle = Math.abs(actor.getNextRotation() - actor.getRotation());
+
+            if (dAngle < ANGLE_THRESHOLD) {
+                setWeaponState(actor, WeaponState.FIRING);
+
+                // Make use of the time spent reloading
+                float distance = position.dst(enemyPos);
+
+                if (actor.getWeapon().getState() == WeaponState.RELOADING && actor.getGrenades() > 0 && distance > MIN_THROW_DISTANCE) {
+                    actor.setThrowDistance(distance);
+                }
+            }
+        } else {
+            setWeaponState(actor, WeaponState.IDLE);
+
+            // Move towards it
+            cursor.follow = true;
+        }
+    }
+
+    /**
+     * Makes the actor camp at the closest free camping point watching the way the enemies come from: terrorists
+     * watch the rescue zone and counter-terrorists watch away from it. When it is done camping, it moves on to
+     * another job.
+     *
+     * @param actor  : the actor
+     * @param job    : the actor's job state
+     * @param cursor : the actor's path cursor
+     * @param delta  : the time elapsed since the last update
+     */
+    private void aiCamp(Actor actor, AIJobComponent job, PathCursorComponent cursor, float delta) {
+        TacticalPoints points = world.getTacticalPoints();
+        int id = actor.getId();
+
+        // Find a camping point
+        if (job.campingPoint < 0) {
+            float x = snapshot.x[id];
+            float y = snapshot.y[id];
+
+            Vector2 rescue = world.getRescueZone().getCenter(new Vector2());
+            float facing = (float) Math.toDegrees(Math.atan2(rescue.y - y, rescue.x - x));
+
+            if (actor.getType() != Actor.ActorType.TERRORIST) {
+                facing += 180f;
+            }
+
+            facing = (facing + 360f) % 360f;
+
+            int point = points.findNearest(BakedMap.POINT_CAMP, x, y, CAMPING_RANGE, facing, CAMPING_TOLERANCE, id);
+
+            if (point < 0) {
+                point = points.findNearest(BakedMap.POINT_CAMP, x, y, CAMPING_RANGE, facing, 180f, id);
+            }
+
+            if (point < 0) {
+                actor.setJob(Actor.Job.EXPLORE);
+
+                return;
+            }
+
+            // The point is granted after all the actors have thought
+            job.requestedPoint = point;
+
+            return;
+        }
+
+        cursor.follow = true;
+
+        // Camp
+        if (actor.getPath() == null) {
+            actor.setNextRotation(points.getAngle(job.campingPoint));
+
+            job.campingTimer += delta;
+            if (job.campingTimer > CAMPING_TIME) {
+                job.releasedPoint = job.campingPoint;
+
+                job.campingTimer = 0f;
+                job.campingPoint = -1;
+
+                actor.setJob(Actor.Job.NONE);
+            }
+        }
+    }
+
+    /**
+     * Makes the actor explore the map by following a route.
+     *
+     * @param actor  : the actor
+     * @param job    : the actor's job state
+     * @param cursor : the actor's path cursor
+     */
+    private void aiExplore(Actor actor, AIJobComponent job, PathCursorComponent cursor) {
+        // Find a route
+        if (job.route == null) {
+            switch (actor.getType()) {
+                case TERRORIST:
+                    job.route = world.getTerroristRoute(job.random);
+                    break;
+
+                case COUNTER_TERRORIST:
+                    job.route = world.getTerroristRoute(job.random);
+                    break;
+
+                default:
+                    break;
+            }
+        }
+
+        // Follow a route
+        aiFollowRoute(actor, job, cursor);
+
+        if (job.route == null) {
+            actor.setJob(Actor.Job.NONE);
+        }
+    }
+
+    /**
+     * Makes the actor follow a route to "wander" the map. A route is composed of key points (Vector2)
+     * which are used along with a path finder to navigate.
+     *
+     * @param actor  : the actor
+     * @param job    : the actor's job state
+     * @param cursor : the actor's path cursor
+     */
+    private void aiFollowRoute(Actor actor, AIJobComponent job, PathCursorComponent cursor) {
+        if (actor.getPath() == null) {
+            if (job.route.size > 0) {
+                actor.setTarget(job.route.first());
+
+                job.route.removeIndex(0);
+            } else {
+                job.route = null;
+
+                return;
+            }
+        }
+
+        cursor.follow = true;
+    }
+
+    /**
+     * Makes the actor investigate where the shot came from, or where its team last saw an enemy. Once there, it
+     * moves on to another job.
+     *
+     * @param actor  : the actor
+     * @param cursor : the actor's path cursor
+     */
+    private void aiInvestigate(Actor actor, PathCursorComponent cursor) {
+        if (actor.getPath() == null && actor.getHead() == null
+                && (actor.getTarget() == null || actor.getPosition().dst(actor.getTarget()) < 1f)) {
+            actor.setJob(Actor.Job.NONE);
+
+            return;
+        }
+
+        cursor.follow = true;
+    }
+
+    /**
+     * Makes the actor fire or hold its fire, unless it is reloading.
+     *
+     * @param actor : the actor
+     * @param state : the state of the actor's weapon
+     */
+    private static void setWeaponState(Actor actor, WeaponState state) {
+        if (actor.getWeapon().getState() != WeaponState.RELOADING) {
+            actor.getWeapon().setState(state);
+        }
+    }
+
+}
@@ -0,0 +1,265 @@
+package com.github.leblancjs.counter_strike.systems;
+
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.github.leblancjs.counter_strike.model.Actor;
+import com.github.leblancjs.counter_strike.model.Actor.ActorType;
+import com.github.leblancjs.counter_strike.model.Actor.Job;
+import com.github.leblancjs.counter_strike.model.Blood;
+import com.github.leblancjs.counter_strike.model.BulletBuffer;
+import com.github.leblancjs.counter_strike.model.HitscanResolver;
+import com.github.leblancjs.counter_strike.model.MatchRandom;
+import com.github.leblancjs.counter_strike.model.ProjectilePool;
+import com.github.leblancjs.counter_strike.model.WeaponTable;
+import com.github.leblancjs.counter_strike.model.World;
+
+/**
+ * Resolves the bullets fired during the tick against the walls and the actors, in a single walk of each bullet's
+ * ray through the grid. The bullets are kept until the next tick so that they can be rendered.
+ * <p>
+ * Resolution runs in two passes. The bullets are first resolved in parallel, each one only reading the walls and
+ * the actors' bounds as they were on the tick it was fired from, and writing what it hit into its own result; the hits are then applied serially, in the order
+ * the bullets were fired, so that the outcome does not depend on how the bullets were spread across threads.
+ * <p>
+ * When the match is configured for projectiles, the bullets instead become projectiles that travel for several
+ * ticks and can go through a wall or an actor before stopping. Either way, a bullet does less damage the further
+ * it goes, following the falloff of the weapon it was fired with.
+ */
+public class BulletSystem extends EntitySystem {
+
+    /**
+     * Projectiles (speed in cells per second, distances in cells)
+     */
+    public static final float PROJECTILE_SPEED = 40f;
+    public static final float PROJECTILE_RANGE = 24f;
+    public static final int PROJECTILE_PENETRATION = 1;
+
+    private static final float PENETRATION_LOSS = 0.5f;
+    private static final float WALL_EXIT_MARGIN = 0.001f;
+
+    private World world;
+    private PerceptionSystem perception;
+
+    private MatchRandom random;
+
+    private TaskRunner runner;
+
+    /**
+     * Resolvers that are not in use, each one being used by a single thread at a time
+     */
+    private Array<HitscanResolver> resolvers;
+
+    private final TaskRunner.Task resolveTask = new TaskRunner.Task() {
+        @Override
+        public void run(int start, int end) {
+            HitscanResolver resolver = obtainResolver();
+            BulletBuffer bullets = world.getBullets();
+
+            for (int i = start; i < end; i++) {
+                resolver.rewind(bullets.getTick(i));
+
+                int hit = resolver.resolve(bullets.getOriginX(i), bullets.getOriginY(i), bullets.getDirectionX(i), bullets.getDirectionY(i),
+                        BulletBuffer.RANGE, bullets.getShooter(i));
+
+                bullets.setResult(i, hit, resolver.getActor(), resolver.getDistance(), resolver.getCellX(), resolver.getCellY());
+            }
+
+            freeResolver(resolver);
+        }
+    };
+
+    /**
+     * Constructor for the bullet system.
+     *
+     * @param world      : the world
+     * @param perception : the perception system, whose scheduler wakes up the actors that are shot
+     * @param runner     : the task runner spreading the bullets across threads
+     */
+    public BulletSystem(World world, PerceptionSystem perception, TaskRunner runner) {
+        super(SystemPriority.BULLETS);
+
+        this.world = world;
+        this.perception = perception;
+        this.runner = runner;
+
+        random = world.getRandom().split();
+
+        resolvers = new Array<HitscanResolver>();
+    }
+
+    @Override
+    public void update(float delta) {
+        if (world.getConfig().isProjectiles()) {
+            launchProjectiles();
+            moveProjectiles(delta);
+        } else {
+            runner.run(world.getBullets().getSize(), resolveTask);
+
+            applyBulletCollisions();
+        }
+    }
+
+    private synchronized HitscanResolver obtainResolver() {
+        return resolvers.size > 0 ? resolvers.pop() : new HitscanResolver(world);
+    }
+
+    private synchronized void freeResolver(HitscanResolver resolver) {
+        resolvers.add(resolver);
+    }
+
+    /**
+     * Applies the collisions of bullets with walls and actors, in the order the bullets were fired.
+     */
+    private void applyBulletCollisions() {
+        BulletBuffer bullets = world.getBullets();
+        WeaponTable weapons = world.getWeapons();
+
+        for (int i = 0; i < bullets.getSize(); i++) {
+            int hit = bullets.getHit(i);
+
+            if (hit == HitscanResolver.ACTOR) {
+                float damage = bullets.getDamage(i) * weapons.getFalloff(bullets.getWeapon(i), bullets.getHitDistance(i));
+
+                hitActor(world.getActor(bullets.getShooter(i)), world.getActor(bullets.getHitActor(i)), damage);
+            } else if (hit == HitscanResolver.WALL) {
+                hitWall(bullets.getHitCellX(i), bullets.getHitCellY(i));
+            }
+        }
+    }
+
+    /**
+     * Turns the bullets fired during the tick into projectiles.
+     */
+    private void launchProjectiles() {
+        BulletBuffer bullets = world.getBullets();
+        ProjectilePool projectiles = world.getProjectiles();
+
+        for (int i = 0; i < bullets.getSize(); i++) {
+            projectiles.spawn(bullets.getShooter(i), bullets.getWeapon(i), bullets.getOriginX(i), bullets.getOriginY(i), bullets.getDirectionX(i), bullets.getDirectionY(i),
+                    bullets.getDamage(i), PROJECTILE_PENETRATION);
+        }
+    }
+
+    /**
+     * Moves the projectiles in flight. Each one sweeps the whole segment it covers during the tick, so that it
+     * cannot go through a wall or an actor however fast it is and however long the tick. The projectiles are
+     * moved serially, in a deterministic order.
+     *
+     * @param delta : the time elapsed since the last update
+     */
+    private void moveProjectiles(float delta) {
+        ProjectilePool projectiles = world.getProjectiles();
+        WeaponTable weapons = world.getWeapons();
+        HitscanResolver resolver = obtainResolver();
+
+        // Projectiles are checked against where the actors are now
+        resolver.rewind(world.getTick());
+
+        // Removing a projectile moves the last one in its place, so they are moved from the last one
+        for (int i = projectiles.getSize() - 1; i >= 0; i--) {
+            float remaining = Math.min(PROJECTILE_SPEED * delta, PROJECTILE_RANGE - projectiles.getTraveled(i));
+            boolean flying = remaining > 0f;
+
+            while (flying && remaining > 0f) {
+                int hit = resolver.resolve(projectiles.getX(i), projectiles.getY(i), projectiles.getDirectionX(i), projectiles.getDirectionY(i),
+                        remaining, projectiles.getShooter(i), projectiles.getLastHit(i));
+
+                float distance = hit == HitscanResolver.NONE ? remaining : resolver.getDistance();
+
+                projectiles.advance(i, distance);
+                remaining -= distance;
+
+                if (hit == HitscanResolver.ACTOR) {
+                    float damage = projectiles.getDamage(i) * weapons.getFalloff(projectiles.getWeapon(i), projectiles.getTraveled(i));
+
+                    hitActor(world.getActor(projectiles.getShooter(i)), world.getActor(resolver.getActor()), damage);
+
+                    flying = projectiles.penetrate(i, PENETRATION_LOSS, resolver.getActor());
+                } else if (hit == HitscanResolver.WALL) {
+                    hitWall(resolver.getCellX(), resolver.getCellY());
+
+                    flying = projectiles.penetrate(i, PENETRATION_LOSS, -1);
+
+                    if (flying) {
+                        // Go through to the other side of the wall
+                        float exit = getExitDistance(projectiles.getX(i), projectiles.getY(i), projectiles.getDirectionX(i),
+                                projectiles.getDirectionY(i), resolver.getCellX(), resolver.getCellY()) + WALL_EXIT_MARGIN;
+
+                        projectiles.advance(i, exit);
+                        remaining -= exit;
+                    }
+                }
+            }
+
+            if (!flying || projectiles.getTraveled(i) >= PROJECTILE_RANGE) {
+                projectiles.remove(i);
+            }
+        }
+
+        freeResolver(resolver);
+    }
+
+    /**
+     * Returns the distance along a ray from a point of a cell to where it leaves the cell.
+     */
+    private static float getExitDistance(float x, float y, float dx, float dy, int cellX, int cellY) {
+        float exitX = dx > 0 ? (cellX + 1 - x) / dx : dx < 0 ? (cellX - x) / dx : Float.MAX_VALUE;
+        float exitY = dy > 0 ? (cellY + 1 - y) / dy : dy < 0 ? (cellY - y) / dy : Float.MAX_VALUE;
+
+        return Math.max(0f, Math.min(exitX, exitY));
+    }
+
+    /**
+     * Applies a hit on an actor, from a bullet or an explosion: the victim loses health if it is an enemy and
+     * turns on the shooter if it is not already busy with another target.
+     *
+     * @param shooter : the actor who fired
+     * @param victim  : the actor hit
+     * @param damage  : the damage done
+     */
+    void hitActor(Actor shooter, Actor victim, float damage) {
+        if (world.isDebug()) {
+            world.getCollisions().add(new Rectangle(victim.getBounds()));
+        }
+
+        // Set target
+        if (victim.getType() != shooter.getType() && victim.getType() != ActorType.HOSTAGE) {
+            if (victim.getHead() == null) {
+                if (victim.getJob() != Job.INVESTIGATE) {
+                    victim.setPath(null);
+                }
+
+                victim.setJob(Job.INVESTIGATE);
+                victim.setHead(shooter);
+                // The position is a view refreshed on every call, so the target gets its own copy
+                victim.setTarget(shooter.getPosition().cpy());
+            }
+        }
+
+        // Hit
+        if (victim.getType() != shooter.getType()) {
+            victim.setHealth(victim.getHealth() - damage);
+
+            perception.getScheduler().wake(victim.getId());
+        }
+
+        world.getBlood().add(new Blood(victim.getPosition().cpy(), random));
+    }
+
+    /**
+     * Applies a hit on a wall.
+     *
+     * @param cellX : the X position of the wall
+     * @param cellY : the Y position of the wall
+     */
+    private void hitWall(int cellX, int cellY) {
+        Rectangle wall = world.getWall(cellX, cellY);
+
+        // Cells outside the map stop bullets without a wall to show
+        if (wall != null && world.isDebug()) {
+            world.getCollisions().add(wall);
+        }
+    }
+
+}
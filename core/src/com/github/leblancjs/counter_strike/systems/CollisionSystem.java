@@ -0,0 +1,186 @@
+package com.github.leblancjs.counter_strike.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.github.leblancjs.counter_strike.components.Mappers;
+import com.github.leblancjs.counter_strike.components.TransformComponent;
+import com.github.leblancjs.counter_strike.components.VelocityComponent;
+import com.github.leblancjs.counter_strike.controller.ActorController;
+import com.github.leblancjs.counter_strike.model.Actor;
+import com.github.leblancjs.counter_strike.model.ActorStore;
+import com.github.leblancjs.counter_strike.model.World;
+
+/**
+ * Moves the entities by their velocity, one axis at a time, stopping them against walls and other actors.
+ * <p>
+ * Only the actors the spatial index buckets around an entity are checked against it, rather than all the actors of
+ * the world. The index matches the snapshot taken at the beginning of the tick, so the query reaches far enough to
+ * also cover how much the entity and the others can move during a tick.
+ */
+public class CollisionSystem extends ProfiledIteratingSystem {
+
+    private World world;
+    private ActorStore store;
+
+    private IntArray neighbours;
+
+    /**
+     * Constructor for the collision system.
+     *
+     * @param world : the world
+     */
+    public CollisionSystem(World world) {
+        super(Family.all(TransformComponent.class, VelocityComponent.class).get(), SystemPriority.COLLISION);
+
+        this.world = world;
+        this.store = world.getActorStore();
+
+        neighbours = new IntArray();
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float delta) {
+        checkCollisions(Mappers.transform.get(entity).id, delta);
+    }
+
+    /**
+     * Checks for collisions with walls and other actors, then updates the position.
+     *
+     * @param id    : the actor's slot in the store
+     * @param delta : the time elapsed since the last update
+     */
+    private void checkCollisions(int id, float delta) {
+        float x = store.x[id];
+        float y = store.y[id];
+        float dx = store.vx[id] * delta;
+        float dy = store.vy[id] * delta;
+
+        Array<Rectangle> walls;
+
+        // The actors that may be in the way, wherever they moved since the index was built
+        float reach = Actor.BOUNDS_SIZE + Math.max(Math.abs(dx), Math.abs(dy)) + ActorController.VELOCITY_MAX * delta;
+
+        neighbours.clear();
+        world.getActorIndex().query(x + Actor.SIZE / 2, y + Actor.SIZE / 2, reach, neighbours);
+
+        int startX;
+        int endX;
+        int startY;
+        int endY;
+
+        // Check for collisions on the X axis
+        startY = (int) y;
+        endY = (int) (y + Actor.BOUNDS_SIZE);
+
+        if (dx < 0) {
+            startX = endX = (int) Math.floor(x + dx);
+        } else {
+            startX = endX = (int) Math.floor(x + Actor.BOUNDS_SIZE + dx);
+        }
+
+        walls = world.getCollisionRectangles(startX, startY, endX, endY);
+
+        for (Rectangle wall : walls) {
+            if (overlaps(x + dx, y, wall)) {
+                dx = 0;
+
+                if (world.isDebug()) {
+                    world.getCollisions().add(wall);
+                }
+            }
+        }
+
+        if (overlapsActor(id, x + dx, y)) {
+            dx = 0;
+        }
+
+        // Check for collisions on the Y axis
+        startX = (int) x;
+        endX = (int) (x + Actor.BOUNDS_SIZE);
+
+        if (dy < 0) {
+            startY = endY = (int) Math.floor(y + dy);
+        } else {
+            startY = endY = (int) Math.floor(y + Actor.BOUNDS_SIZE + dy);
+        }
+
+        walls = world.getCollisionRectangles(startX, startY, endX, endY);
+
+        for (Rectangle wall : walls) {
+            if (overlaps(x, y + dy, wall)) {
+                dy = 0;
+
+                if (world.isDebug()) {
+                    world.getCollisions().add(wall);
+                }
+            }
+        }
+
+        if (overlapsActor(id, x, y + dy)) {
+            dy = 0;
+        }
+
+        // Update the position
+        store.x[id] = x + dx;
+        store.y[id] = y + dy;
+
+        // The velocity is only lost along the blocked axes
+        if (dx == 0f) {
+            store.vx[id] = 0f;
+        }
+
+        if (dy == 0f) {
+            store.vy[id] = 0f;
+        }
+    }
+
+    /**
+     * Returns whether the actor's bounds at the given position overlap the given rectangle.
+     *
+     * @param x    : the X position of the bounds
+     * @param y    : the Y position of the bounds
+     * @param rect : the rectangle
+     * @return TRUE if they overlap, FALSE otherwise
+     */
+    private boolean overlaps(float x, float y, Rectangle rect) {
+        return x < rect.x + rect.width && x + Actor.BOUNDS_SIZE > rect.x && y < rect.y + rect.height && y + Actor.BOUNDS_SIZE > rect.y;
+    }
+
+    /**
+     * Returns whether the actor's bounds at the given position overlap any of its living neighbours. The actors'
+     * positions are streamed straight from the store.
+     *
+     * @param id : the actor's slot in the store
+     * @param x  : the X position of the bounds
+     * @param y  : the Y position of the bounds
+     * @return TRUE if another actor is in the way, FALSE otherwise
+     */
+    private boolean overlapsActor(int id, float x, float y) {
+        float[] xs = store.x;
+        float[] ys = store.y;
+        boolean overlaps = false;
+
+        for (int i = 0; i < neighbours.size; i++) {
+            int other = neighbours.get(i);
+
+            if (other == id || !store.isAlive(other)) {
+                continue;
+            }
+
+            if (x < xs[other] + Actor.BOUNDS_SIZE && x + Actor.BOUNDS_SIZE > xs[other] &&
+                    y < ys[other] + Actor.BOUNDS_SIZE && y + Actor.BOUNDS_SIZE > ys[other]) {
+                overlaps = true;
+
+                if (world.isDebug()) {
+                    world.getCollisions().add(new Rectangle(xs[other], ys[other], Actor.BOUNDS_SIZE, Actor.BOUNDS_SIZE));
+                }
+            }
+        }
+
+        return overlaps;
+    }
+
+}
@@ -0,0 +1,253 @@
+package com.github.leblancjs.counter_strike.systems;
+
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.github.leblancjs.counter_strike.model.Actor;
+import com.github.leblancjs.counter_strike.model.ActorStore;
+import com.github.leblancjs.counter_strike.model.GrenadePool;
+import com.github.leblancjs.counter_strike.model.HitscanResolver;
+import com.github.leblancjs.counter_strike.model.SoundEvents;
+import com.github.leblancjs.counter_strike.model.WeaponTable;
+import com.github.leblancjs.counter_strike.model.World;
+
+/**
+ * Rolls the grenades thrown and makes them explode when their fuse runs out.
+ * <p>
+ * An explosion only looks at the actors the spatial index buckets within its radius, never at all the actors of
+ * the world, so its cost depends on how crowded the area is rather than on the size of the match. Explosions are
+ * resolved like bullets: the actors within the radius of each explosion are gathered serially, whether a wall
+ * shields each of them is checked in parallel with the grid raycaster, and the damage is then applied serially, in
+ * the order the grenades exploded.
+ */
+public class ExplosionSystem extends EntitySystem {
+
+    /**
+     * Constants
+     */
+    private static final float STEP = 0.5f;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private World world;
+    private ActorStore store;
+    private BulletSystem bullets;
+
+    private TaskRunner runner;
+
+    /**
+     * Resolvers that are not in use, each one being used by a single thread at a time
+     */
+    private Array<HitscanResolver> resolvers;
+
+    private IntArray candidates;
+
+    /**
+     * Pairs of an explosion and an actor within its radius
+     */
+    private int[] pairExplosions;
+    private int[] pairVictims;
+    private float[] pairDistances;
+    private boolean[] pairShielded;
+    private int pairCount;
+
+    private final TaskRunner.Task shieldTask = new TaskRunner.Task() {
+        @Override
+        public void run(int start, int end) {
+            HitscanResolver resolver = obtainResolver();
+            GrenadePool grenades = world.getGrenades();
+
+            for (int p = start; p < end; p++) {
+                int victim = pairVictims[p];
+                float x = grenades.getExplosionX(pairExplosions[p]);
+                float y = grenades.getExplosionY(pairExplosions[p]);
+
+                pairShielded[p] = resolver.castWall(x, y, store.x[victim] + Actor.SIZE / 2, store.y[victim] + Actor.SIZE / 2) == HitscanResolver.WALL;
+            }
+
+            freeResolver(resolver);
+        }
+    };
+
+    /**
+     * Constructor for the explosion system.
+     *
+     * @param world   : the world
+     * @param bullets : the bullet system, which applies hits on actors
+     * @param runner  : the task runner spreading the shielding checks across threads
+     */
+    public ExplosionSystem(World world, BulletSystem bullets, TaskRunner runner) {
+        super(SystemPriority.EXPLOSIONS);
+
+        this.world = world;
+        this.store = world.getActorStore();
+        this.bullets = bullets;
+        this.runner = runner;
+
+        resolvers = new Array<HitscanResolver>();
+        candidates = new IntArray();
+
+        pairExplosions = new int[INITIAL_CAPACITY];
+        pairVictims = new int[INITIAL_CAPACITY];
+        pairDistances = new float[INITIAL_CAPACITY];
+        pairShielded = new boolean[INITIAL_CAPACITY];
+    }
+
+    @Override
+    public void update(float delta) {
+        GrenadePool grenades = world.getGrenades();
+
+        // The explosions of the previous tick have been rendered
+        grenades.clearExplosions();
+
+        moveGrenades(delta);
+
+        if (grenades.getExplosionCount() == 0) {
+            return;
+        }
+
+        gatherVictims();
+
+        runner.run(pairCount, shieldTask);
+
+        applyExplosions();
+    }
+
+    private synchronized HitscanResolver obtainResolver() {
+        return resolvers.size > 0 ? resolvers.pop() : new HitscanResolver(world);
+    }
+
+    private synchronized void freeResolver(HitscanResolver resolver) {
+        resolvers.add(resolver);
+    }
+
+    /**
+     * Rolls the grenades up to where they stop, bouncing them off the walls, and makes those whose fuse ran out
+     * explode. Each grenade moves by steps shorter than a cell so that it cannot go through a wall.
+     *
+     * @param delta : the time elapsed since the last update
+     */
+    private void moveGrenades(float delta) {
+        GrenadePool grenades = world.getGrenades();
+
+        // Exploding a grenade moves the last one in its place, so they are moved from the last one
+        for (int i = grenades.getSize() - 1; i >= 0; i--) {
+            float remaining = Math.min(grenades.getSpeed(i) * delta, grenades.getRemaining(i));
+
+            while (remaining > 0f) {
+                float step = Math.min(STEP, remaining);
+
+                float x = grenades.getX(i);
+                float y = grenades.getY(i);
+                float nextX = x + grenades.getDirectionX(i) * step;
+                float nextY = y + grenades.getDirectionY(i) * step;
+
+                boolean alongX = world.isWall((int) Math.floor(nextX), (int) Math.floor(y));
+                boolean alongY = world.isWall((int) Math.floor(x), (int) Math.floor(nextY));
+
+                // Corner: only the diagonal cell is a wall
+                if (!alongX && !alongY && world.isWall((int) Math.floor(nextX), (int) Math.floor(nextY))) {
+                    alongX = true;
+                    alongY = true;
+                }
+
+                grenades.bounce(i, alongX, alongY);
+                grenades.advance(i, step);
+
+                remaining -= step;
+            }
+
+            if (grenades.burn(i, delta)) {
+                world.getSounds().emit(SoundEvents.EXPLOSION, grenades.getX(i), grenades.getY(i), SoundEvents.EXPLOSION_VOLUME,
+                        grenades.getThrower(i));
+
+                grenades.explode(i);
+            }
+        }
+    }
+
+    /**
+     * Gathers the living actors within the radius of each explosion, from the buckets of the spatial index that
+     * overlap it.
+     */
+    private void gatherVictims() {
+        GrenadePool grenades = world.getGrenades();
+        WeaponTable weapons = world.getWeapons();
+
+        pairCount = 0;
+
+        for (int e = 0; e < grenades.getExplosionCount(); e++) {
+            float x = grenades.getExplosionX(e);
+            float y = grenades.getExplosionY(e);
+            float radius = weapons.getExplosionRadius(grenades.getExplosionWeapon(e));
+
+            candidates.clear();
+            world.getActorIndex().query(x, y, radius, candidates);
+
+            for (int c = 0; c < candidates.size; c++) {
+                int id = candidates.get(c);
+
+                if (!store.isAlive(id)) {
+                    continue;
+                }
+
+                float dx = store.x[id] + Actor.SIZE / 2 - x;
+                float dy = store.y[id] + Actor.SIZE / 2 - y;
+                float distance = (float) Math.sqrt(dx * dx + dy * dy);
+
+                if (distance <= radius) {
+                    addPair(e, id, distance);
+                }
+            }
+        }
+    }
+
+    private void addPair(int explosion, int victim, float distance) {
+        if (pairCount == pairVictims.length) {
+            int capacity = pairCount * 2;
+
+            int[] newExplosions = new int[capacity];
+            int[] newVictims = new int[capacity];
+            float[] newDistances = new float[capacity];
+
+            System.arraycopy(pairExplosions, 0, newExplosions, 0, pairCount);
+            System.arraycopy(pairVictims, 0, newVictims, 0, pairCount);
+            System.arraycopy(pairDistances, 0, newDistances, 0, pairCount);
+
+            pairExplosions = newExplosions;
+            pairVictims = newVictims;
+            pairDistances = newDistances;
+            pairShielded = new boolean[capacity];
+        }
+
+        pairExplosions[pairCount] = explosion;
+        pairVictims[pairCount] = victim;
+        pairDistances[pairCount] = distance;
+
+        pairCount++;
+    }
+
+    /**
+     * Applies the damage of the explosions to the actors no wall shields, less and less towards the edge of their
+     * radius.
+     */
+    private void applyExplosions() {
+        GrenadePool grenades = world.getGrenades();
+        WeaponTable weapons = world.getWeapons();
+
+        for (int p = 0; p < pairCount; p++) {
+            if (pairShielded[p]) {
+                continue;
+            }
+
+            int explosion = pairExplosions[p];
+            int weapon = grenades.getExplosionWeapon(explosion);
+
+            float damage = weapons.getExplosionDamage(weapon) * weapons.getExplosionFalloff(weapon, pairDistances[p]);
+
+            if (damage > 0f) {
+                bullets.hitActor(world.getActor(grenades.getExplosionThrower(explosion)), world.getActor(pairVictims[p]), damage);
+            }
+        }
+    }
+
+}
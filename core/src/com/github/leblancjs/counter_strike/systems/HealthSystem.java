@@ -0,0 +1,71 @@
+package com.github.leblancjs.counter_strike.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.github.leblancjs.counter_strike.components.ActorComponent;
+import com.github.leblancjs.counter_strike.components.HealthComponent;
+import com.github.leblancjs.counter_strike.components.Mappers;
+import com.github.leblancjs.counter_strike.controller.SoundController;
+import com.github.leblancjs.counter_strike.model.Actor;
+import com.github.leblancjs.counter_strike.model.Actor.ActorType;
+import com.github.leblancjs.counter_strike.model.Actor.State;
+import com.github.leblancjs.counter_strike.model.SoundEvents;
+import com.github.leblancjs.counter_strike.model.World;
+
+/**
+ * Removes the entities whose health has run out from the simulation.
+ */
+public class HealthSystem extends ProfiledIteratingSystem {
+
+    private World world;
+
+    /**
+     * Constructor for the health system.
+     *
+     * @param world : the world
+     */
+    public HealthSystem(World world) {
+        super(Family.all(ActorComponent.class, HealthComponent.class).get(), SystemPriority.HEALTH);
+
+        this.world = world;
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float delta) {
+        Actor actor = Mappers.actor.get(entity).actor;
+
+        if (actor.getHealth() <= 0) {
+            die(actor);
+
+            getEngine().removeEntity(entity);
+        }
+    }
+
+    /**
+     * Makes the actor die.
+     *
+     * @param actor : the actor
+     */
+    private void die(Actor actor) {
+        actor.setState(State.DYING);
+
+        actor.removeFromQueue();
+
+        actor.setHead(null);
+
+        world.getTacticalPoints().releaseAll(actor.getId());
+
+        world.getBlackboard(ActorType.TERRORIST).forget(actor.getId());
+        world.getBlackboard(ActorType.COUNTER_TERRORIST).forget(actor.getId());
+
+        world.getDeadActors().add(actor);
+        world.getActors().removeValue(actor, true);
+        world.getPaths().removeValue(actor.getPath(), false);
+
+        world.getSounds().emit(SoundEvents.DEATH, actor.getPosition().x + Actor.SIZE / 2, actor.getPosition().y + Actor.SIZE / 2,
+                SoundEvents.DEATH_VOLUME, actor.getId());
+
+        SoundController.playDying();
+    }
+
+}
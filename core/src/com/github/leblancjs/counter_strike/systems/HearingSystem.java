@@ -0,0 +1,93 @@
+package com.github.leblancjs.counter_strike.systems;
+
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
+import com.github.leblancjs.counter_strike.model.Actor;
+import com.github.leblancjs.counter_strike.model.Actor.ActorType;
+import com.github.leblancjs.counter_strike.model.Actor.Job;
+import com.github.leblancjs.counter_strike.model.ActorStore;
+import com.github.leblancjs.counter_strike.model.SoundEvents;
+import com.github.leblancjs.counter_strike.model.SoundMap;
+import com.github.leblancjs.counter_strike.model.World;
+
+/**
+ * Delivers the sounds emitted during the tick to the AI controlled actors that hear them. The listeners are found
+ * through the actor index, then a sound is heard when it reaches the listener's cell around the walls before
+ * fading out. An actor that hears a sound while it has no target goes to investigate it and senses right away.
+ */
+public class HearingSystem extends EntitySystem {
+
+    private World world;
+    private PerceptionSystem perception;
+
+    private IntArray listeners = new IntArray();
+
+    /**
+     * Constructor for the hearing system.
+     *
+     * @param world      : the world
+     * @param perception : the perception system, whose scheduler wakes up the actors that hear a sound
+     */
+    public HearingSystem(World world, PerceptionSystem perception) {
+        super(SystemPriority.HEARING);
+
+        this.world = world;
+        this.perception = perception;
+    }
+
+    @Override
+    public void update(float delta) {
+        SoundEvents sounds = world.getSounds();
+        SoundMap soundMap = world.getSoundMap();
+        ActorStore store = world.getActorStore();
+
+        for (int event = 0; event < sounds.getCount(); event++) {
+            int sourceX = (int) sounds.getX(event);
+            int sourceY = (int) sounds.getY(event);
+            float volume = Math.min(sounds.getVolume(event), SoundMap.RANGE);
+
+            listeners.clear();
+            world.getActorIndex().query(sounds.getX(event), sounds.getY(event), volume, listeners);
+
+            for (int i = 0; i < listeners.size; i++) {
+                int id = listeners.get(i);
+
+                if (id == sounds.getSource(event) || !store.isAlive(id)) {
+                    continue;
+                }
+
+                int x = (int) (store.x[id] + Actor.SIZE / 2);
+                int y = (int) (store.y[id] + Actor.SIZE / 2);
+
+                if (soundMap.getLoudness(sourceX, sourceY, volume, x, y) > 0f) {
+                    hear(world.getActor(id), sounds.getX(event), sounds.getY(event));
+                }
+            }
+        }
+
+        sounds.clear();
+    }
+
+    /**
+     * Makes an actor react to a sound.
+     *
+     * @param actor : the actor
+     * @param x     : the X coordinate of the sound
+     * @param y     : the Y coordinate of the sound
+     */
+    private void hear(Actor actor, float x, float y) {
+        if (actor.getPlayable() || actor.getType() == ActorType.HOSTAGE || actor.getHead() != null || actor.getJob() == Job.INVESTIGATE) {
+            return;
+        }
+
+        world.removePath(actor.getPath());
+        actor.setPath(null);
+
+        actor.setJob(Job.INVESTIGATE);
+        actor.setTarget(new Vector2((int) x, (int) y));
+
+        perception.getScheduler().wake(actor.getId());
+    }
+
+}
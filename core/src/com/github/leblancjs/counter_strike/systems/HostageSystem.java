@@ -0,0 +1,99 @@
+package com.github.leblancjs.counter_strike.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.math.Vector2;
+import com.github.leblancjs.counter_strike.components.ActorComponent;
+import com.github.leblancjs.counter_strike.components.HostageComponent;
+import com.github.leblancjs.counter_strike.components.Mappers;
+import com.github.leblancjs.counter_strike.components.PathCursorComponent;
+import com.github.leblancjs.counter_strike.model.Actor;
+import com.github.leblancjs.counter_strike.model.Hostage;
+import com.github.leblancjs.counter_strike.model.World;
+import com.github.leblancjs.counter_strike.model.WorldSnapshot;
+
+/**
+ * Makes the hostages behave like hostages. If a hostage has not yet been rescued, it will follow its leader
+ * (head) until it reaches the rescue zone.
+ * <p>
+ * Removing a hostage from its queue rewrites the links of the other hostages of the queue, which they read while
+ * they are processed in parallel. The hostages rescued during the tick are therefore only marked as rescued in
+ * parallel, and removed from their queue serially afterwards, in entity order.
+ */
+public class HostageSystem extends ParallelIteratingSystem {
+
+    private World world;
+    private WorldSnapshot snapshot;
+
+    /**
+     * Constructor for the hostage system.
+     *
+     * @param world  : the world
+     * @param runner : the task runner spreading the hostages across threads
+     */
+    public HostageSystem(World world, TaskRunner runner) {
+        super(Family.all(ActorComponent.class, HostageComponent.class, PathCursorComponent.class).get(), SystemPriority.HOSTAGE, runner);
+
+        this.world = world;
+    }
+
+    @Override
+    protected void processEntities(float delta) {
+        snapshot = world.getSnapshot();
+
+        super.processEntities(delta);
+
+        ImmutableArray<Entity> entities = getEntities();
+
+        for (int i = 0; i < entities.size(); i++) {
+            Hostage hostage = (Hostage) Mappers.actor.get(entities.get(i)).actor;
+
+            // A rescued hostage its neighbours still link to has been rescued during this tick
+            if (hostage.isRescued() && isQueued(hostage)) {
+                hostage.removeFromQueue();
+            }
+        }
+    }
+
+    private boolean isQueued(Actor hostage) {
+        Actor head = hostage.getHead();
+        Actor tail = hostage.getTail();
+
+        return (head != null && head.getTail() == hostage) || (tail != null && tail.getHead() == hostage);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float delta) {
+        Hostage hostage = (Hostage) Mappers.actor.get(entity).actor;
+
+        // Check if the hostage has been rescued
+        if (hostage.isRescued()) {
+            return;
+        }
+
+        // Check if the hostage has reached the rescue zone
+        if (hostage.getBounds().overlaps(world.getRescueZone())) {
+            // Make the hostage rescued
+            hostage.setRescued(true);
+            world.incrementRescueCount();
+        } else {
+            // Follow the leader :)
+            Actor head = hostage.getHead();
+
+            if (head != null) {
+                Vector2 target = hostage.getTarget();
+
+                if (target == null) {
+                    target = new Vector2();
+                    hostage.setTarget(target);
+                }
+
+                target.set(snapshot.x[head.getId()], snapshot.y[head.getId()]);
+
+                Mappers.pathCursor.get(entity).follow = true;
+            }
+        }
+    }
+
+}
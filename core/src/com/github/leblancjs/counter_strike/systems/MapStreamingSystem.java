@@ -0,0 +1,30 @@
+package com.github.leblancjs.counter_strike.systems;
+
+import com.badlogic.ashley.core.EntitySystem;
+import com.github.leblancjs.counter_strike.model.World;
+
+/**
+ * Starts the tick by paging in the chunks of the map around the actors and evicting those that are no longer
+ * needed, before the parallel phases read the map.
+ */
+public class MapStreamingSystem extends EntitySystem {
+
+    private World world;
+
+    /**
+     * Constructor for the map streaming system.
+     *
+     * @param world : the world
+     */
+    public MapStreamingSystem(World world) {
+        super(SystemPriority.STREAMING);
+
+        this.world = world;
+    }
+
+    @Override
+    public void update(float delta) {
+        world.getChunkedMap().update(world.getActorStore());
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.github.leblancjs.counter_strike.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.gdx.math.MathUtils;
+import com.github.leblancjs.counter_strike.components.ActorComponent;
+import com.github.leblancjs.counter_strike.components.Mappers;
+import com.github.leblancjs.counter_strike.components.TransformComponent;
+import com.github.leblancjs.counter_strike.components.VelocityComponent;
+import com.github.leblancjs.counter_strike.model.Actor;
+import com.github.leblancjs.counter_strike.model.Actor.State;
+import com.github.leblancjs.counter_strike.model.ActorStore;
+import com.github.leblancjs.counter_strike.model.World;
+
+/**
+ * Slows the entities down once they have moved, and turns the AI controlled ones towards the rotation they
+ * are aiming for.
+ */
+public class MovementSystem extends ProfiledIteratingSystem {
+
+    private ActorStore store;
+
+    /**
+     * Constructor for the movement system.
+     *
+     * @param world : the world
+     */
+    public MovementSystem(World world) {
+        super(Family.all(ActorComponent.class, TransformComponent.class, VelocityComponent.class).get(), SystemPriority.MOVEMENT);
+
+        this.store = world.getActorStore();
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float delta) {
+        Actor actor = Mappers.actor.get(entity).actor;
+        VelocityComponent velocity = Mappers.velocity.get(entity);
+        int id = Mappers.transform.get(entity).id;
+
+        // Deceleration and velocity limit
+        store.vx[id] = MathUtils.clamp(store.vx[id] * velocity.damp, -velocity.max, velocity.max);
+        store.vy[id] = MathUtils.clamp(store.vy[id] * velocity.damp, -velocity.max, velocity.max);
+
+        if (!Mappers.player.has(entity)) {
+            if (store.vx[id] + store.vy[id] == 0) {
+                actor.setState(State.IDLE);
+            }
+
+            updateRotation(actor);
+        }
+
+        actor.update(delta);
+    }
+
+    /**
+     * Updates the actor's rotation.
+     *
+     * @param actor : the actor
+     */
+    private void updateRotation(Actor actor) {
+        float delta = actor.getRotation() - actor.getNextRotation();
+        float direction;
+        float rotation;
+
+        if (actor.getRotation() < actor.getNextRotation()) {
+            direction = 1f;
+        } else {
+            direction = -1f;
+        }
+
+        if (Math.abs(delta) < Actor.ROTATION_SPEED) {
+            rotation = actor.getNextRotation();
+        } else {
+            rotation = actor.getRotation() + Actor.ROTATION_SPEED * direction;
+
+        }
+
+        actor.setRotation(rotation);
+    }
+
+}
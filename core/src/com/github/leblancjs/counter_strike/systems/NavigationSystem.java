@@ -0,0 +1,177 @@
+package com.github.leblancjs.counter_strike.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.gdx.math.Vector2;
+import com.github.leblancjs.counter_strike.components.ActorComponent;
+import com.github.leblancjs.counter_strike.components.Mappers;
+import com.github.leblancjs.counter_strike.components.PathCursorComponent;
+import com.github.leblancjs.counter_strike.model.Actor;
+import com.github.leblancjs.counter_strike.model.ActorStore;
+import com.github.leblancjs.counter_strike.model.Path;
+import com.github.leblancjs.counter_strike.model.PathFinder;
+import com.github.leblancjs.counter_strike.model.PathNode;
+import com.github.leblancjs.counter_strike.model.World;
+
+/**
+ * Moves the entities that asked to follow a path one step towards their actor's target, finding a new path
+ * whenever the target moves to another cell. Paths are planned in parallel; each entity only writes its own
+ * velocity and state.
+ */
+public class NavigationSystem extends ParallelIteratingSystem {
+
+    /**
+     * Constants
+     */
+    public static final float VELOCITY_AI = 3f;
+
+    private World world;
+    private ActorStore store;
+
+    private PathFinder pathFinder;
+
+    /**
+     * Constructor for the navigation system.
+     *
+     * @param world  : the world
+     * @param runner : the task runner spreading the entities across threads
+     */
+    public NavigationSystem(World world, TaskRunner runner) {
+        super(Family.all(ActorComponent.class, PathCursorComponent.class).get(), SystemPriority.NAVIGATION, runner);
+
+        this.world = world;
+        this.store = world.getActorStore();
+
+        pathFinder = new PathFinder(world);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float delta) {
+        PathCursorComponent cursor = Mappers.pathCursor.get(entity);
+
+        if (!cursor.follow) {
+            return;
+        }
+
+        cursor.follow = false;
+
+        followPath(Mappers.actor.get(entity).actor, cursor);
+    }
+
+    /**
+     * Gets a path to reach the actor's target.
+     *
+     * @param actor  : the actor
+     * @param cursor : the actor's path cursor
+     */
+    private void getPath(Actor actor, PathCursorComponent cursor) {
+        // Check if the target has moved
+        Vector2 target = actor.getTarget();
+        Vector2 lastPosition = cursor.lastPosition;
+
+        if ((int) target.x != (int) lastPosition.x || (int) target.y != (int) lastPosition.y) {
+            lastPosition.set(target);
+
+            // Find a path, following the baked leg when the actor is walking a route
+            world.removePath(actor.getPath());
+
+            Path path = null;
+
+            if (world.getBakedMap() != null) {
+                path = world.getBakedMap().getLeg((int) actor.getPosition().x, (int) actor.getPosition().y, (int) target.x, (int) target.y);
+            }
+
+            if (path == null) {
+                path = pathFinder.getPath(new Vector2((int) actor.getPosition().x, (int) actor.getPosition().y),
+                        new Vector2((int) target.x, (int) target.y));
+            }
+
+            actor.setPath(path);
+
+            world.addPath(path);
+        }
+    }
+
+    /**
+     * Makes the actor follow a path.
+     *
+     * @param actor  : the actor
+     * @param cursor : the actor's path cursor
+     */
+    private void followPath(Actor actor, PathCursorComponent cursor) {
+        getPath(actor, cursor);
+
+        Path path = actor.getPath();
+
+        if (path != null) {
+            // Move towards the next position
+            PathNode node = path.getNextNode();
+
+            if (node != null) {
+                cursor.nextPosition = node.getPosition();
+
+                if (cursor.nextPosition != null) {
+                    Vector2 delta = cursor.nextPosition.cpy().sub(actor.getPosition());
+
+                    float distance = (float) Math.sqrt(delta.x * delta.x + delta.y * delta.y);
+
+                    if (distance < 1f) {
+                        path.removeNode();
+                    } else {
+                        turnTowardsTarget(actor, delta);
+                        moveTowards(actor, cursor.nextPosition);
+                    }
+                }
+            } else {
+                world.removePath(path);
+
+                actor.setPath(null);
+
+                actor.setState(Actor.State.IDLE);
+            }
+        }
+    }
+
+    /**
+     * Makes the actor move towards the given position.
+     *
+     * @param actor        : the actor
+     * @param nextPosition : the position to move towards
+     */
+    private void moveTowards(Actor actor, Vector2 nextPosition) {
+        int id = actor.getId();
+
+        if (nextPosition.x > store.x[id]) {
+            actor.setState(Actor.State.WALKING);
+            store.vx[id] = VELOCITY_AI;
+        } else if (nextPosition.x < store.x[id]) {
+            actor.setState(Actor.State.WALKING);
+            store.vx[id] = -VELOCITY_AI;
+        }
+
+        if (nextPosition.y > store.y[id]) {
+            actor.setState(Actor.State.WALKING);
+            store.vy[id] = VELOCITY_AI;
+        } else if (nextPosition.y < store.y[id]) {
+            actor.setState(Actor.State.WALKING);
+            store.vy[id] = -VELOCITY_AI;
+        }
+    }
+
+    /**
+     * Makes the actor turn towards its target.
+     *
+     * @param actor : the actor
+     * @param delta : the delta x and y between the current position and the target
+     */
+    public static void turnTowardsTarget(Actor actor, Vector2 delta) {
+        float angle = Math.abs((float) (Math.atan2(delta.y, delta.x) * (180 / Math.PI)));
+
+        if (actor.getTarget().y <= (actor.getPosition().y + Actor.SIZE / 2)) {
+            angle = 360 - angle;
+        }
+
+        actor.setNextRotation(angle);
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.github.leblancjs.counter_strike.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+
+/**
+ * Iterating system whose entities are processed through a task runner, so that they can be spread across
+ * several threads. Implementations must only write to the state of the entity being processed and read the
+ * rest of the world from the snapshot taken at the beginning of the tick.
+ */
+public abstract class ParallelIteratingSystem extends ProfiledIteratingSystem {
+
+    private TaskRunner runner;
+
+    private float delta;
+
+    private final TaskRunner.Task task = new TaskRunner.Task() {
+        @Override
+        public void run(int start, int end) {
+            ImmutableArray<Entity> entities = getEntities();
+
+            for (int i = start; i < end; i++) {
+                processEntity(entities.get(i), delta);
+            }
+        }
+    };
+
+    public ParallelIteratingSystem(Family family, int priority, TaskRunner runner) {
+        super(family, priority);
+
+        this.runner = runner;
+    }
+
+    @Override
+    protected void processEntities(float delta) {
+        this.delta = delta;
+
+        runner.run(getEntities().size(), task);
+    }
+
+    /**
+     * Getters and Setters
+     */
+    protected TaskRunner getRunner() {
+        return runner;
+    }
+
+}
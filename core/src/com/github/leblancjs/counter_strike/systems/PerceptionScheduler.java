@@ -0,0 +1,105 @@
+package com.github.leblancjs.counter_strike.systems;
+
+/**
+ * Spreads the sensing of the AI controlled actors across ticks. Each actor senses at a fixed rate, with its own
+ * offset so that about the same number of actors sense every tick, and right away when an event (such as being
+ * shot) wakes it up. The timers are kept per actor slot, so that actors can be scheduled in parallel.
+ */
+public class PerceptionScheduler {
+
+    /**
+     * Fraction of the interval separating the offsets of consecutive slots, which spreads any number of actors
+     * evenly across the interval
+     */
+    private static final float OFFSET_STEP = 0.618034f;
+
+    private float interval;
+
+    private float[] timers;
+    private boolean[] awake;
+
+    /**
+     * Constructor for the perception scheduler.
+     *
+     * @param rate     : the number of times per second each actor senses
+     * @param capacity : the number of actors to make room for
+     */
+    public PerceptionScheduler(float rate, int capacity) {
+        interval = 1f / rate;
+
+        timers = new float[0];
+        awake = new boolean[0];
+
+        ensureCapacity(capacity);
+    }
+
+    /**
+     * Makes room for the given number of actors, staggering the new slots. It must not be called while actors are
+     * being scheduled.
+     *
+     * @param capacity : the number of actors
+     */
+    public void ensureCapacity(int capacity) {
+        if (timers.length >= capacity) {
+            return;
+        }
+
+        float[] newTimers = new float[capacity];
+        boolean[] newAwake = new boolean[capacity];
+
+        System.arraycopy(timers, 0, newTimers, 0, timers.length);
+        System.arraycopy(awake, 0, newAwake, 0, awake.length);
+
+        for (int id = timers.length; id < capacity; id++) {
+            newTimers[id] = interval * ((id * OFFSET_STEP) % 1f);
+        }
+
+        timers = newTimers;
+        awake = newAwake;
+    }
+
+    /**
+     * Advances an actor's timer and returns whether it should sense during this tick.
+     *
+     * @param id    : the actor's slot
+     * @param delta : the time elapsed since the last tick
+     * @return TRUE if the actor should sense, FALSE otherwise
+     */
+    public boolean isDue(int id, float delta) {
+        boolean due = awake[id];
+
+        awake[id] = false;
+
+        timers[id] -= delta;
+
+        if (timers[id] <= 0f) {
+            due = true;
+
+            // Keep the offset, unless the tick was so long that the actor fell a whole interval behind
+            timers[id] += interval;
+
+            if (timers[id] <= 0f) {
+                timers[id] = interval;
+            }
+        }
+
+        return due;
+    }
+
+    /**
+     * Makes an actor sense during the next tick, whatever its timer.
+     *
+     * @param id : the actor's slot
+     */
+    public void wake(int id) {
+        awake[id] = true;
+    }
+
+    /**
+     * Getters and Setters
+     */
+    public float getInterval() {
+        return interval;
+    }
+
+}
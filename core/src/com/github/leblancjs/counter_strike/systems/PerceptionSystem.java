@@ -0,0 +1,257 @@
+package com.github.leblancjs.counter_strike.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
+import com.github.leblancjs.counter_strike.components.AIJobComponent;
+import com.github.leblancjs.counter_strike.components.ActorComponent;
+import com.github.leblancjs.counter_strike.components.Mappers;
+import com.github.leblancjs.counter_strike.model.Actor;
+import com.github.leblancjs.counter_strike.model.Actor.ActorType;
+import com.github.leblancjs.counter_strike.model.Actor.Job;
+import com.github.leblancjs.counter_strike.model.FieldOfView;
+import com.github.leblancjs.counter_strike.model.TeamBlackboard;
+import com.github.leblancjs.counter_strike.model.World;
+import com.github.leblancjs.counter_strike.model.WorldSnapshot;
+
+/**
+ * Makes the AI controlled actors look for enemies. An enemy that is within range and in sight becomes the
+ * actor's target (head). The other actors are read from the world's snapshot.
+ * <p>
+ * Sight comes from the fields of view, computed for each of these actors when the scheduler says it is their turn
+ * to sense, and every tick for the primary actor, whose field of view also lifts the fog of war. Between two
+ * turns, an actor keeps its target and field of view.
+ * <p>
+ * A tick runs in three passes: the actors whose turn it is compute their field of view in parallel, each team's
+ * blackboard gathers what its members see, then those actors pick their target among the enemies their team sees,
+ * in parallel again. An actor with nothing to do investigates where its team last saw an enemy. A sightline is a
+ * single read of the bitset of whichever actor's field of view was computed during the tick, so it is not cached.
+ */
+public class PerceptionSystem extends ParallelIteratingSystem {
+
+    /**
+     * Constants
+     */
+    public static final float LINEOFSIGHT_RANGE = 10f;
+    public static final float LINEOFSIGHT_ANGLE = 90f;
+
+    private static final float INVESTIGATION_AGE = 5f;
+    private static final float INVESTIGATION_RANGE = 20f;
+
+    private World world;
+    private WorldSnapshot snapshot;
+    private long tick;
+
+    private FieldOfView fieldOfView;
+    private PerceptionScheduler scheduler;
+
+    private IntArray sensed;
+
+    private final TaskRunner.Task targetTask = new TaskRunner.Task() {
+        @Override
+        public void run(int start, int end) {
+            for (int i = start; i < end; i++) {
+                Actor actor = Mappers.actor.get(getEntities().get(i)).actor;
+
+                if (fieldOfView.getTick(actor.getId()) == tick) {
+                    checkEnemies(actor);
+                }
+            }
+        }
+    };
+
+    /**
+     * Constructor for the perception system.
+     *
+     * @param world  : the world
+     * @param runner : the task runner spreading the actors across threads
+     */
+    public PerceptionSystem(World world, TaskRunner runner) {
+        super(Family.all(ActorComponent.class, AIJobComponent.class).get(), SystemPriority.PERCEPTION, runner);
+
+        this.world = world;
+
+        fieldOfView = new FieldOfView(world, (int) LINEOFSIGHT_RANGE, world.getActorStore().getSize());
+        world.setFieldOfView(fieldOfView);
+
+        scheduler = new PerceptionScheduler(world.getConfig().getPerceptionRate(), world.getActorStore().getSize());
+
+        sensed = new IntArray();
+    }
+
+    @Override
+    protected void processEntities(float delta) {
+        snapshot = world.getSnapshot();
+        tick = world.getTick();
+
+        fieldOfView.ensureCapacity(snapshot.getSize());
+        scheduler.ensureCapacity(snapshot.getSize());
+
+        // The primary actor's field of view, for the fog of war
+        Actor primary = world.getPrimaryActor();
+
+        if (primary != null && snapshot.isAlive(primary.getId())) {
+            fieldOfView.compute(primary.getId(), snapshot.x[primary.getId()], snapshot.y[primary.getId()], tick);
+        }
+
+        // Sense
+        super.processEntities(delta);
+
+        // Share what the actors that sensed during this tick see
+        sensed.clear();
+
+        for (Actor actor : world.getActors()) {
+            if (fieldOfView.getTick(actor.getId()) == tick) {
+                sensed.add(actor.getId());
+            }
+        }
+
+        TeamBlackboard terrorists = world.getBlackboard(ActorType.TERRORIST);
+        TeamBlackboard counterTerrorists = world.getBlackboard(ActorType.COUNTER_TERRORIST);
+
+        terrorists.ensureCapacity(snapshot.getSize());
+        terrorists.update(delta, sensed, snapshot, world.getActorIndex(), fieldOfView, tick, LINEOFSIGHT_RANGE, INVESTIGATION_AGE);
+
+        counterTerrorists.ensureCapacity(snapshot.getSize());
+        counterTerrorists.update(delta, sensed, snapshot, world.getActorIndex(), fieldOfView, tick, LINEOFSIGHT_RANGE, INVESTIGATION_AGE);
+
+        // Target
+        getRunner().run(getEntities().size(), targetTask);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float delta) {
+        Actor actor = Mappers.actor.get(entity).actor;
+
+        if (scheduler.isDue(actor.getId(), delta)) {
+            fieldOfView.compute(actor.getId(), snapshot.x[actor.getId()], snapshot.y[actor.getId()], tick);
+        }
+    }
+
+    /**
+     * Makes the actor look for the enemies its team sees. The closest one that is within range, in front of it and
+     * in its own field of view becomes the target. Without a target, an actor that is not busy goes to where its
+     * team last saw an enemy.
+     *
+     * @param actor : the actor
+     */
+    private void checkEnemies(Actor actor) {
+        int id = actor.getId();
+
+        TeamBlackboard blackboard = world.getBlackboard(actor.getType());
+
+        if (blackboard == null) {
+            return;
+        }
+
+        float x = snapshot.x[id];
+        float y = snapshot.y[id];
+
+        Actor head = null;
+        float headDistance = Float.MAX_VALUE;
+
+        IntArray sighted = blackboard.getSighted();
+
+        for (int i = 0; i < sighted.size; i++) {
+            int other = sighted.get(i);
+
+            // Keep only those who are within range, in front of him and in his own sight
+            float dx = x - snapshot.x[other];
+            float dy = y - snapshot.y[other];
+
+            float distance = (float) Math.sqrt(dx * dx + dy * dy);
+
+            if (distance > LINEOFSIGHT_RANGE || distance >= headDistance || !isInLineOfSight(id, snapshot.x[other], snapshot.y[other])
+                    || !fieldOfView.isVisible(id, x, y, other, snapshot.x[other], snapshot.y[other], tick)) {
+                continue;
+            }
+
+            head = world.getActor(other);
+            headDistance = distance;
+        }
+
+        actor.setHead(head);
+
+        // Investigate the team's latest sighting
+        if (head == null && (actor.getJob() == Job.NONE || actor.getJob() == Job.EXPLORE)) {
+            int enemy = blackboard.getLatestSighting(x, y, INVESTIGATION_AGE);
+
+            if (enemy >= 0 && blackboard.getSeenBy(enemy) != id) {
+                float dx = x - blackboard.getLastX(enemy);
+                float dy = y - blackboard.getLastY(enemy);
+
+                if (dx * dx + dy * dy <= INVESTIGATION_RANGE * INVESTIGATION_RANGE) {
+                    world.removePath(actor.getPath());
+                    actor.setPath(null);
+
+                    actor.setJob(Job.INVESTIGATE);
+                    actor.setTarget(new Vector2(blackboard.getLastX(enemy), blackboard.getLastY(enemy)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether an enemy is visible to the actor, according to the sightlines of this tick.
+     *
+     * @param actor : the actor
+     * @param enemy : the enemy
+     * @return whether it is visible
+     */
+    public boolean isVisible(Actor actor, Actor enemy) {
+        int id = actor.getId();
+        int other = enemy.getId();
+
+        return fieldOfView.isVisible(id, snapshot.x[id], snapshot.y[id], other, snapshot.x[other], snapshot.y[other], tick);
+    }
+
+    /**
+     * Returns whether the point is in the actor's line of sight
+     *
+     * @param id : the actor's slot in the snapshot
+     * @param px : the X coordinate of the point to check
+     * @param py : the Y coordinate of the point to check
+     * @return TRUE if the point is in sight, FALSE otherwise
+     */
+    private boolean isInLineOfSight(int id, float px, float py) {
+        float rotation = snapshot.rotation[id];
+
+        // Calculate the actor's field of vision
+        float lowerBound = rotation - LINEOFSIGHT_ANGLE;
+
+        if (lowerBound < 0) {
+            lowerBound = 360f + lowerBound;
+        }
+
+        float upperBound = rotation + LINEOFSIGHT_ANGLE;
+
+        if (upperBound > 360f) {
+            upperBound = upperBound - 360f;
+        }
+
+        // Calculate the angle to the point
+        float dx = px - snapshot.x[id];
+        float dy = py - snapshot.y[id];
+
+        float angle = Math.abs((float) (Math.atan2(dy, dx) * (180 / Math.PI)));
+
+        if (py < (snapshot.y[id] + Actor.SIZE / 2)) {
+            angle = 360 - angle;
+        }
+
+        if (lowerBound > upperBound) {
+            return angle <= upperBound || angle >= lowerBound;
+        } else {
+            return angle >= lowerBound && angle <= upperBound;
+        }
+    }
+
+    /**
+     * Getters and Setters
+     */
+    public PerceptionScheduler getScheduler() {
+        return scheduler;
+    }
+
+}
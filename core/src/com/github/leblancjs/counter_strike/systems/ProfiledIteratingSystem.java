@@ -0,0 +1,52 @@
+package com.github.leblancjs.counter_strike.systems;
+
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/**
+ * Iterating system that measures how long each of its updates takes, so that the systems can be profiled
+ * individually.
+ */
+public abstract class ProfiledIteratingSystem extends IteratingSystem {
+
+    private final static float SMOOTHING = 0.05f;
+
+    private long lastUpdateTime;
+    private float averageUpdateTime;
+
+    public ProfiledIteratingSystem(Family family, int priority) {
+        super(family, priority);
+    }
+
+    @Override
+    public void update(float delta) {
+        long start = TimeUtils.nanoTime();
+
+        processEntities(delta);
+
+        lastUpdateTime = TimeUtils.nanoTime() - start;
+        averageUpdateTime += (lastUpdateTime - averageUpdateTime) * SMOOTHING;
+    }
+
+    /**
+     * Processes the entities of the family.
+     *
+     * @param delta : the time elapsed since the last update
+     */
+    protected void processEntities(float delta) {
+        super.update(delta);
+    }
+
+    /**
+     * Getters and Setters
+     */
+    public long getLastUpdateTime() {
+        return lastUpdateTime;
+    }
+
+    public float getAverageUpdateTime() {
+        return averageUpdateTime;
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.github.leblancjs.counter_strike.systems;
+
+/**
+ * Task runner that processes the whole range on the calling thread.
+ */
+public class SerialTaskRunner implements TaskRunner {
+
+    @Override
+    public void run(int count, Task task) {
+        if (count > 0) {
+            task.run(0, count);
+        }
+    }
+
+    @Override
+    public void dispose() {
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.github.leblancjs.counter_strike.systems;
+
+import com.badlogic.ashley.core.EntitySystem;
+import com.github.leblancjs.counter_strike.model.World;
+
+/**
+ * Ends the tick by having the world publish its snapshot.
+ */
+public class SnapshotSystem extends EntitySystem {
+
+    private World world;
+
+    /**
+     * Constructor for the snapshot system.
+     *
+     * @param world : the world
+     */
+    public SnapshotSystem(World world) {
+        super(SystemPriority.SNAPSHOT);
+
+        this.world = world;
+    }
+
+    @Override
+    public void update(float delta) {
+        world.publishSnapshot();
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.github.leblancjs.counter_strike.systems;
+
+/**
+ * Order in which the systems are updated during a tick (lowest first). The tick is split in phases:
+ * <ul>
+ * <li>sense: the map is paged in around the actors, then they look around, in parallel, against the snapshot published by the previous tick;</li>
+ * <li>think: the actors decide what to do and plan their paths, in parallel, against the same snapshot;</li>
+ * <li>act: the actors move, collide, fire and throw grenades, serially and in a deterministic order;</li>
+ * <li>resolve: the bullets are resolved in parallel then applied serially, the grenades roll and explode, deaths are applied, the sounds they made are heard and the world publishes the snapshot of the tick.</li>
+ * </ul>
+ */
+public final class SystemPriority {
+
+    // Sense
+    public static final int STREAMING = 0;
+    public static final int PERCEPTION = 1;
+
+    // Think
+    public static final int AI = 2;
+    public static final int HOSTAGE = 3;
+    public static final int NAVIGATION = 4;
+
+    // Act
+    public static final int COLLISION = 5;
+    public static final int MOVEMENT = 6;
+    public static final int WEAPON = 7;
+
+    // Resolve
+    public static final int BULLETS = 8;
+    public static final int EXPLOSIONS = 9;
+    public static final int HEALTH = 10;
+    public static final int HEARING = 11;
+    public static final int SNAPSHOT = 12;
+
+    private SystemPriority() {
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.github.leblancjs.counter_strike.systems;
+
+/**
+ * Runs a task over a range of indices, possibly splitting the range across several threads. The core module
+ * only ships a serial implementation since it must stay GWT compatible; the platforms that support threads can
+ * provide their own.
+ */
+public interface TaskRunner {
+
+    /**
+     * Work to be done over a range of indices.
+     */
+    interface Task {
+
+        /**
+         * Processes the indices from start (inclusive) to end (exclusive).
+         *
+         * @param start : the first index
+         * @param end   : the index after the last one
+         */
+        void run(int start, int end);
+
+    }
+
+    /**
+     * Runs the task over the indices from 0 to count (exclusive) and waits for it to complete.
+     *
+     * @param count : the number of indices
+     * @param task  : the task to run
+     */
+    void run(int count, Task task);
+
+    /**
+     * Frees the threads used by the runner.
+     */
+    void dispose();
+
+}
@@ -0,0 +1,149 @@
+package com.github.leblancjs.counter_strike.systems;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.github.leblancjs.counter_strike.components.ActorComponent;
+import com.github.leblancjs.counter_strike.components.Mappers;
+import com.github.leblancjs.counter_strike.components.WeaponComponent;
+import com.github.leblancjs.counter_strike.controller.SoundController;
+import com.github.leblancjs.counter_strike.model.Actor;
+import com.github.leblancjs.counter_strike.model.ActorStore;
+import com.github.leblancjs.counter_strike.model.MatchRandom;
+import com.github.leblancjs.counter_strike.model.SoundEvents;
+import com.github.leblancjs.counter_strike.model.Weapon;
+import com.github.leblancjs.counter_strike.model.Weapon.WeaponState;
+import com.github.leblancjs.counter_strike.model.WeaponTable;
+import com.github.leblancjs.counter_strike.model.World;
+
+/**
+ * Updates the weapons. If an actor is firing, its weapon will fire at its fire rate until its magazine is empty,
+ * then reload. Each shot widens the weapon's spread, which recovers while the weapon is not firing. Actors that
+ * want to throw a grenade throw it, whatever their weapon is doing.
+ */
+public class WeaponSystem extends ProfiledIteratingSystem {
+
+    private World world;
+    private ActorStore store;
+
+    private MatchRandom random;
+
+    /**
+     * Constructor for the weapon system.
+     *
+     * @param world : the world
+     */
+    public WeaponSystem(World world) {
+        super(Family.all(ActorComponent.class, WeaponComponent.class).get(), SystemPriority.WEAPON);
+
+        this.world = world;
+        this.store = world.getActorStore();
+        this.random = world.getRandom().split();
+    }
+
+    @Override
+    protected void processEntities(float delta) {
+        // The bullets of the previous tick have been resolved and rendered
+        world.getBullets().clear();
+
+        super.processEntities(delta);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float delta) {
+        WeaponComponent component = Mappers.weapon.get(entity);
+        Weapon weapon = component.weapon;
+        Actor actor = Mappers.actor.get(entity).actor;
+
+        if (actor.getThrowDistance() > 0f) {
+            throwGrenade(actor);
+        }
+
+        if (weapon.getState() == WeaponState.FIRING && weapon.getAmmo() <= 0) {
+            weapon.setState(WeaponState.RELOADING);
+        }
+
+        if (weapon.getState() == WeaponState.RELOADING) {
+            reload(weapon, component, delta);
+        } else if (weapon.getState() == WeaponState.FIRING) {
+            if (component.fireTimer > weapon.getFireRate()) {
+                fire(actor, component);
+            }
+        } else {
+            component.spread = weapon.getTable().getSpreadAfterRecovery(weapon.getType(), component.spread, delta);
+        }
+
+        component.fireTimer += delta;
+    }
+
+    /**
+     * Reloads a weapon. Once its reload time has elapsed, its magazine is full and it can fire again.
+     *
+     * @param weapon    : the weapon
+     * @param component : the weapon's component
+     * @param delta     : the time elapsed since the last update
+     */
+    private void reload(Weapon weapon, WeaponComponent component, float delta) {
+        component.reloadTimer += delta;
+        component.spread = weapon.getTable().getSpreadAfterRecovery(weapon.getType(), component.spread, delta);
+
+        if (component.reloadTimer >= weapon.getReloadTime()) {
+            weapon.setAmmo(weapon.getMagazine());
+            weapon.setState(WeaponState.IDLE);
+
+            component.reloadTimer = 0f;
+        }
+    }
+
+    /**
+     * Makes the actor throw a grenade where it is looking, if it has any left.
+     *
+     * @param actor : the actor
+     */
+    private void throwGrenade(Actor actor) {
+        int id = actor.getId();
+        int grenade = actor.getGrenade();
+
+        if (actor.getGrenades() > 0) {
+            WeaponTable weapons = world.getWeapons();
+
+            float direction = store.rotation[id] * (float) (Math.PI / 180f);
+            float distance = Math.min(actor.getThrowDistance(), weapons.getThrowRange(grenade));
+
+            world.getGrenades().spawn(id, grenade, store.x[id] + Actor.SIZE / 2, store.y[id] + Actor.SIZE / 2, (float) Math.cos(direction),
+                    (float) Math.sin(direction), weapons.getThrowSpeed(grenade), distance, weapons.getFuseTime(grenade));
+
+            actor.setGrenades(actor.getGrenades() - 1);
+        }
+
+        actor.setThrowDistance(0f);
+    }
+
+    /**
+     * Makes the actor fire a bullet.
+     *
+     * @param actor     : the actor
+     * @param component : the actor's weapon
+     */
+    private void fire(Actor actor, WeaponComponent component) {
+        int id = actor.getId();
+        float x = store.x[id] + Actor.SIZE / 2;
+        float y = store.y[id] + Actor.SIZE / 2;
+
+        Weapon weapon = component.weapon;
+
+        // The shot deviates from where the actor aims by up to the weapon's current spread
+        float angle = store.rotation[id] + (random.nextFloat() * 2f - 1f) * component.spread;
+
+        world.getBullets().add(id, weapon.getType(), world.getTick(), x, y, angle, weapon.getDamage());
+
+        weapon.setAmmo(weapon.getAmmo() - 1);
+
+        component.fireTimer = 0f;
+        component.spread = weapon.getTable().getSpreadAfterShot(weapon.getType(), component.spread);
+
+        world.getSounds().emit(SoundEvents.GUNSHOT, x, y, SoundEvents.GUNSHOT_VOLUME, id);
+
+        SoundController.playFire(weapon.getTable().getSound(weapon.getType()));
+    }
+
+}
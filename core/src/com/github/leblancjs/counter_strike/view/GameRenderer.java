@@ -1,7 +1,5 @@
 package com.github.leblancjs.counter_strike.view;
 
-import java.util.HashMap;
-
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
@@ -19,11 +17,16 @@ import com.badlogic.gdx.math.Vector3;
 import com.github.leblancjs.counter_strike.model.Actor;
 import com.github.leblancjs.counter_strike.model.Actor.ActorType;
 import com.github.leblancjs.counter_strike.model.Actor.State;
+import com.github.leblancjs.counter_strike.model.ActorStore;
 import com.github.leblancjs.counter_strike.model.Blood;
-import com.github.leblancjs.counter_strike.model.Bullet;
+import com.github.leblancjs.counter_strike.model.BulletBuffer;
+import com.github.leblancjs.counter_strike.model.FieldOfView;
+import com.github.leblancjs.counter_strike.model.GrenadePool;
+import com.github.leblancjs.counter_strike.model.MapChunk;
 import com.github.leblancjs.counter_strike.model.Path;
 import com.github.leblancjs.counter_strike.model.PathNode;
-import com.github.leblancjs.counter_strike.model.Weapon.WeaponType;
+import com.github.leblancjs.counter_strike.model.ProjectilePool;
+import com.github.leblancjs.counter_strike.model.WeaponTable;
 import com.github.leblancjs.counter_strike.model.World;
 
 public class GameRenderer {
@@ -43,6 +46,7 @@ public class GameRenderer {
     private static final float BLAST_WIDTH = 2f;
     private static final float BLAST_HEIGHT = 1f;
     private static final float BLAST_OFFSET = 1f;
+    private static final float GRENADE_SIZE = 0.5f;
 
     private static final float FOG_DISTANCE = 7f;
     private static final float FOG_ALPHA = 0.9f;
@@ -54,6 +58,11 @@ public class GameRenderer {
     private static final float WEAPON_OFFSET = 0.5f;
 
     private World world;
+
+    /**
+     * How far the game is between its last two ticks, the actors being drawn in between
+     */
+    private float alpha;
     private OrthographicCamera camera;
 
     private TextureRegion[] counterTerroristBodies;
@@ -69,7 +78,7 @@ public class GameRenderer {
     private Texture healthBar;
     private Texture healthBarBack;
 
-    private HashMap<WeaponType, TextureRegion> weapons;
+    private TextureRegion[] weapons;
 
     private Animation legsAnimation;
 
@@ -125,8 +134,12 @@ public class GameRenderer {
 
     /**
      * Renders the game.
+     *
+     * @param alpha : how far the game is between its last two ticks, from 0 to 1
      */
-    public void render() {
+    public void render(float alpha) {
+        this.alpha = alpha;
+
         updateCamera();
 
         drawMap();
@@ -137,6 +150,7 @@ public class GameRenderer {
         drawBlood();
         drawActors();
         drawGunBlasts();
+        drawGrenades();
         drawHealth();
         drawFog();
         drawPointer();
@@ -174,9 +188,10 @@ public class GameRenderer {
      */
     private void updateCamera() {
         Actor player = world.getPrimaryActor();
+        ActorStore store = world.getActorStore();
 
-        float cameraX = (player.getPosition().x + Actor.SIZE / 2) * ppuX;
-        float cameraY = (player.getPosition().y + Actor.SIZE / 2) * ppuY;
+        float cameraX = (store.getInterpolatedX(player.getId(), alpha) + Actor.SIZE / 2) * ppuX;
+        float cameraY = (store.getInterpolatedY(player.getId(), alpha) + Actor.SIZE / 2) * ppuY;
 
         camera.position.set(cameraX, cameraY, 0f);
         //scamera.zoom = 5f;
@@ -235,10 +250,14 @@ public class GameRenderer {
         }
 
         // Weapons
-        weapons = new HashMap<WeaponType, TextureRegion>();
+        WeaponTable weaponTable = world.getWeapons();
+        weapons = new TextureRegion[weaponTable.getSize()];
 
-        weapons.put(WeaponType.M4A1, atlas.findRegion("m4a1"));
-        weapons.put(WeaponType.AK47, atlas.findRegion("ak47"));
+        for (int i = 0; i < weaponTable.getSize(); i++) {
+            if (weaponTable.getTexture(i) != null) {
+                weapons[i] = atlas.findRegion(weaponTable.getTexture(i));
+            }
+        }
 
         // Blast
         blast = atlas.findRegion("blast");
@@ -299,10 +318,13 @@ public class GameRenderer {
      * Draws the world's actors.
      */
     private void drawActors() {
+        ActorStore store = world.getActorStore();
+
         for (Actor actor : world.getActors()) {
-            Vector2 position = actor.getPosition();
-            float x = position.x * ppuX;
-            float y = position.y * ppuY;
+            float positionX = store.getInterpolatedX(actor.getId(), alpha);
+            float positionY = store.getInterpolatedY(actor.getId(), alpha);
+            float x = positionX * ppuX;
+            float y = positionY * ppuY;
             float width = Actor.SIZE * ppuX;
             float height = Actor.SIZE * ppuY;
             float angle = 0f;
@@ -316,12 +338,12 @@ public class GameRenderer {
                 pointerPos.y /= ppuY;
 
                 // Get the direction the actor is facing
-                float dx = pointerPos.x - (actor.getPosition().x + Actor.SIZE / 2);
-                float dy = pointerPos.y - (actor.getPosition().y + Actor.SIZE / 2);
+                float dx = pointerPos.x - (positionX + Actor.SIZE / 2);
+                float dy = pointerPos.y - (positionY + Actor.SIZE / 2);
 
                 angle = Math.abs((float) (Math.atan2(dy, dx) * (180 / Math.PI)));
 
-                if (pointerPos.y < (actor.getPosition().y + Actor.SIZE / 2)) {
+                if (pointerPos.y < (positionY + Actor.SIZE / 2)) {
                     angle = 360 - angle;
                 }
 
@@ -357,8 +379,8 @@ public class GameRenderer {
             batch.draw(body, x, y, 0.5f * width, 0.5f * height, width, height, 1f, 1f, angle);
 
             // Weapon
-            if (actor.getWeapon().getType() != WeaponType.NONE) {
-                batch.draw(weapons.get(actor.getWeapon().getType()), x + (WEAPON_OFFSET * ppuX), y, 0.5f * width - (WEAPON_OFFSET * ppuX), 0.5f * height, width, height, 1f, 1f, angle);
+            if (weapons[actor.getWeapon().getType()] != null) {
+                batch.draw(weapons[actor.getWeapon().getType()], x + (WEAPON_OFFSET * ppuX), y, 0.5f * width - (WEAPON_OFFSET * ppuX), 0.5f * height, width, height, 1f, 1f, angle);
             }
         }
     }
@@ -367,11 +389,37 @@ public class GameRenderer {
      * Draws the gun blasts.
      */
     private void drawGunBlasts() {
-        for (Bullet bullet : world.getBullets()) {
-            Actor shooter = bullet.getShooter();
-            Vector2 position = shooter.getPosition();
+        BulletBuffer bullets = world.getBullets();
+        ActorStore store = world.getActorStore();
+
+        for (int i = 0; i < bullets.getSize(); i++) {
+            Actor shooter = world.getActor(bullets.getShooter(i));
+            float x = store.getInterpolatedX(shooter.getId(), alpha);
+            float y = store.getInterpolatedY(shooter.getId(), alpha);
+
+            batch.draw(blast, (x + BLAST_OFFSET) * ppuX, y * ppuY, (0.5f * Actor.SIZE - BLAST_OFFSET) * ppuX, 0.5f * Actor.SIZE * ppuY, BLAST_WIDTH * ppuX, BLAST_HEIGHT * ppuY, 1f, 1f, shooter.getRotation());
+        }
+    }
+
+    /**
+     * Draws the grenades rolling and the explosions of the tick, which cover their radius.
+     */
+    private void drawGrenades() {
+        GrenadePool grenades = world.getGrenades();
+        WeaponTable weaponTable = world.getWeapons();
+
+        for (int i = 0; i < grenades.getSize(); i++) {
+            TextureRegion region = weapons[grenades.getWeapon(i)];
+
+            if (region != null) {
+                batch.draw(region, (grenades.getX(i) - GRENADE_SIZE / 2) * ppuX, (grenades.getY(i) - GRENADE_SIZE / 2) * ppuY, GRENADE_SIZE * ppuX, GRENADE_SIZE * ppuY);
+            }
+        }
+
+        for (int e = 0; e < grenades.getExplosionCount(); e++) {
+            float radius = weaponTable.getExplosionRadius(grenades.getExplosionWeapon(e));
 
-            batch.draw(blast, (position.x + BLAST_OFFSET) * ppuX, position.y * ppuY, (0.5f * Actor.SIZE - BLAST_OFFSET) * ppuX, 0.5f * Actor.SIZE * ppuY, BLAST_WIDTH * ppuX, BLAST_HEIGHT * ppuY, 1f, 1f, shooter.getRotation());
+            batch.draw(blast, (grenades.getExplosionX(e) - radius) * ppuX, (grenades.getExplosionY(e) - radius) * ppuY, 2 * radius * ppuX, 2 * radius * ppuY);
         }
     }
 
@@ -388,19 +436,30 @@ public class GameRenderer {
      * Draws the actors' health bars.
      */
     private void drawHealth() {
-        for (Actor actor : world.getActors()) {
-            float healthPc = actor.getHealth() / Actor.HEALTH_MAX;
+        ActorStore store = world.getActorStore();
+
+        for (int id = 0, size = store.getSize(); id < size; id++) {
+            if (!store.isAlive(id)) {
+                continue;
+            }
 
-            batch.draw(healthBar, actor.getPosition().x * ppuX, (actor.getPosition().y - HEALTH_BAR_OFFSET) * ppuY, Actor.SIZE * ppuX * healthPc, HEALTH_BAR_HEIGHT * ppuY);
-            batch.draw(healthBarBack, (actor.getPosition().x + Actor.SIZE * healthPc) * ppuX, (actor.getPosition().y - HEALTH_BAR_OFFSET) * ppuY, (Actor.SIZE * (1f - healthPc)) * ppuX, HEALTH_BAR_HEIGHT * ppuY);
+            float x = store.getInterpolatedX(id, alpha);
+            float y = store.getInterpolatedY(id, alpha);
+            float healthPc = store.health[id] / Actor.HEALTH_MAX;
+
+            batch.draw(healthBar, x * ppuX, (y - HEALTH_BAR_OFFSET) * ppuY, Actor.SIZE * ppuX * healthPc, HEALTH_BAR_HEIGHT * ppuY);
+            batch.draw(healthBarBack, (x + Actor.SIZE * healthPc) * ppuX, (y - HEALTH_BAR_OFFSET) * ppuY, (Actor.SIZE * (1f - healthPc)) * ppuX, HEALTH_BAR_HEIGHT * ppuY);
         }
     }
 
     /**
-     * Draws the fog of war.
+     * Draws the fog of war over the cells the primary actor cannot see, or that are too far when no field of view
+     * is computed.
      */
     private void drawFog() {
-        Vector2 position = world.getPrimaryActor().getPosition();
+        Actor primary = world.getPrimaryActor();
+        Vector2 position = primary.getPosition();
+        FieldOfView fieldOfView = world.getFieldOfView();
 
         int startX = (int) Math.floor(position.x - CAMERA_WIDTH / 2);
         int startY = (int) Math.floor(position.y - CAMERA_HEIGHT / 2);
@@ -409,12 +468,12 @@ public class GameRenderer {
 
         for (int y = startY; y < endY; y++) {
             for (int x = startX; x < endX; x++) {
-                Vector2 tile = new Vector2(x, y);
-                Vector2 delta = tile.cpy().sub(position);
+                float dx = x - position.x;
+                float dy = y - position.y;
 
-                float distance = (float) Math.sqrt(delta.x * delta.x + delta.y * delta.y);
+                float distance = (float) Math.sqrt(dx * dx + dy * dy);
 
-                if (distance >= FOG_DISTANCE) {
+                if (distance >= FOG_DISTANCE || (fieldOfView != null && !fieldOfView.isVisible(primary.getId(), x, y))) {
                     batch.draw(fog, x * ppuX, y * ppuY, World.WALL_SIZE * ppuX, World.WALL_SIZE * ppuY);
                 }
             }
@@ -496,9 +555,18 @@ public class GameRenderer {
         // Map
         debugRenderer.begin(ShapeType.Line);
 
-        for (Rectangle wall : world.getBlocks()) {
-            debugRenderer.setColor(Color.RED);
-            debugRenderer.rect(wall.x * ppuX, wall.y * ppuY, wall.width * ppuX, wall.height * ppuY);
+        if (world.getBakedMap() != null) {
+            for (Rectangle wall : world.getBakedMap().getWallBoxes()) {
+                debugRenderer.setColor(Color.RED);
+                debugRenderer.rect(wall.x * ppuX, wall.y * ppuY, wall.width * ppuX, wall.height * ppuY);
+            }
+        } else {
+            for (MapChunk chunk : world.getChunkedMap().getResidentChunks()) {
+                for (Rectangle wall : chunk.getWalls()) {
+                    debugRenderer.setColor(Color.RED);
+                    debugRenderer.rect(wall.x * ppuX, wall.y * ppuY, wall.width * ppuX, wall.height * ppuY);
+                }
+            }
         }
 
         for (Rectangle wall : world.getCollisions()) {
@@ -531,9 +599,32 @@ public class GameRenderer {
         // Bullets
         debugRenderer.begin(ShapeType.Line);
 
-        for (Bullet bullet : world.getBullets()) {
+        BulletBuffer bullets = world.getBullets();
+
+        for (int i = 0; i < bullets.getSize(); i++) {
             debugRenderer.setColor(Color.YELLOW);
-            debugRenderer.line(bullet.getStart().x * ppuX, bullet.getStart().y * ppuX, bullet.getEnd().x * ppuX, bullet.getStart().y + bullet.getEnd().y * ppuY);
+            debugRenderer.line(bullets.getOriginX(i) * ppuX, bullets.getOriginY(i) * ppuY, bullets.getEndX(i) * ppuX, bullets.getEndY(i) * ppuY);
+        }
+
+        // Projectiles, with a tail one cell long
+        ProjectilePool projectiles = world.getProjectiles();
+
+        for (int i = 0; i < projectiles.getSize(); i++) {
+            float x = projectiles.getX(i);
+            float y = projectiles.getY(i);
+
+            debugRenderer.setColor(Color.YELLOW);
+            debugRenderer.line((x - projectiles.getDirectionX(i)) * ppuX, (y - projectiles.getDirectionY(i)) * ppuY, x * ppuX, y * ppuY);
+        }
+
+        // Explosions
+        GrenadePool grenades = world.getGrenades();
+
+        for (int e = 0; e < grenades.getExplosionCount(); e++) {
+            float radius = world.getWeapons().getExplosionRadius(grenades.getExplosionWeapon(e));
+
+            debugRenderer.setColor(Color.RED);
+            debugRenderer.circle(grenades.getExplosionX(e) * ppuX, grenades.getExplosionY(e) * ppuY, radius * ppuX);
         }
 
         debugRenderer.end();
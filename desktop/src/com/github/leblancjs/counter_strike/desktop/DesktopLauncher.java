@@ -8,6 +8,6 @@ import com.github.leblancjs.counter_strike.model.CounterStrike;
 public class DesktopLauncher {
     public static void main(String[] arg) {
         LwjglApplicationConfiguration config = new LwjglApplicationConfiguration();
-        new LwjglApplication(new CounterStrike(), config);
+        new LwjglApplication(new CounterStrike(new ForkJoinTaskRunner(), new MappedMapBufferLoader()), config);
     }
 }
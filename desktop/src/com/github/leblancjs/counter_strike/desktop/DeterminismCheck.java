@@ -0,0 +1,152 @@
+package com.github.leblancjs.counter_strike.desktop;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.graphics.GL20;
+import com.github.leblancjs.counter_strike.controller.GameController;
+import com.github.leblancjs.counter_strike.model.Actor;
+import com.github.leblancjs.counter_strike.model.MatchConfig;
+import com.github.leblancjs.counter_strike.model.World;
+import com.github.leblancjs.counter_strike.systems.SerialTaskRunner;
+import com.github.leblancjs.counter_strike.systems.TaskRunner;
+
+/**
+ * Plays the same match headless with the serial runner and with the fork/join runner, and compares the state of
+ * the world after each run. The state is hashed from the position, health and state of every actor and from the
+ * number of rescued hostages, so that any difference between the runs shows up in the hashes.
+ * <p>
+ * The match is also played through the game controller's update, by frames of uneven lengths shorter than a tick,
+ * until the same number of ticks have been played. Since the simulation only advances by fixed ticks, the frame
+ * rate must not change the state either.
+ * <p>
+ * Usage: DeterminismCheck &lt;seed&gt; &lt;ticks&gt;
+ */
+public class DeterminismCheck extends ApplicationAdapter {
+
+    /**
+     * Lengths of the frames played in turn, as at 144, 75 and 90 frames per second
+     */
+    private final static float[] FRAMES = {1f / 144f, 1f / 75f, 1f / 90f};
+
+    private long seed;
+    private int ticks;
+
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.out.println("Usage: DeterminismCheck <seed> <ticks>");
+            return;
+        }
+
+        new HeadlessApplication(new DeterminismCheck(Long.parseLong(args[0]), Integer.parseInt(args[1])),
+                new HeadlessApplicationConfiguration());
+    }
+
+    /**
+     * Constructor for a check.
+     *
+     * @param seed  : the seed of the match
+     * @param ticks : the number of ticks played by each run
+     */
+    public DeterminismCheck(long seed, int ticks) {
+        this.seed = seed;
+        this.ticks = ticks;
+    }
+
+    @Override
+    public void create() {
+        // The map loads its textures, which the headless backend has no context for
+        Gdx.gl = Gdx.gl20 = createGL();
+
+        long serial = run(new SerialTaskRunner(), false);
+        long forkJoin = run(new ForkJoinTaskRunner(), false);
+        long frames = run(new SerialTaskRunner(), true);
+
+        System.out.println(String.format("serial:    %016x", serial));
+        System.out.println(String.format("fork/join: %016x", forkJoin));
+        System.out.println(String.format("frames:    %016x", frames));
+
+        System.exit(serial == forkJoin && serial == frames ? 0 : 1);
+    }
+
+    /**
+     * Plays the match for the number of ticks with the given runner, either tick by tick or by frames.
+     *
+     * @param runner : the task runner
+     * @param frames : whether to play by frames rather than by ticks
+     * @return the hash of the world's state at the end of the run
+     */
+    private long run(TaskRunner runner, boolean frames) {
+        MatchConfig config = new MatchConfig();
+        config.setSeed(seed);
+
+        World world = new World(config, false);
+        GameController controller = new GameController(world, runner);
+
+        if (frames) {
+            long end = world.getTick() + ticks;
+
+            // The frames are shorter than a tick, so none of them plays more than one and the run stops on time
+            for (int i = 0; world.getTick() < end && controller.getState() == GameController.State.PLAYING; i++) {
+                controller.update(FRAMES[i % FRAMES.length]);
+            }
+        } else {
+            for (int i = 0; i < ticks; i++) {
+                controller.step();
+            }
+        }
+
+        runner.dispose();
+
+        return hash(world);
+    }
+
+    /**
+     * Hashes the state of the world.
+     *
+     * @param world : the world
+     * @return the hash
+     */
+    private long hash(World world) {
+        long hash = world.getTick();
+
+        for (Actor actor : world.getActors()) {
+            hash = hash * 31 + Float.floatToIntBits(actor.getPosition().x);
+            hash = hash * 31 + Float.floatToIntBits(actor.getPosition().y);
+            hash = hash * 31 + Float.floatToIntBits(actor.getHealth());
+            hash = hash * 31 + actor.getState().ordinal();
+        }
+
+        return hash * 31 + world.getRescueCount();
+    }
+
+    /**
+     * Creates a GL that does nothing, returning zero or false from every call.
+     *
+     * @return the GL
+     */
+    private static GL20 createGL() {
+        return (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class[]{GL20.class}, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                Class<?> type = method.getReturnType();
+
+                if (type == int.class) {
+                    return 0;
+                } else if (type == boolean.class) {
+                    return false;
+                } else if (type == float.class) {
+                    return 0f;
+                }
+
+                return null;
+            }
+        });
+    }
+
+}
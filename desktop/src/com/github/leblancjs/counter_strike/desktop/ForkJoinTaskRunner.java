@@ -0,0 +1,88 @@
+package com.github.leblancjs.counter_strike.desktop;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.github.leblancjs.counter_strike.systems.TaskRunner;
+
+/**
+ * Task runner splitting the range across the cores with a fork/join pool.
+ */
+public class ForkJoinTaskRunner implements TaskRunner {
+
+    /**
+     * Number of slices each thread gets, so that slow slices can be stolen by idle threads.
+     */
+    private final static int SLICES_PER_THREAD = 4;
+
+    private ForkJoinPool pool;
+
+    /**
+     * Constructor for a runner using one thread per available core.
+     */
+    public ForkJoinTaskRunner() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor for a runner using the given number of threads.
+     *
+     * @param parallelism : the number of threads
+     */
+    public ForkJoinTaskRunner(int parallelism) {
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @Override
+    public void run(int count, Task task) {
+        if (count <= 0) {
+            return;
+        }
+
+        int grain = Math.max(1, count / (pool.getParallelism() * SLICES_PER_THREAD));
+
+        if (count <= grain) {
+            task.run(0, count);
+        } else {
+            pool.invoke(new RangeAction(task, 0, count, grain));
+        }
+    }
+
+    @Override
+    public void dispose() {
+        pool.shutdown();
+    }
+
+    /**
+     * Action splitting its range in two until it is no larger than the grain.
+     */
+    private static class RangeAction extends RecursiveAction {
+
+        private final static long serialVersionUID = 1L;
+
+        private final Task task;
+        private final int start;
+        private final int end;
+        private final int grain;
+
+        RangeAction(Task task, int start, int end, int grain) {
+            this.task = task;
+            this.start = start;
+            this.end = end;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= grain) {
+                task.run(start, end);
+            } else {
+                int middle = (start + end) >>> 1;
+
+                invokeAll(new RangeAction(task, start, middle, grain), new RangeAction(task, middle, end, grain));
+            }
+        }
+
+    }
+
+}
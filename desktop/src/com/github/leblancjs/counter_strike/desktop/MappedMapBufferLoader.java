@@ -0,0 +1,47 @@
+package com.github.leblancjs.counter_strike.desktop;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.github.leblancjs.counter_strike.model.MapBufferLoader;
+
+/**
+ * Map buffer loader memory mapping the file, so that opening a map costs nothing and its regions are only read
+ * from disk when they are used. Files packed in the classpath cannot be mapped and are read instead.
+ */
+public class MappedMapBufferLoader implements MapBufferLoader {
+
+    @Override
+    public ByteBuffer load(FileHandle file) {
+        if (file.type() == FileType.Classpath || !file.file().exists()) {
+            return ByteBuffer.wrap(file.readBytes());
+        }
+
+        RandomAccessFile input = null;
+
+        try {
+            input = new RandomAccessFile(file.file(), "r");
+
+            FileChannel channel = input.getChannel();
+
+            // The mapping stays valid once the channel is closed
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new GdxRuntimeException("Couldn't map " + file, e);
+        } finally {
+            if (input != null) {
+                try {
+                    input.close();
+                } catch (IOException e) {
+                    // Ignored, the mapping does not need the file to stay open
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,817 @@
+package com.github.leblancjs.counter_strike.tools;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.github.leblancjs.counter_strike.model.BakedMap;
+import com.github.leblancjs.counter_strike.model.MapSource;
+
+/**
+ * Bakes the data derived from TMX maps into the format read by {@link BakedMap}: walkability, merged wall boxes,
+ * the clusters and entrances of a hierarchical (HPA*) navigation graph, cluster visibility sets, the distance
+ * fields to the walls and to the rescue zone, the leg paths of the routes and tactical points.
+ * <p>
+ * Usage: MapBaker &lt;map.tmx&gt; ...
+ */
+public class MapBaker {
+
+    /**
+     * Side of the clusters on maps up to LARGE_MAP cells wide or high, and beyond
+     */
+    private final static int CLUSTER_SIZE = 8;
+    private final static int LARGE_CLUSTER_SIZE = 16;
+    private final static int LARGE_MAP = 256;
+
+    /**
+     * Entrance spans longer than this get a transition at each end instead of one in the middle
+     */
+    private final static int MAX_ENTRANCE_SPAN = 6;
+
+    /**
+     * Distance within which the visibility sets are computed, which covers what an actor can see or shoot
+     */
+    private final static int VISIBILITY_RANGE = 12;
+
+    /**
+     * A cover point becomes a camping point when it watches a sightline at least this long while being seen from
+     * at most this share of the cells around it
+     */
+    private final static int CAMP_SIGHTLINE = 8;
+    private final static float CAMP_EXPOSURE = 0.3f;
+
+    private final static int[] DIAGONAL_DX = {1, 1, 0, -1, -1, -1, 0, 1};
+    private final static int[] DIAGONAL_DY = {0, 1, 1, 1, 0, -1, -1, -1};
+
+    private final static int[] DX = {1, -1, 0, 0};
+    private final static int[] DY = {0, 0, 1, -1};
+
+    private TmxFile map;
+
+    private int width;
+    private int height;
+    private int clusterSize;
+    private int clustersX;
+    private int clustersY;
+
+    private int[] wallDistance;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.out.println("Usage: MapBaker <map.tmx> ...");
+            return;
+        }
+
+        for (String arg : args) {
+            File input = new File(arg);
+            File output = new File(input.getParentFile(), input.getName().replaceFirst("\\.tmx$", "") + BakedMap.EXTENSION);
+
+            long start = System.currentTimeMillis();
+
+            new MapBaker(new TmxFile(input)).bake(output);
+
+            System.out.println("Baked " + input + " into " + output + " in " + (System.currentTimeMillis() - start) + " ms");
+        }
+    }
+
+    /**
+     * Constructor for a baker of the given map.
+     *
+     * @param map : the map
+     */
+    public MapBaker(TmxFile map) {
+        this.map = map;
+
+        width = map.getWidth();
+        height = map.getHeight();
+
+        clusterSize = Math.max(width, height) > LARGE_MAP ? LARGE_CLUSTER_SIZE : CLUSTER_SIZE;
+        clustersX = (width + clusterSize - 1) / clusterSize;
+        clustersY = (height + clusterSize - 1) / clusterSize;
+    }
+
+    /**
+     * Bakes the map's data into the given file.
+     *
+     * @param output : the baked data file
+     * @throws IOException if the file cannot be written
+     */
+    public void bake(File output) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(output)));
+
+        try {
+            out.writeInt(BakedMap.MAGIC);
+            out.writeInt(BakedMap.VERSION);
+            out.writeInt(width);
+            out.writeInt(height);
+            out.writeInt(clusterSize);
+
+            writeWalkability(out);
+            writeWallBoxes(out);
+            writeClusters(out);
+            writeVisibility(out);
+            writeDistanceFields(out);
+            writeRoutes(out);
+            writeTacticalPoints(out);
+        } finally {
+            out.close();
+        }
+    }
+
+    private boolean isWalkable(int x, int y) {
+        return !map.isWall(x, y);
+    }
+
+    private int getCluster(int x, int y) {
+        return (y / clusterSize) * clustersX + x / clusterSize;
+    }
+
+    /* Walkability */
+
+    private void writeWalkability(DataOutputStream out) throws IOException {
+        int wordsPerRow = (width + 31) / 32;
+
+        for (int y = 0; y < height; y++) {
+            for (int word = 0; word < wordsPerRow; word++) {
+                int bits = 0;
+
+                for (int bit = 0; bit < 32 && word * 32 + bit < width; bit++) {
+                    if (isWalkable(word * 32 + bit, y)) {
+                        bits |= 1 << bit;
+                    }
+                }
+
+                out.writeInt(bits);
+            }
+        }
+    }
+
+    /* Wall Boxes */
+
+    /**
+     * Merges the walls greedily into boxes: each box grows as wide as it can along its row, then as high as the
+     * rows above allow.
+     */
+    private void writeWallBoxes(DataOutputStream out) throws IOException {
+        boolean[] merged = new boolean[width * height];
+        Array<Rectangle> boxes = new Array<Rectangle>();
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (merged[y * width + x] || isWalkable(x, y)) {
+                    continue;
+                }
+
+                int w = 1;
+
+                while (x + w < width && !merged[y * width + x + w] && !isWalkable(x + w, y)) {
+                    w++;
+                }
+
+                int h = 1;
+
+                while (y + h < height && isRowOfWalls(merged, x, y + h, w)) {
+                    h++;
+                }
+
+                for (int j = 0; j < h; j++) {
+                    for (int i = 0; i < w; i++) {
+                        merged[(y + j) * width + x + i] = true;
+                    }
+                }
+
+                boxes.add(new Rectangle(x, y, w, h));
+            }
+        }
+
+        out.writeInt(boxes.size);
+
+        for (Rectangle box : boxes) {
+            out.writeInt((int) box.x);
+            out.writeInt((int) box.y);
+            out.writeInt((int) box.width);
+            out.writeInt((int) box.height);
+        }
+    }
+
+    private boolean isRowOfWalls(boolean[] merged, int x, int y, int w) {
+        for (int i = 0; i < w; i++) {
+            if (merged[y * width + x + i] || isWalkable(x + i, y)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /* Clusters */
+
+    /**
+     * Finds the entrances between adjacent clusters, then links the entrances of each cluster with the walking
+     * distance between them.
+     */
+    private void writeClusters(DataOutputStream out) throws IOException {
+        int clusterCount = clustersX * clustersY;
+
+        // Entrances, as pairs of cells on each side of a cluster border
+        IntArray transitions = new IntArray();
+
+        for (int cy = 0; cy < clustersY; cy++) {
+            for (int cx = 0; cx < clustersX; cx++) {
+                int minX = cx * clusterSize;
+                int minY = cy * clusterSize;
+                int maxX = Math.min(minX + clusterSize, width) - 1;
+                int maxY = Math.min(minY + clusterSize, height) - 1;
+
+                // Border with the cluster on the right
+                if (maxX + 1 < width) {
+                    findEntrances(transitions, maxX, minY, maxX + 1, minY, 0, 1, maxY - minY + 1);
+                }
+
+                // Border with the cluster above
+                if (maxY + 1 < height) {
+                    findEntrances(transitions, minX, maxY, minX, maxY + 1, 1, 0, maxX - minX + 1);
+                }
+            }
+        }
+
+        // Nodes, one per distinct transition cell, grouped by cluster
+        Array<IntArray> clusterCells = new Array<IntArray>(clusterCount);
+
+        for (int i = 0; i < clusterCount; i++) {
+            clusterCells.add(new IntArray());
+        }
+
+        IntIntMap seen = new IntIntMap();
+
+        for (int i = 0; i < transitions.size; i++) {
+            int cell = transitions.get(i);
+
+            if (!seen.containsKey(cell)) {
+                seen.put(cell, 0);
+                clusterCells.get(getCluster(cell % width, cell / width)).add(cell);
+            }
+        }
+
+        IntIntMap nodes = new IntIntMap();
+        int[] clusterNodes = new int[clusterCount + 1];
+        IntArray nodeCells = new IntArray();
+
+        for (int c = 0; c < clusterCount; c++) {
+            clusterNodes[c] = nodeCells.size;
+
+            for (int i = 0; i < clusterCells.get(c).size; i++) {
+                nodes.put(clusterCells.get(c).get(i), nodeCells.size);
+                nodeCells.add(clusterCells.get(c).get(i));
+            }
+        }
+
+        clusterNodes[clusterCount] = nodeCells.size;
+
+        // Edges
+        Array<IntArray> targets = new Array<IntArray>(nodeCells.size);
+        Array<IntArray> costs = new Array<IntArray>(nodeCells.size);
+
+        for (int i = 0; i < nodeCells.size; i++) {
+            targets.add(new IntArray());
+            costs.add(new IntArray());
+        }
+
+        // Between clusters
+        for (int i = 0; i < transitions.size; i += 2) {
+            int a = nodes.get(transitions.get(i), -1);
+            int b = nodes.get(transitions.get(i + 1), -1);
+
+            addEdge(targets, costs, a, b, 1);
+            addEdge(targets, costs, b, a, 1);
+        }
+
+        // Within clusters
+        int[] distances = new int[width * height];
+
+        for (int c = 0; c < clusterCount; c++) {
+            for (int a = clusterNodes[c]; a < clusterNodes[c + 1]; a++) {
+                int cell = nodeCells.get(a);
+
+                breadthFirst(distances, cell % width, cell / width, c);
+
+                for (int b = clusterNodes[c]; b < clusterNodes[c + 1]; b++) {
+                    int distance = distances[nodeCells.get(b)];
+
+                    if (a != b && distance > 0) {
+                        addEdge(targets, costs, a, b, distance);
+                    }
+                }
+            }
+        }
+
+        // Write
+        out.writeInt(clustersX);
+        out.writeInt(clustersY);
+
+        out.writeInt(nodeCells.size);
+
+        for (int i = 0; i < nodeCells.size; i++) {
+            out.writeInt(nodeCells.get(i) % width);
+            out.writeInt(nodeCells.get(i) / width);
+        }
+
+        for (int clusterNode : clusterNodes) {
+            out.writeInt(clusterNode);
+        }
+
+        int edge = 0;
+
+        for (int i = 0; i < nodeCells.size; i++) {
+            out.writeInt(edge);
+            edge += targets.get(i).size;
+        }
+
+        out.writeInt(edge);
+
+        for (int i = 0; i < nodeCells.size; i++) {
+            for (int j = 0; j < targets.get(i).size; j++) {
+                out.writeInt(targets.get(i).get(j));
+                out.writeFloat(costs.get(i).get(j));
+            }
+        }
+    }
+
+    /**
+     * Finds the spans of cells that are walkable on both sides of a border and adds their transitions.
+     *
+     * @param transitions : the transitions, as pairs of cells
+     * @param x           : the X position of the first cell on the near side
+     * @param y           : the Y position of the first cell on the near side
+     * @param farX        : the X position of the first cell on the far side
+     * @param farY        : the Y position of the first cell on the far side
+     * @param stepX       : the step along the border on the X axis
+     * @param stepY       : the step along the border on the Y axis
+     * @param length      : the length of the border
+     */
+    private void findEntrances(IntArray transitions, int x, int y, int farX, int farY, int stepX, int stepY, int length) {
+        int start = -1;
+
+        for (int i = 0; i <= length; i++) {
+            boolean open = i < length && isWalkable(x + i * stepX, y + i * stepY) && isWalkable(farX + i * stepX, farY + i * stepY);
+
+            if (open && start < 0) {
+                start = i;
+            } else if (!open && start >= 0) {
+                int end = i - 1;
+
+                if (end - start + 1 > MAX_ENTRANCE_SPAN) {
+                    addTransition(transitions, x, y, farX, farY, stepX, stepY, start);
+                    addTransition(transitions, x, y, farX, farY, stepX, stepY, end);
+                } else {
+                    addTransition(transitions, x, y, farX, farY, stepX, stepY, (start + end) / 2);
+                }
+
+                start = -1;
+            }
+        }
+    }
+
+    private void addTransition(IntArray transitions, int x, int y, int farX, int farY, int stepX, int stepY, int i) {
+        transitions.add((y + i * stepY) * width + x + i * stepX);
+        transitions.add((farY + i * stepY) * width + farX + i * stepX);
+    }
+
+    private void addEdge(Array<IntArray> targets, Array<IntArray> costs, int from, int to, int cost) {
+        if (from < 0 || to < 0 || targets.get(from).contains(to)) {
+            return;
+        }
+
+        targets.get(from).add(to);
+        costs.get(from).add(cost);
+    }
+
+    /**
+     * Computes the walking distance from the cell to every cell of the given cluster (or of the whole map if the
+     * cluster is negative). Unreachable cells are left at -1.
+     */
+    private void breadthFirst(int[] distances, int x, int y, int cluster) {
+        Arrays.fill(distances, -1);
+
+        IntArray queue = new IntArray();
+
+        distances[y * width + x] = 0;
+        queue.add(y * width + x);
+
+        for (int head = 0; head < queue.size; head++) {
+            int cell = queue.get(head);
+            int cx = cell % width;
+            int cy = cell / width;
+
+            for (int d = 0; d < 4; d++) {
+                int nx = cx + DX[d];
+                int ny = cy + DY[d];
+
+                if (!isWalkable(nx, ny) || distances[ny * width + nx] >= 0 || (cluster >= 0 && getCluster(nx, ny) != cluster)) {
+                    continue;
+                }
+
+                distances[ny * width + nx] = distances[cell] + 1;
+                queue.add(ny * width + nx);
+            }
+        }
+    }
+
+    /* Visibility */
+
+    /**
+     * Computes, for each cluster, the clusters that can potentially be seen from it: a cluster is visible if a
+     * line from a cell of the first reaches a cell of the second, or one of its neighbours, within range.
+     */
+    private void writeVisibility(DataOutputStream out) throws IOException {
+        int clusterCount = clustersX * clustersY;
+        int wordsPerCluster = (clusterCount + 31) / 32;
+
+        int[] visible = new int[clusterCount * wordsPerCluster];
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (!isWalkable(x, y)) {
+                    continue;
+                }
+
+                int from = getCluster(x, y);
+
+                for (int ty = Math.max(0, y - VISIBILITY_RANGE); ty <= Math.min(height - 1, y + VISIBILITY_RANGE); ty++) {
+                    for (int tx = Math.max(0, x - VISIBILITY_RANGE); tx <= Math.min(width - 1, x + VISIBILITY_RANGE); tx++) {
+                        int dx = tx - x;
+                        int dy = ty - y;
+
+                        if (dx * dx + dy * dy > VISIBILITY_RANGE * VISIBILITY_RANGE || !isWalkable(tx, ty)) {
+                            continue;
+                        }
+
+                        // Skip the cells whose surroundings are already known to be visible
+                        if (isVisible(visible, wordsPerCluster, from, getCluster(tx, ty)) && !isOnClusterBorder(tx, ty)) {
+                            continue;
+                        }
+
+                        if (isInLineOfSight(x, y, tx, ty) || isInLineOfSight(tx, ty, x, y)) {
+                            for (int ny = Math.max(0, ty - 1); ny <= Math.min(height - 1, ty + 1); ny++) {
+                                for (int nx = Math.max(0, tx - 1); nx <= Math.min(width - 1, tx + 1); nx++) {
+                                    int to = getCluster(nx, ny);
+
+                                    visible[from * wordsPerCluster + (to >> 5)] |= 1 << (to & 31);
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        for (int word : visible) {
+            out.writeInt(word);
+        }
+    }
+
+    private boolean isVisible(int[] visible, int wordsPerCluster, int from, int to) {
+        return (visible[from * wordsPerCluster + (to >> 5)] & (1 << (to & 31))) != 0;
+    }
+
+    private boolean isOnClusterBorder(int x, int y) {
+        int i = x % clusterSize;
+        int j = y % clusterSize;
+
+        return i == 0 || j == 0 || i == clusterSize - 1 || j == clusterSize - 1;
+    }
+
+    /**
+     * Walks the line between two cells (Bresenham) and returns whether it is free of walls.
+     */
+    private boolean isInLineOfSight(int x0, int y0, int x1, int y1) {
+        int dx = Math.abs(x1 - x0);
+        int dy = -Math.abs(y1 - y0);
+        int sx = x0 < x1 ? 1 : -1;
+        int sy = y0 < y1 ? 1 : -1;
+        int error = dx + dy;
+
+        int x = x0;
+        int y = y0;
+
+        while (x != x1 || y != y1) {
+            if (!isWalkable(x, y)) {
+                return false;
+            }
+
+            int e2 = 2 * error;
+
+            if (e2 >= dy) {
+                error += dy;
+                x += sx;
+            }
+
+            if (e2 <= dx) {
+                error += dx;
+                y += sy;
+            }
+        }
+
+        return true;
+    }
+
+    /* Distance Fields */
+
+    private void writeDistanceFields(DataOutputStream out) throws IOException {
+        // Distance to the closest wall (multi-source breadth-first search from the walls)
+        wallDistance = new int[width * height];
+        Arrays.fill(wallDistance, -1);
+
+        IntArray queue = new IntArray();
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (!isWalkable(x, y)) {
+                    wallDistance[y * width + x] = 0;
+                    queue.add(y * width + x);
+                }
+            }
+        }
+
+        spread(wallDistance, queue, false);
+
+        for (int distance : wallDistance) {
+            // Open maps without any wall are as far as can be stored
+            out.writeByte(distance < 0 ? 255 : Math.min(distance, 255));
+        }
+
+        // Walking distance to the rescue zone
+        int[] rescueDistance = new int[width * height];
+        Arrays.fill(rescueDistance, -1);
+
+        queue.clear();
+
+        for (Rectangle zone : map.getZones(MapSource.ZONE_RESCUE)) {
+            for (int y = (int) zone.y; y < (int) Math.ceil(zone.y + zone.height); y++) {
+                for (int x = (int) zone.x; x < (int) Math.ceil(zone.x + zone.width); x++) {
+                    if (isWalkable(x, y) && rescueDistance[y * width + x] < 0) {
+                        rescueDistance[y * width + x] = 0;
+                        queue.add(y * width + x);
+                    }
+                }
+            }
+        }
+
+        spread(rescueDistance, queue, true);
+
+        for (int distance : rescueDistance) {
+            out.writeInt(distance);
+        }
+    }
+
+    /**
+     * Spreads the distances from the queued cells to the cells that have none yet.
+     *
+     * @param distances : the distances, -1 for the cells not reached yet
+     * @param queue     : the cells to spread from
+     * @param walkable  : whether to only spread over walkable cells
+     */
+    private void spread(int[] distances, IntArray queue, boolean walkable) {
+        for (int head = 0; head < queue.size; head++) {
+            int cell = queue.get(head);
+            int cx = cell % width;
+            int cy = cell / width;
+
+            for (int d = 0; d < 4; d++) {
+                int nx = cx + DX[d];
+                int ny = cy + DY[d];
+
+                if (nx < 0 || nx >= width || ny < 0 || ny >= height || distances[ny * width + nx] >= 0) {
+                    continue;
+                }
+
+                if (walkable && !isWalkable(nx, ny)) {
+                    continue;
+                }
+
+                distances[ny * width + nx] = distances[cell] + 1;
+                queue.add(ny * width + nx);
+            }
+        }
+    }
+
+    /* Routes */
+
+    private void writeRoutes(DataOutputStream out) throws IOException {
+        int[] distances = new int[width * height];
+
+        out.writeInt(map.getRoutes().size);
+
+        for (int[] route : map.getRoutes()) {
+            out.writeInt(route.length / 2);
+
+            for (int value : route) {
+                out.writeInt(value);
+            }
+
+            for (int i = 0; i + 3 < route.length; i += 2) {
+                IntArray leg = findLeg(distances, route[i], route[i + 1], route[i + 2], route[i + 3]);
+
+                out.writeInt(leg.size / 2);
+
+                for (int j = 0; j < leg.size; j++) {
+                    out.writeInt(leg.get(j));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the cells of a shortest walk between two cells, from the one after the start to the end, or none if
+     * the end cannot be reached.
+     */
+    private IntArray findLeg(int[] distances, int startX, int startY, int endX, int endY) {
+        IntArray leg = new IntArray();
+
+        if (!isWalkable(startX, startY) || !isWalkable(endX, endY)) {
+            return leg;
+        }
+
+        // Distances from the end, then walk downhill from the start
+        breadthFirst(distances, endX, endY, -1);
+
+        if (distances[startY * width + startX] < 0) {
+            return leg;
+        }
+
+        int x = startX;
+        int y = startY;
+
+        while (x != endX || y != endY) {
+            for (int d = 0; d < 4; d++) {
+                int nx = x + DX[d];
+                int ny = y + DY[d];
+
+                if (isWalkable(nx, ny) && distances[ny * width + nx] == distances[y * width + x] - 1) {
+                    x = nx;
+                    y = ny;
+                    break;
+                }
+            }
+
+            leg.add(x);
+            leg.add(y);
+        }
+
+        return leg;
+    }
+
+    /* Tactical Points */
+
+    /**
+     * Finds cover points, in corners along the walls, and choke points, where a corridor one cell wide opens up.
+     * Each faces the most open direction. Cover points that watch a long sightline without being exposed become
+     * camping points, facing that sightline. Every point gets its exposure, the share of the walkable cells within
+     * range that can see it.
+     */
+    private void writeTacticalPoints(DataOutputStream out) throws IOException {
+        IntArray kinds = new IntArray();
+        IntArray positions = new IntArray();
+        FloatArray angles = new FloatArray();
+        FloatArray exposures = new FloatArray();
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (!isWalkable(x, y)) {
+                    continue;
+                }
+
+                boolean right = isWalkable(x + 1, y);
+                boolean left = isWalkable(x - 1, y);
+                boolean up = isWalkable(x, y + 1);
+                boolean down = isWalkable(x, y - 1);
+
+                int kind = -1;
+                float angle = 0f;
+
+                if (right != left && up != down) {
+                    // Corner: two adjacent walls, facing away from them
+                    kind = BakedMap.POINT_COVER;
+                    angle = getAngle(right ? 1 : -1, up ? 1 : -1);
+                } else if (!right && !left && up && down && isOpening(x, y + 1, true) != isOpening(x, y - 1, true)) {
+                    // Vertical corridor opening on one side, facing down the corridor
+                    kind = BakedMap.POINT_CHOKE;
+                    angle = isOpening(x, y + 1, true) ? 270f : 90f;
+                } else if (!up && !down && right && left && isOpening(x + 1, y, false) != isOpening(x - 1, y, false)) {
+                    // Horizontal corridor opening on one side, facing down the corridor
+                    kind = BakedMap.POINT_CHOKE;
+                    angle = isOpening(x + 1, y, false) ? 180f : 0f;
+                }
+
+                if (kind < 0) {
+                    continue;
+                }
+
+                float exposure = getExposure(x, y);
+
+                if (kind == BakedMap.POINT_COVER && exposure <= CAMP_EXPOSURE) {
+                    int direction = getLongestSightline(x, y);
+
+                    if (getSightline(x, y, direction) >= CAMP_SIGHTLINE) {
+                        kind = BakedMap.POINT_CAMP;
+                        angle = getAngle(DIAGONAL_DX[direction], DIAGONAL_DY[direction]);
+                    }
+                }
+
+                kinds.add(kind);
+                positions.add(x);
+                positions.add(y);
+                angles.add(angle);
+                exposures.add(exposure);
+            }
+        }
+
+        out.writeInt(kinds.size);
+
+        for (int i = 0; i < kinds.size; i++) {
+            out.writeInt(kinds.get(i));
+            out.writeInt(positions.get(i * 2));
+            out.writeInt(positions.get(i * 2 + 1));
+            out.writeFloat(angles.get(i));
+            out.writeFloat(exposures.get(i));
+        }
+    }
+
+    /**
+     * Returns the share of the walkable cells within the visibility range that have a line of sight to the cell.
+     */
+    private float getExposure(int x, int y) {
+        int walkable = 0;
+        int seeing = 0;
+
+        for (int j = y - VISIBILITY_RANGE; j <= y + VISIBILITY_RANGE; j++) {
+            for (int i = x - VISIBILITY_RANGE; i <= x + VISIBILITY_RANGE; i++) {
+                if ((i - x) * (i - x) + (j - y) * (j - y) > VISIBILITY_RANGE * VISIBILITY_RANGE || !isWalkable(i, j)) {
+                    continue;
+                }
+
+                walkable++;
+
+                if (isInLineOfSight(i, j, x, y)) {
+                    seeing++;
+                }
+            }
+        }
+
+        return walkable > 0 ? (float) seeing / walkable : 0f;
+    }
+
+    /**
+     * Returns which of the eight directions has the longest sightline from the cell.
+     */
+    private int getLongestSightline(int x, int y) {
+        int best = 0;
+
+        for (int d = 1; d < DIAGONAL_DX.length; d++) {
+            if (getSightline(x, y, d) > getSightline(x, y, best)) {
+                best = d;
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Returns how many cells can be seen from the cell in the given direction, up to the visibility range.
+     */
+    private int getSightline(int x, int y, int direction) {
+        int length = 0;
+
+        while (length < VISIBILITY_RANGE && isWalkable(x + DIAGONAL_DX[direction] * (length + 1), y + DIAGONAL_DY[direction] * (length + 1))) {
+            length++;
+        }
+
+        return length;
+    }
+
+    /**
+     * Returns whether the cell is no longer enclosed on the sides of a corridor going in the given direction.
+     */
+    private boolean isOpening(int x, int y, boolean vertical) {
+        if (vertical) {
+            return isWalkable(x - 1, y) || isWalkable(x + 1, y);
+        } else {
+            return isWalkable(x, y - 1) || isWalkable(x, y + 1);
+        }
+    }
+
+    private static float getAngle(float dx, float dy) {
+        float angle = (float) Math.toDegrees(Math.atan2(dy, dx));
+
+        return angle < 0f ? angle + 360f : angle;
+    }
+
+}
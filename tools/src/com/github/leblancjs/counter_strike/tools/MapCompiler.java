@@ -0,0 +1,149 @@
+package com.github.leblancjs.counter_strike.tools;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.github.leblancjs.counter_strike.model.BinaryMap;
+import com.github.leblancjs.counter_strike.model.MapSource;
+
+/**
+ * Compiles TMX maps into the binary format read by {@link BinaryMap}, so that the game never parses XML, decodes
+ * base64 or inflates layers when a match starts.
+ * <p>
+ * Usage: MapCompiler &lt;map.tmx&gt; [&lt;map.map&gt;] ...
+ */
+public class MapCompiler {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.out.println("Usage: MapCompiler <map.tmx> [<map.map>] ...");
+            return;
+        }
+
+        for (int i = 0; i < args.length; i++) {
+            File input = new File(args[i]);
+            File output;
+
+            if (i + 1 < args.length && args[i + 1].endsWith(BinaryMap.EXTENSION)) {
+                output = new File(args[++i]);
+            } else {
+                output = new File(input.getParentFile(), input.getName().replaceFirst("\\.tmx$", "") + BinaryMap.EXTENSION);
+            }
+
+            compile(new TmxFile(input), output);
+
+            System.out.println("Compiled " + input + " into " + output);
+        }
+    }
+
+    /**
+     * Writes the compiled form of the map.
+     *
+     * @param map    : the map
+     * @param output : the compiled map file
+     * @throws IOException if the file cannot be written
+     */
+    public static void compile(TmxFile map, File output) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(output)));
+
+        try {
+            int width = map.getWidth();
+            int height = map.getHeight();
+
+            // Header
+            out.writeInt(BinaryMap.MAGIC);
+            out.writeInt(BinaryMap.VERSION);
+            out.writeInt(width);
+            out.writeInt(height);
+            out.writeInt(map.getTileWidth());
+            out.writeInt(map.getTileHeight());
+
+            writeString(out, map.getAtlas());
+
+            // Tilesets
+            out.writeInt(map.getTilesetNames().size);
+
+            for (int i = 0; i < map.getTilesetNames().size; i++) {
+                writeString(out, map.getTilesetNames().get(i));
+                out.writeInt(map.getTilesetFirstGids().get(i));
+            }
+
+            // Layers
+            out.writeInt(map.getLayers().size);
+
+            for (int i = 0; i < map.getLayers().size; i++) {
+                writeString(out, map.getLayerNames().get(i));
+
+                for (int gid : map.getLayers().get(i)) {
+                    out.writeInt(gid);
+                }
+            }
+
+            // Occupancy
+            int wordsPerRow = (width + 31) / 32;
+
+            for (int y = 0; y < height; y++) {
+                for (int word = 0; word < wordsPerRow; word++) {
+                    int bits = 0;
+
+                    for (int bit = 0; bit < 32 && word * 32 + bit < width; bit++) {
+                        if (map.isWall(word * 32 + bit, y)) {
+                            bits |= 1 << bit;
+                        }
+                    }
+
+                    out.writeInt(bits);
+                }
+            }
+
+            // Navigation
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    int mask = 0;
+
+                    if (!map.isWall(x, y)) {
+                        mask |= map.isWall(x + 1, y) ? 0 : BinaryMap.NAV_RIGHT;
+                        mask |= map.isWall(x - 1, y) ? 0 : BinaryMap.NAV_LEFT;
+                        mask |= map.isWall(x, y + 1) ? 0 : BinaryMap.NAV_UP;
+                        mask |= map.isWall(x, y - 1) ? 0 : BinaryMap.NAV_DOWN;
+                    }
+
+                    out.writeByte(mask);
+                }
+            }
+
+            // Zones
+            int zoneCount = 0;
+
+            for (int kind = 0; kind < MapSource.ZONE_NAMES.length; kind++) {
+                zoneCount += map.getZones(kind).size;
+            }
+
+            out.writeInt(zoneCount);
+
+            for (int kind = 0; kind < MapSource.ZONE_NAMES.length; kind++) {
+                for (Rectangle zone : map.getZones(kind)) {
+                    out.writeInt(kind);
+                    out.writeFloat(zone.x);
+                    out.writeFloat(zone.y);
+                    out.writeFloat(zone.width);
+                    out.writeFloat(zone.height);
+                }
+            }
+        } finally {
+            out.close();
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes("UTF-8");
+
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+}
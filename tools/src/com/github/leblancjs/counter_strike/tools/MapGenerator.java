@@ -0,0 +1,495 @@
+package com.github.leblancjs.counter_strike.tools;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.Deflater;
+
+import com.badlogic.gdx.utils.Base64Coder;
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Generates TMX maps of any size for benchmarks, using the tiles of dust. A map is made of rooms and corridors,
+ * open fields scattered with obstacles or a maze, and gets spawn, hostage and rescue zones and routes that are all
+ * reachable from one another. The same seed always generates the same map.
+ * <p>
+ * Usage: MapGenerator &lt;rooms|fields|maze&gt; &lt;width&gt; &lt;height&gt; &lt;density&gt; &lt;seed&gt; &lt;map.tmx&gt;
+ * <p>
+ * The density (between 0 and 1) is the share of the map covered by rooms, by obstacles or by dead ends.
+ */
+public class MapGenerator {
+
+    public enum Layout {
+        ROOMS, FIELDS, MAZE
+    }
+
+    /**
+     * Tiles (global ids in the dust tileset)
+     */
+    private final static int SAND = 9;
+    private final static int WALL = 2;
+
+    private final static String ATLAS = "../dust/dust packfile";
+    private final static String TILESET = "dust";
+    private final static int TILE_SIZE = 32;
+
+    /**
+     * Zones
+     */
+    private final static int SPAWN_SIZE = 5;
+    private final static int HOSTAGE_ZONE_SIZE = 4;
+    private final static int ROUTE_WAYPOINTS = 5;
+    private final static int ROUTE_COUNT = 2;
+
+    private final static int MIN_SIZE = 24;
+
+    private final static int[] DX = {1, -1, 0, 0};
+    private final static int[] DY = {0, 0, 1, -1};
+
+    private Layout layout;
+    private int width;
+    private int height;
+    private float density;
+    private Random random;
+
+    /**
+     * Walls, bottom row first
+     */
+    private boolean[] walls;
+
+    /**
+     * Zones, as x, y, width and height, bottom row first
+     */
+    private int[] ctSpawn;
+    private int[] tSpawn;
+    private int[] hostageZone;
+
+    private IntArray[] routes;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 6) {
+            System.out.println("Usage: MapGenerator <rooms|fields|maze> <width> <height> <density> <seed> <map.tmx>");
+            return;
+        }
+
+        MapGenerator generator = new MapGenerator(Layout.valueOf(args[0].toUpperCase()), Integer.parseInt(args[1]),
+                Integer.parseInt(args[2]), Float.parseFloat(args[3]), Long.parseLong(args[4]));
+
+        File output = new File(args[5]);
+
+        if (output.getParentFile() != null) {
+            output.getParentFile().mkdirs();
+        }
+
+        generator.generate();
+        generator.write(output);
+
+        System.out.println("Generated " + output);
+    }
+
+    /**
+     * Constructor for a generator.
+     *
+     * @param layout  : the layout of the map
+     * @param width   : the width of the map, in cells
+     * @param height  : the height of the map, in cells
+     * @param density : the share of the map covered by rooms, obstacles or dead ends, between 0 and 1
+     * @param seed    : the seed
+     */
+    public MapGenerator(Layout layout, int width, int height, float density, long seed) {
+        if (width < MIN_SIZE || height < MIN_SIZE) {
+            throw new IllegalArgumentException("Maps must be at least " + MIN_SIZE + " cells wide and high.");
+        }
+
+        this.layout = layout;
+        this.width = width;
+        this.height = height;
+        this.density = Math.max(0f, Math.min(1f, density));
+
+        random = new Random(seed);
+    }
+
+    /**
+     * Generates the map's walls, zones and routes.
+     */
+    public void generate() {
+        walls = new boolean[width * height];
+
+        switch (layout) {
+            case ROOMS:
+                generateRooms();
+                break;
+
+            case FIELDS:
+                generateFields();
+                break;
+
+            case MAZE:
+                generateMaze();
+                break;
+        }
+
+        // Border
+        for (int x = 0; x < width; x++) {
+            walls[x] = true;
+            walls[(height - 1) * width + x] = true;
+        }
+
+        for (int y = 0; y < height; y++) {
+            walls[y * width] = true;
+            walls[y * width + width - 1] = true;
+        }
+
+        placeZones();
+        placeRoutes();
+    }
+
+    /* Layouts */
+
+    /**
+     * Places random rooms until they cover the density's share of the map, each linked to the previous one by an
+     * L-shaped corridor.
+     */
+    private void generateRooms() {
+        Arrays.fill(walls, true);
+
+        int target = (int) (width * height * Math.max(0.1f, density));
+        int carved = 0;
+        int previousX = -1;
+        int previousY = -1;
+
+        for (int attempt = 0; attempt < width * height && carved < target; attempt++) {
+            int w = 4 + random.nextInt(Math.max(1, Math.min(12, width / 4)));
+            int h = 4 + random.nextInt(Math.max(1, Math.min(12, height / 4)));
+            int x = 1 + random.nextInt(Math.max(1, width - w - 2));
+            int y = 1 + random.nextInt(Math.max(1, height - h - 2));
+
+            carved += carve(x, y, w, h);
+
+            int centerX = x + w / 2;
+            int centerY = y + h / 2;
+
+            if (previousX >= 0) {
+                // Corridors are two cells wide, so that actors can pass one another
+                if (random.nextBoolean()) {
+                    carved += carve(Math.min(previousX, centerX), previousY, Math.abs(centerX - previousX) + 2, 2);
+                    carved += carve(centerX, Math.min(previousY, centerY), 2, Math.abs(centerY - previousY) + 2);
+                } else {
+                    carved += carve(previousX, Math.min(previousY, centerY), 2, Math.abs(centerY - previousY) + 2);
+                    carved += carve(Math.min(previousX, centerX), centerY, Math.abs(centerX - previousX) + 2, 2);
+                }
+            }
+
+            previousX = centerX;
+            previousY = centerY;
+        }
+    }
+
+    /**
+     * Scatters obstacles over an open field until they cover the density's share of the map.
+     */
+    private void generateFields() {
+        int target = (int) (width * height * density * 0.5f);
+        int placed = 0;
+
+        while (placed < target) {
+            int w = 1 + random.nextInt(4);
+            int h = 1 + random.nextInt(4);
+            int x = 1 + random.nextInt(width - w - 1);
+            int y = 1 + random.nextInt(height - h - 1);
+
+            for (int j = y; j < y + h; j++) {
+                for (int i = x; i < x + w; i++) {
+                    if (!walls[j * width + i]) {
+                        walls[j * width + i] = true;
+                        placed++;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Digs a maze with corridors two cells wide (depth-first backtracking), then knocks down walls to open loops.
+     * The denser the map, the fewer loops are opened.
+     */
+    private void generateMaze() {
+        Arrays.fill(walls, true);
+
+        // Maze cells are 2x2 with a wall between them
+        int columns = (width - 1) / 3;
+        int rows = (height - 1) / 3;
+
+        boolean[] visited = new boolean[columns * rows];
+        IntArray stack = new IntArray();
+
+        stack.add(0);
+        visited[0] = true;
+        carve(1, 1, 2, 2);
+
+        int[] directions = new int[4];
+
+        while (stack.size > 0) {
+            int cell = stack.peek();
+            int column = cell % columns;
+            int row = cell / columns;
+
+            int count = 0;
+
+            for (int d = 0; d < 4; d++) {
+                int nc = column + DX[d];
+                int nr = row + DY[d];
+
+                if (nc >= 0 && nc < columns && nr >= 0 && nr < rows && !visited[nr * columns + nc]) {
+                    directions[count++] = d;
+                }
+            }
+
+            if (count == 0) {
+                stack.pop();
+                continue;
+            }
+
+            int d = directions[random.nextInt(count)];
+            int nc = column + DX[d];
+            int nr = row + DY[d];
+
+            visited[nr * columns + nc] = true;
+            stack.add(nr * columns + nc);
+
+            carve(1 + Math.min(column, nc) * 3, 1 + Math.min(row, nr) * 3, DX[d] != 0 ? 5 : 2, DY[d] != 0 ? 5 : 2);
+        }
+
+        // Loops
+        int openings = (int) (columns * rows * (1f - density) * 0.5f);
+
+        for (int i = 0; i < openings; i++) {
+            int column = random.nextInt(columns);
+            int row = random.nextInt(rows);
+
+            if (random.nextBoolean() && column + 1 < columns) {
+                carve(1 + column * 3, 1 + row * 3, 5, 2);
+            } else if (row + 1 < rows) {
+                carve(1 + column * 3, 1 + row * 3, 2, 5);
+            }
+        }
+    }
+
+    /**
+     * Clears the walls of the given area, clipped to the inside of the map.
+     *
+     * @return the number of cells cleared
+     */
+    private int carve(int x, int y, int w, int h) {
+        int cleared = 0;
+
+        for (int j = Math.max(1, y); j < Math.min(height - 1, y + h); j++) {
+            for (int i = Math.max(1, x); i < Math.min(width - 1, x + w); i++) {
+                if (walls[j * width + i]) {
+                    walls[j * width + i] = false;
+                    cleared++;
+                }
+            }
+        }
+
+        return cleared;
+    }
+
+    /* Zones */
+
+    /**
+     * Places the counter-terrorist spawn (also the rescue zone) in the bottom right corner, the terrorist spawn in
+     * the top left corner and the hostages in the middle, then clears them and digs corridors between them so that
+     * they are all reachable.
+     */
+    private void placeZones() {
+        ctSpawn = new int[]{width - 2 - SPAWN_SIZE, 1, SPAWN_SIZE, SPAWN_SIZE};
+        tSpawn = new int[]{1, height - 2 - SPAWN_SIZE, SPAWN_SIZE, SPAWN_SIZE};
+        hostageZone = new int[]{(width - HOSTAGE_ZONE_SIZE) / 2, (height - HOSTAGE_ZONE_SIZE) / 2, HOSTAGE_ZONE_SIZE, HOSTAGE_ZONE_SIZE};
+
+        carve(ctSpawn[0], ctSpawn[1], ctSpawn[2], ctSpawn[3]);
+        carve(tSpawn[0], tSpawn[1], tSpawn[2], tSpawn[3]);
+        carve(hostageZone[0], hostageZone[1], hostageZone[2], hostageZone[3]);
+
+        connect(tSpawn, hostageZone);
+        connect(hostageZone, ctSpawn);
+    }
+
+    /**
+     * Digs a corridor between two zones if the second cannot be reached from the first.
+     */
+    private void connect(int[] from, int[] to) {
+        int[] distances = getDistances(from[0], from[1]);
+
+        if (distances[to[1] * width + to[0]] >= 0) {
+            return;
+        }
+
+        carve(Math.min(from[0], to[0]), from[1], Math.abs(to[0] - from[0]) + 2, 2);
+        carve(to[0], Math.min(from[1], to[1]), 2, Math.abs(to[1] - from[1]) + 2);
+    }
+
+    /**
+     * Routes go from the terrorist spawn to the counter-terrorist spawn through random reachable cells.
+     */
+    private void placeRoutes() {
+        int[] distances = getDistances(tSpawn[0], tSpawn[1]);
+
+        IntArray reachable = new IntArray();
+
+        for (int i = 0; i < distances.length; i++) {
+            if (distances[i] >= 0) {
+                reachable.add(i);
+            }
+        }
+
+        routes = new IntArray[ROUTE_COUNT];
+
+        for (int r = 0; r < ROUTE_COUNT; r++) {
+            routes[r] = new IntArray();
+            routes[r].add(tSpawn[1] * width + tSpawn[0] + SPAWN_SIZE / 2 * (width + 1));
+
+            for (int i = 0; i < ROUTE_WAYPOINTS; i++) {
+                routes[r].add(reachable.get(random.nextInt(reachable.size)));
+            }
+
+            routes[r].add(ctSpawn[1] * width + ctSpawn[0] + SPAWN_SIZE / 2 * (width + 1));
+        }
+    }
+
+    /**
+     * Returns the walking distance from the cell to every cell of the map, -1 where it cannot walk.
+     */
+    private int[] getDistances(int x, int y) {
+        int[] distances = new int[width * height];
+        Arrays.fill(distances, -1);
+
+        IntArray queue = new IntArray();
+
+        distances[y * width + x] = 0;
+        queue.add(y * width + x);
+
+        for (int head = 0; head < queue.size; head++) {
+            int cell = queue.get(head);
+
+            for (int d = 0; d < 4; d++) {
+                int nx = cell % width + DX[d];
+                int ny = cell / width + DY[d];
+
+                if (nx < 0 || nx >= width || ny < 0 || ny >= height || walls[ny * width + nx] || distances[ny * width + nx] >= 0) {
+                    continue;
+                }
+
+                distances[ny * width + nx] = distances[cell] + 1;
+                queue.add(ny * width + nx);
+            }
+        }
+
+        return distances;
+    }
+
+    /* Output */
+
+    /**
+     * Writes the map in the TMX format, with a sand layer, a wall layer, the zones and the routes.
+     *
+     * @param output : the TMX file
+     * @throws IOException if the file cannot be written
+     */
+    public void write(File output) throws IOException {
+        Writer out = new OutputStreamWriter(new FileOutputStream(output), "UTF-8");
+
+        try {
+            out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+            out.write("<map version=\"1.4\" orientation=\"orthogonal\" renderorder=\"right-down\" width=\"" + width + "\" height=\"" + height +
+                    "\" tilewidth=\"" + TILE_SIZE + "\" tileheight=\"" + TILE_SIZE + "\" infinite=\"0\">\n");
+            out.write(" <properties>\n");
+            out.write("  <property name=\"atlas\" value=\"" + ATLAS + "\"/>\n");
+            out.write(" </properties>\n");
+            out.write(" <tileset firstgid=\"1\" name=\"" + TILESET + "\" tilewidth=\"" + TILE_SIZE + "\" tileheight=\"" + TILE_SIZE + "\" tilecount=\"0\" columns=\"0\"/>\n");
+
+            writeLayer(out, 1, "Sand", false);
+            writeLayer(out, 2, "Walls", true);
+
+            // Zones
+            out.write(" <objectgroup id=\"3\" name=\"Spawns\" visible=\"0\">\n");
+            writeZone(out, 1, "ct_spawn", ctSpawn);
+            writeZone(out, 2, "t_spawn", tSpawn);
+            writeZone(out, 3, "hostage_spawn", hostageZone);
+            writeZone(out, 4, "rescue_zone", ctSpawn);
+            out.write(" </objectgroup>\n");
+
+            // Routes
+            out.write(" <objectgroup id=\"4\" name=\"Routes\" visible=\"0\">\n");
+
+            for (int r = 0; r < routes.length; r++) {
+                out.write("  <object id=\"" + (5 + r) + "\" x=\"0\" y=\"0\">\n   <polyline points=\"");
+
+                for (int i = 0; i < routes[r].size; i++) {
+                    int cell = routes[r].get(i);
+
+                    // Points are in pixels, from the top of the map down, at the center of their cell
+                    out.write((i > 0 ? " " : "") + ((cell % width) * TILE_SIZE + TILE_SIZE / 2) + "," +
+                            ((height - 1 - cell / width) * TILE_SIZE + TILE_SIZE / 2));
+                }
+
+                out.write("\"/>\n  </object>\n");
+            }
+
+            out.write(" </objectgroup>\n");
+            out.write("</map>\n");
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Writes a tile layer, encoded in base64 and compressed with zlib like the layers saved by Tiled.
+     */
+    private void writeLayer(Writer out, int id, String name, boolean wallLayer) throws IOException {
+        ByteBuffer gids = ByteBuffer.allocate(width * height * 4).order(ByteOrder.LITTLE_ENDIAN);
+
+        // TMX rows go from the top of the map down
+        for (int row = 0; row < height; row++) {
+            for (int x = 0; x < width; x++) {
+                boolean wall = walls[(height - 1 - row) * width + x];
+
+                gids.putInt(wallLayer ? (wall ? WALL : 0) : SAND);
+            }
+        }
+
+        Deflater deflater = new Deflater();
+        deflater.setInput(gids.array());
+        deflater.finish();
+
+        byte[] buffer = new byte[gids.capacity() + 64];
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+
+        while (!deflater.finished()) {
+            compressed.write(buffer, 0, deflater.deflate(buffer));
+        }
+
+        deflater.end();
+
+        out.write(" <layer id=\"" + id + "\" name=\"" + name + "\" width=\"" + width + "\" height=\"" + height + "\">\n");
+        out.write("  <data encoding=\"base64\" compression=\"zlib\">\n   ");
+        out.write(Base64Coder.encode(compressed.toByteArray()));
+        out.write("\n  </data>\n </layer>\n");
+    }
+
+    private void writeZone(Writer out, int id, String type, int[] zone) throws IOException {
+        // Objects are in pixels, from the top of the map down
+        int top = height - zone[1] - zone[3];
+
+        out.write("  <object id=\"" + id + "\" type=\"" + type + "\" x=\"" + zone[0] * TILE_SIZE + "\" y=\"" + top * TILE_SIZE +
+                "\" width=\"" + zone[2] * TILE_SIZE + "\" height=\"" + zone[3] * TILE_SIZE + "\"/>\n");
+    }
+
+}
@@ -0,0 +1,185 @@
+package com.github.leblancjs.counter_strike.tools;
+
+import java.util.Random;
+
+import com.badlogic.gdx.math.Intersector;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.math.collision.Ray;
+import com.github.leblancjs.counter_strike.model.RayBoxKernel;
+
+/**
+ * Compares the batched ray-box kernel used to resolve bullets with testing each pair of ray and box with
+ * Intersector.intersectRayBoundsFast, on random rays and actor sized boxes. Both are warmed up before being
+ * timed, and the number of hits is printed so that the work cannot be optimized away and the results can be
+ * checked against each other.
+ * <p>
+ * Usage: RayBoxBenchmark &lt;rays&gt; &lt;boxes&gt; &lt;iterations&gt;
+ */
+public class RayBoxBenchmark {
+
+    private final static float AREA = 64f;
+    private final static float BOX_SIZE = 0.875f;
+    private final static float RANGE = 12f;
+
+    private final static int WARMUP = 20;
+
+    private int rayCount;
+    private int boxCount;
+
+    private float[] rayX;
+    private float[] rayY;
+    private float[] rayDX;
+    private float[] rayDY;
+
+    private float[] boxX;
+    private float[] boxY;
+
+    public static void main(String[] args) {
+        if (args.length != 3) {
+            System.out.println("Usage: RayBoxBenchmark <rays> <boxes> <iterations>");
+            return;
+        }
+
+        RayBoxBenchmark benchmark = new RayBoxBenchmark(Integer.parseInt(args[0]), Integer.parseInt(args[1]), 1L);
+        int iterations = Integer.parseInt(args[2]);
+
+        benchmark.run(iterations);
+    }
+
+    /**
+     * Constructor for a benchmark.
+     *
+     * @param rayCount : the number of rays
+     * @param boxCount : the number of boxes
+     * @param seed     : the seed of the rays and boxes
+     */
+    public RayBoxBenchmark(int rayCount, int boxCount, long seed) {
+        this.rayCount = rayCount;
+        this.boxCount = boxCount;
+
+        Random random = new Random(seed);
+
+        rayX = new float[rayCount];
+        rayY = new float[rayCount];
+        rayDX = new float[rayCount];
+        rayDY = new float[rayCount];
+
+        for (int r = 0; r < rayCount; r++) {
+            float angle = random.nextFloat() * (float) (Math.PI * 2);
+
+            rayX[r] = random.nextFloat() * AREA;
+            rayY[r] = random.nextFloat() * AREA;
+            rayDX[r] = (float) Math.cos(angle);
+            rayDY[r] = (float) Math.sin(angle);
+        }
+
+        boxX = new float[boxCount];
+        boxY = new float[boxCount];
+
+        for (int b = 0; b < boxCount; b++) {
+            boxX[b] = random.nextFloat() * AREA;
+            boxY[b] = random.nextFloat() * AREA;
+        }
+    }
+
+    /**
+     * Times both paths and prints the time per pair of ray and box.
+     *
+     * @param iterations : the number of timed passes over all the rays
+     */
+    public void run(int iterations) {
+        RayBoxKernel kernel = new RayBoxKernel();
+
+        for (int b = 0; b < boxCount; b++) {
+            kernel.add(b, boxX[b], boxY[b], boxX[b] + BOX_SIZE, boxY[b] + BOX_SIZE);
+        }
+
+        int[] hits = new int[rayCount];
+        float[] distances = new float[rayCount];
+
+        // The boxes are flat along Z, but thick enough that the Z slab does not divide zero by zero
+        BoundingBox[] boxes = new BoundingBox[boxCount];
+
+        for (int b = 0; b < boxCount; b++) {
+            boxes[b] = new BoundingBox(new Vector3(boxX[b], boxY[b], -1f), new Vector3(boxX[b] + BOX_SIZE, boxY[b] + BOX_SIZE, 1f));
+        }
+
+        Ray[] rays = new Ray[rayCount];
+
+        for (int r = 0; r < rayCount; r++) {
+            rays[r] = new Ray(new Vector3(rayX[r], rayY[r], 0f), new Vector3(rayDX[r], rayDY[r], 0f));
+        }
+
+        for (int i = 0; i < WARMUP; i++) {
+            runKernel(kernel, hits, distances);
+            runIntersector(rays, boxes);
+        }
+
+        long start = System.nanoTime();
+        long kernelHits = 0;
+
+        for (int i = 0; i < iterations; i++) {
+            kernelHits += runKernel(kernel, hits, distances);
+        }
+
+        long kernelTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        long intersectorHits = 0;
+
+        for (int i = 0; i < iterations; i++) {
+            intersectorHits += runIntersector(rays, boxes);
+        }
+
+        long intersectorTime = System.nanoTime() - start;
+
+        double pairs = (double) rayCount * boxCount * iterations;
+
+        System.out.println(String.format("kernel:      %8.3f ns/pair, %d hits", kernelTime / pairs, kernelHits));
+        System.out.println(String.format("intersector: %8.3f ns/pair, %d hits (whole ray, range not checked)", intersectorTime / pairs, intersectorHits));
+    }
+
+    /**
+     * Finds the first box hit by each ray with the kernel.
+     *
+     * @return the number of rays that hit a box
+     */
+    private int runKernel(RayBoxKernel kernel, int[] hits, float[] distances) {
+        kernel.findNearest(rayX, rayY, rayDX, rayDY, RANGE, rayCount, hits, distances);
+
+        int count = 0;
+
+        for (int r = 0; r < rayCount; r++) {
+            if (hits[r] >= 0) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Tests each pair of ray and box with the intersector.
+     *
+     * @return the number of rays that hit a box
+     */
+    private int runIntersector(Ray[] rays, BoundingBox[] boxes) {
+        int count = 0;
+
+        for (int r = 0; r < rayCount; r++) {
+            boolean hit = false;
+
+            for (int b = 0; b < boxCount; b++) {
+                hit |= Intersector.intersectRayBoundsFast(rays[r], boxes[b]);
+            }
+
+            if (hit) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+}
@@ -0,0 +1,319 @@
+package com.github.leblancjs.counter_strike.tools;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.zip.DataFormatException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Base64Coder;
+import com.badlogic.gdx.utils.XmlReader;
+import com.badlogic.gdx.utils.XmlReader.Element;
+import com.github.leblancjs.counter_strike.model.MapSource;
+
+/**
+ * Content of a TMX map, read without any graphics context so that maps can be processed offline. Only what the
+ * game uses is read: the tile layers, the inline tilesets, the atlas property, the "Spawns" object layer and the
+ * polylines of the "Routes" object layer.
+ * Rows are stored from the bottom of the map up, as in LibGDX.
+ */
+public class TmxFile {
+
+    private int width;
+    private int height;
+    private int tileWidth;
+    private int tileHeight;
+
+    private String atlas;
+
+    private Array<String> tilesetNames = new Array<String>();
+    private Array<Integer> tilesetFirstGids = new Array<Integer>();
+
+    private Array<String> layerNames = new Array<String>();
+    private Array<int[]> layers = new Array<int[]>();
+
+    private Array<Array<Rectangle>> zones = new Array<Array<Rectangle>>();
+    private Array<int[]> routes = new Array<int[]>();
+
+    /**
+     * Reads the TMX file.
+     *
+     * @param file : the TMX file
+     */
+    public TmxFile(File file) {
+        Element map = new XmlReader().parse(new FileHandle(file));
+
+        width = map.getIntAttribute("width");
+        height = map.getIntAttribute("height");
+        tileWidth = map.getIntAttribute("tilewidth");
+        tileHeight = map.getIntAttribute("tileheight");
+
+        // Properties
+        atlas = "";
+
+        Element properties = map.getChildByName("properties");
+
+        if (properties != null) {
+            for (Element property : properties.getChildrenByName("property")) {
+                if ("atlas".equals(property.getAttribute("name"))) {
+                    atlas = property.getAttribute("value");
+                }
+            }
+        }
+
+        // Tilesets
+        for (Element tileset : map.getChildrenByName("tileset")) {
+            if (tileset.getAttribute("source", null) != null) {
+                throw new IllegalArgumentException("External tilesets are not supported: " + tileset.getAttribute("source"));
+            }
+
+            tilesetNames.add(tileset.getAttribute("name"));
+            tilesetFirstGids.add(tileset.getIntAttribute("firstgid", 1));
+        }
+
+        // Layers
+        for (Element layer : map.getChildrenByName("layer")) {
+            layerNames.add(layer.getAttribute("name"));
+            layers.add(readLayer(layer.getChildByName("data")));
+        }
+
+        // Zones
+        for (int i = 0; i < MapSource.ZONE_NAMES.length; i++) {
+            zones.add(new Array<Rectangle>());
+        }
+
+        for (Element group : map.getChildrenByName("objectgroup")) {
+            if ("Routes".equals(group.getAttribute("name", null))) {
+                readRoutes(group);
+            }
+
+            if (!"Spawns".equals(group.getAttribute("name", null))) {
+                continue;
+            }
+
+            for (Element object : group.getChildrenByName("object")) {
+                int kind = indexOf(MapSource.ZONE_NAMES, object.getAttribute("type", ""));
+
+                if (kind < 0) {
+                    continue;
+                }
+
+                // Objects are in pixels, from the top of the map down
+                float x = object.getFloatAttribute("x") / tileWidth;
+                float w = object.getFloatAttribute("width", 0f) / tileWidth;
+                float h = object.getFloatAttribute("height", 0f) / tileHeight;
+                float y = height - object.getFloatAttribute("y") / tileHeight - h;
+
+                zones.get(kind).add(new Rectangle(x, y, w, h));
+            }
+        }
+    }
+
+    /**
+     * Reads the routes drawn as polylines. Each point designates the cell it falls in.
+     */
+    private void readRoutes(Element group) {
+        for (Element object : group.getChildrenByName("object")) {
+            Element polyline = object.getChildByName("polyline");
+
+            if (polyline == null) {
+                continue;
+            }
+
+            float originX = object.getFloatAttribute("x");
+            float originY = object.getFloatAttribute("y");
+
+            String[] points = polyline.getAttribute("points").trim().split("\\s+");
+            int[] route = new int[points.length * 2];
+
+            for (int i = 0; i < points.length; i++) {
+                String[] point = points[i].split(",");
+
+                route[i * 2] = (int) Math.floor((originX + Float.parseFloat(point[0])) / tileWidth);
+                route[i * 2 + 1] = height - 1 - (int) Math.floor((originY + Float.parseFloat(point[1])) / tileHeight);
+            }
+
+            routes.add(route);
+        }
+    }
+
+    /**
+     * Decodes the global tile ids of a layer, flipping its rows.
+     */
+    private int[] readLayer(Element data) {
+        int[] gids = new int[width * height];
+
+        String encoding = data.getAttribute("encoding", null);
+
+        if ("csv".equals(encoding)) {
+            String[] values = data.getText().trim().split("\\s*,\\s*");
+
+            for (int i = 0; i < width * height; i++) {
+                gids[index(i)] = (int) Long.parseLong(values[i]);
+            }
+        } else if ("base64".equals(encoding)) {
+            ByteBuffer bytes = ByteBuffer.wrap(decompress(Base64Coder.decode(data.getText().trim()),
+                    data.getAttribute("compression", null))).order(ByteOrder.LITTLE_ENDIAN);
+
+            for (int i = 0; i < width * height; i++) {
+                gids[index(i)] = bytes.getInt();
+            }
+        } else {
+            throw new IllegalArgumentException("Unsupported layer encoding: " + encoding);
+        }
+
+        return gids;
+    }
+
+    /**
+     * Returns the index, bottom row first, of the cell at the given index in TMX order (top row first).
+     */
+    private int index(int i) {
+        return (height - 1 - i / width) * width + i % width;
+    }
+
+    private static byte[] decompress(byte[] bytes, String compression) {
+        try {
+            if (compression == null) {
+                return bytes;
+            } else if ("zlib".equals(compression)) {
+                Inflater inflater = new Inflater();
+                inflater.setInput(bytes);
+
+                ByteArrayOutputStream output = new ByteArrayOutputStream();
+                byte[] buffer = new byte[4096];
+
+                while (!inflater.finished()) {
+                    int count = inflater.inflate(buffer);
+
+                    if (count == 0 && inflater.needsInput()) {
+                        throw new IllegalArgumentException("Truncated layer data.");
+                    }
+
+                    output.write(buffer, 0, count);
+                }
+
+                inflater.end();
+
+                return output.toByteArray();
+            } else if ("gzip".equals(compression)) {
+                InputStream input = new GZIPInputStream(new ByteArrayInputStream(bytes));
+                ByteArrayOutputStream output = new ByteArrayOutputStream();
+                byte[] buffer = new byte[4096];
+                int count;
+
+                while ((count = input.read(buffer)) > 0) {
+                    output.write(buffer, 0, count);
+                }
+
+                input.close();
+
+                return output.toByteArray();
+            } else {
+                throw new IllegalArgumentException("Unsupported layer compression: " + compression);
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Corrupted layer data.", e);
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Corrupted layer data.", e);
+        }
+    }
+
+    private static int indexOf(String[] values, String value) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i].equals(value)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the global tile ids of the layer with the given name, or null if there is none.
+     *
+     * @param name : the name of the layer
+     * @return the global tile ids, bottom row first
+     */
+    public int[] getLayer(String name) {
+        int index = layerNames.indexOf(name, false);
+
+        return index < 0 ? null : layers.get(index);
+    }
+
+    /**
+     * Returns whether the given cell is a wall. Cells outside the map are considered walls.
+     *
+     * @param x : the X position of the cell
+     * @param y : the Y position of the cell
+     * @return TRUE if the cell is a wall, FALSE otherwise
+     */
+    public boolean isWall(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return true;
+        }
+
+        int[] walls = getLayer("Walls");
+
+        return walls != null && walls[y * width + x] != 0;
+    }
+
+    /**
+     * Getters and Setters
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getTileWidth() {
+        return tileWidth;
+    }
+
+    public int getTileHeight() {
+        return tileHeight;
+    }
+
+    public String getAtlas() {
+        return atlas;
+    }
+
+    public Array<String> getTilesetNames() {
+        return tilesetNames;
+    }
+
+    public Array<Integer> getTilesetFirstGids() {
+        return tilesetFirstGids;
+    }
+
+    public Array<String> getLayerNames() {
+        return layerNames;
+    }
+
+    public Array<int[]> getLayers() {
+        return layers;
+    }
+
+    public Array<Rectangle> getZones(int kind) {
+        return zones.get(kind);
+    }
+
+    /**
+     * Returns the routes, as the X and Y positions of their waypoints' cells.
+     */
+    public Array<int[]> getRoutes() {
+        return routes;
+    }
+
+}